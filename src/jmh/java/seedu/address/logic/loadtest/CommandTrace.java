@@ -0,0 +1,132 @@
+package seedu.address.logic.loadtest;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A recorded session of command lines, each with the time it was entered.
+ * <p>
+ * Every line of a trace file is {@code MILLIS COMMAND_LINE}, where {@code MILLIS} is the time since the start of the
+ * session. Blank lines and lines starting with {@code #} are skipped. Since a trace is replayed against generated
+ * rosters, command lines refer to students and groups through placeholders:
+ * </p>
+ * <ul>
+ *     <li>{@code {student}} is the NUSNET ID of a random student in the roster,</li>
+ *     <li>{@code {new_student}} is a NUSNET ID that no student has yet, and</li>
+ *     <li>{@code {group}} is the group ID of a random student in the roster.</li>
+ * </ul>
+ * <p>
+ * A placeholder given a name, e.g. {@code {student:s1}}, has the same value on every line of one pass through the
+ * trace, so that later lines can refer to a student added or changed earlier.
+ * </p>
+ */
+public class CommandTrace {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{(student|new_student|group)(?::(\\w+))?}");
+
+    private final List<Long> offsetsMillis = new ArrayList<>();
+    private final List<String> commandTemplates = new ArrayList<>();
+
+    /**
+     * Supplies the values of placeholders.
+     */
+    public interface PlaceholderValues {
+        String getStudent();
+
+        String getNewStudent();
+
+        String getGroup();
+    }
+
+    /**
+     * Reads a trace from {@code reader}.
+     *
+     * @throws IOException if the trace cannot be read or a line does not start with a time.
+     */
+    public static CommandTrace read(BufferedReader reader) throws IOException {
+        CommandTrace trace = new CommandTrace();
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            String trimmedLine = line.trim();
+            if (trimmedLine.isEmpty() || trimmedLine.startsWith("#")) {
+                continue;
+            }
+            String[] timeAndCommand = trimmedLine.split("\\s+", 2);
+            try {
+                long offsetMillis = Long.parseLong(timeAndCommand[0]);
+                if (timeAndCommand.length < 2 || offsetMillis < trace.getDurationMillis()) {
+                    throw new NumberFormatException();
+                }
+                trace.offsetsMillis.add(offsetMillis);
+                trace.commandTemplates.add(timeAndCommand[1]);
+            } catch (NumberFormatException e) {
+                throw new IOException("Line " + lineNumber + " is not a command line after a non-decreasing time: "
+                        + line);
+            }
+        }
+        return trace;
+    }
+
+    public int size() {
+        return commandTemplates.size();
+    }
+
+    /**
+     * Returns the time the {@code index}-th command line was entered, in milliseconds since the start of the trace.
+     */
+    public long getOffsetMillis(int index) {
+        return offsetsMillis.get(index);
+    }
+
+    /**
+     * Returns the time the last command line was entered, or 0 if the trace is empty.
+     */
+    public long getDurationMillis() {
+        return offsetsMillis.isEmpty() ? 0 : offsetsMillis.get(offsetsMillis.size() - 1);
+    }
+
+    /**
+     * Returns the command lines of one pass through the trace, with every placeholder filled in from {@code values}.
+     */
+    public List<String> instantiate(PlaceholderValues values) {
+        requireNonNull(values);
+        Map<String, String> namedValues = new HashMap<>();
+        List<String> commandLines = new ArrayList<>(commandTemplates.size());
+        for (String template : commandTemplates) {
+            Matcher matcher = PLACEHOLDER.matcher(template);
+            StringBuilder commandLine = new StringBuilder();
+            while (matcher.find()) {
+                String kind = matcher.group(1);
+                String name = matcher.group(2);
+                String value = name == null
+                        ? getValue(kind, values)
+                        : namedValues.computeIfAbsent(kind + ":" + name, unused -> getValue(kind, values));
+                matcher.appendReplacement(commandLine, Matcher.quoteReplacement(value));
+            }
+            matcher.appendTail(commandLine);
+            commandLines.add(commandLine.toString());
+        }
+        return commandLines;
+    }
+
+    private static String getValue(String kind, PlaceholderValues values) {
+        switch (kind) {
+        case "student":
+            return values.getStudent();
+        case "new_student":
+            return values.getNewStudent();
+        default:
+            return values.getGroup();
+        }
+    }
+}
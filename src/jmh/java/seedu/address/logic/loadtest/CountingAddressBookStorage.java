@@ -0,0 +1,30 @@
+package seedu.address.logic.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * A {@code JsonAddressBookStorage} that counts the bytes of every data file it saves.
+ */
+class CountingAddressBookStorage extends JsonAddressBookStorage {
+
+    private long savedBytes;
+
+    CountingAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        super.saveAddressBook(addressBook, filePath);
+        savedBytes += Files.size(filePath);
+    }
+
+    long getSavedBytes() {
+        return savedBytes;
+    }
+}
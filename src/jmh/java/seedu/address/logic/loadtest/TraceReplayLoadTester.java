@@ -0,0 +1,280 @@
+package seedu.address.logic.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.performance.CommandLatencyRecorder;
+import seedu.address.logic.performance.LatencyHistogram;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+/**
+ * Replays a {@link CommandTrace} through {@link LogicManager#execute(String)} against generated rosters, without the
+ * GUI, and reports throughput, latency and how fast data is saved.
+ * <p>
+ * Each roster size given is a separate run on a fresh roster, so giving several sizes sweeps the trace across them.
+ * By default commands are replayed back to back. With a speed, they are replayed at the times in the trace divided by
+ * the speed, and latency is measured from the time a command was due rather than when it started, so that a slow
+ * command also counts against the commands queued behind it.
+ * </p>
+ * <p>
+ * Options: {@code --students N[,N...]} (default 1000), {@code --trace FILE} (default the bundled tutorial session),
+ * {@code --seed S} (default 0), {@code --passes P} through the trace (default 10), {@code --speed X} (default 0, back
+ * to back) and {@code --results FILE} to also write the results as JSON.
+ * </p>
+ * <p>
+ * Commands rejected with a {@code CommandException} or {@code ParseException} count as failed. Any other exception is
+ * a bug; it is counted as an error and the replay goes on, as the GUI would.
+ * </p>
+ */
+public class TraceReplayLoadTester {
+
+    private static final String DEFAULT_TRACE = "/traces/tutorial-session.trace";
+    private static final String HEADER_FORMAT = "%9s %9s %7s %7s %10s %9s %9s %9s %9s %11s%n";
+    private static final String ROW_FORMAT = "%9d %9d %7d %7d %10.1f %9.3f %9.3f %9.3f %9.3f %11.1f%n";
+
+    private final CommandTrace trace;
+    private final long seed;
+    private final int passes;
+    private final double speed;
+
+    /**
+     * Creates a load tester that replays {@code trace} {@code passes} times at {@code speed}, or back to back if
+     * {@code speed} is 0, against rosters generated from {@code seed}.
+     */
+    public TraceReplayLoadTester(CommandTrace trace, long seed, int passes, double speed) {
+        this.trace = trace;
+        this.seed = seed;
+        this.passes = passes;
+        this.speed = speed;
+    }
+
+    /**
+     * Runs the load test with the options described in the class comment.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseOptions(args);
+        Config config = new Config();
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        CommandTrace trace = readTrace(options.get("trace"));
+        TraceReplayLoadTester loadTester = new TraceReplayLoadTester(trace,
+                Long.parseLong(options.getOrDefault("seed", "0")),
+                Integer.parseInt(options.getOrDefault("passes", "10")),
+                Double.parseDouble(options.getOrDefault("speed", "0")));
+
+        List<Result> results = new ArrayList<>();
+        System.out.printf(HEADER_FORMAT, "students", "commands", "failed", "errors", "cmd/s", "p50 ms", "p90 ms",
+                "p99 ms", "max ms", "save KB/s");
+        for (String students : options.getOrDefault("students", "1000").split(",")) {
+            Result result = loadTester.run(Integer.parseInt(students.trim()));
+            results.add(result);
+            System.out.printf(ROW_FORMAT, result.students, result.commands, result.failedCommands, result.errors,
+                    result.commandsPerSecond, result.p50Millis, result.p90Millis, result.p99Millis, result.maxMillis,
+                    result.savedBytesPerSecond / 1024);
+            for (String phaseSummary : result.phaseSummary) {
+                System.out.println("    " + phaseSummary);
+            }
+        }
+
+        if (options.containsKey("results")) {
+            Path resultsFile = Paths.get(options.get("results"));
+            FileUtil.createIfMissing(resultsFile);
+            JsonUtil.saveJsonFile(results, resultsFile);
+            System.out.println("Results written to " + resultsFile.toAbsolutePath());
+        }
+    }
+
+    /**
+     * Replays the trace against a fresh roster of {@code students} students and returns what was measured.
+     */
+    public Result run(int students) throws IOException {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(seed);
+        AddressBook addressBook = generator.generateAddressBook(students);
+        List<List<String>> commandLinesByPass = instantiateTrace(addressBook.getPersonList());
+
+        Path dataDirectory = Files.createTempDirectory("loadtest");
+        CountingAddressBookStorage addressBookStorage =
+                new CountingAddressBookStorage(dataDirectory.resolve("addressbook.json"));
+        CommandLatencyRecorder latencyRecorder = new CommandLatencyRecorder();
+        Logic logic = new LogicManager(new ModelManager(addressBook, new UserPrefs()),
+                new StorageManager(addressBookStorage, new JsonUserPrefsStorage(dataDirectory.resolve("prefs.json"))),
+                latencyRecorder);
+
+        // One untimed pass first, so that the measured passes do not include class loading and JIT compilation
+        replay(logic, commandLinesByPass.get(0), -1, 0, new LatencyHistogram(), new int[2]);
+        latencyRecorder.reset();
+        long savedBytesBefore = addressBookStorage.getSavedBytes();
+
+        LatencyHistogram latencies = new LatencyHistogram();
+        int[] failuresAndErrors = new int[2];
+        long start = System.nanoTime();
+        for (int pass = 0; pass < passes; pass++) {
+            replay(logic, commandLinesByPass.get(pass + 1), pass, start, latencies, failuresAndErrors);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        Files.deleteIfExists(dataDirectory.resolve("addressbook.json"));
+        Files.deleteIfExists(dataDirectory);
+        return new Result(students, latencies, failuresAndErrors[0], failuresAndErrors[1], seconds,
+                addressBookStorage.getSavedBytes() - savedBytesBefore, latencyRecorder.getSummary());
+    }
+
+    /**
+     * Executes the command lines of one pass, recording their latencies and counting failed commands into
+     * {@code failuresAndErrors[0]} and unexpected errors into {@code failuresAndErrors[1]}. Commands are paced
+     * relative to {@code start} unless the speed is 0 or {@code pass} is negative.
+     */
+    private void replay(Logic logic, List<String> commandLines, int pass, long start, LatencyHistogram latencies,
+                        int[] failuresAndErrors) {
+        for (int i = 0; i < commandLines.size(); i++) {
+            long commandStart = speed > 0 && pass >= 0 ? waitUntilDue(start, pass, i) : System.nanoTime();
+            try {
+                logic.execute(commandLines.get(i));
+            } catch (CommandException | ParseException e) {
+                failuresAndErrors[0]++;
+            } catch (RuntimeException e) {
+                failuresAndErrors[1]++;
+                System.err.println("Unexpected error in \"" + commandLines.get(i) + "\": " + e);
+            }
+            latencies.record(System.nanoTime() - commandStart);
+        }
+    }
+
+    /**
+     * Fills in the placeholders of the untimed pass and every timed pass through the trace before anything is timed.
+     */
+    private List<List<String>> instantiateTrace(List<Person> roster) {
+        Random random = new Random(seed);
+        List<String> groups = roster.stream().map(person -> person.getGroupId().value).distinct().toList();
+        Set<String> takenNusnetids = new HashSet<>();
+        roster.forEach(person -> takenNusnetids.add(person.getNusnetid().value));
+
+        CommandTrace.PlaceholderValues values = new CommandTrace.PlaceholderValues() {
+            @Override
+            public String getStudent() {
+                return roster.get(random.nextInt(roster.size())).getNusnetid().value;
+            }
+
+            @Override
+            public String getNewStudent() {
+                String nusnetid;
+                do {
+                    nusnetid = String.format("E%07d", random.nextInt(SyntheticDataGenerator.MAX_STUDENTS));
+                } while (!takenNusnetids.add(nusnetid));
+                return nusnetid;
+            }
+
+            @Override
+            public String getGroup() {
+                return groups.get(random.nextInt(groups.size()));
+            }
+        };
+
+        List<List<String>> commandLinesByPass = new ArrayList<>(passes + 1);
+        for (int pass = 0; pass <= passes; pass++) {
+            commandLinesByPass.add(trace.instantiate(values));
+        }
+        return commandLinesByPass;
+    }
+
+    /**
+     * Waits until command {@code index} of pass {@code pass} is due, and returns the time it was due.
+     */
+    private long waitUntilDue(long start, int pass, int index) {
+        long offsetMillis = pass * trace.getDurationMillis() + trace.getOffsetMillis(index);
+        long due = start + (long) (offsetMillis * 1_000_000 / speed);
+        long now;
+        while ((now = System.nanoTime()) < due) {
+            LockSupport.parkNanos(due - now);
+        }
+        return due;
+    }
+
+    private static CommandTrace readTrace(String traceFile) throws IOException {
+        if (traceFile != null) {
+            try (BufferedReader reader = Files.newBufferedReader(Paths.get(traceFile))) {
+                return CommandTrace.read(reader);
+            }
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                TraceReplayLoadTester.class.getResourceAsStream(DEFAULT_TRACE), StandardCharsets.UTF_8))) {
+            return CommandTrace.read(reader);
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Expected an option but got: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    /**
+     * What one run of the load test measured.
+     */
+    public static class Result {
+        private final int students;
+        private final long commands;
+        private final int failedCommands;
+        private final int errors;
+        private final double seconds;
+        private final double commandsPerSecond;
+        private final double p50Millis;
+        private final double p90Millis;
+        private final double p99Millis;
+        private final double maxMillis;
+        private final long savedBytes;
+        private final double savedBytesPerSecond;
+        private final String[] phaseSummary;
+
+        Result(int students, LatencyHistogram latencies, int failedCommands, int errors, double seconds,
+               long savedBytes, String[] phaseSummary) {
+            this.students = students;
+            this.commands = latencies.getCount();
+            this.failedCommands = failedCommands;
+            this.errors = errors;
+            this.seconds = seconds;
+            this.commandsPerSecond = commands / seconds;
+            this.p50Millis = latencies.getMillisAtPercentile(50);
+            this.p90Millis = latencies.getMillisAtPercentile(90);
+            this.p99Millis = latencies.getMillisAtPercentile(99);
+            this.maxMillis = latencies.getMaxMillis();
+            this.savedBytes = savedBytes;
+            this.savedBytesPerSecond = savedBytes / seconds;
+            this.phaseSummary = phaseSummary;
+        }
+    }
+}
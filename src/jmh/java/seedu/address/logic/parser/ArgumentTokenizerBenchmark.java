@@ -0,0 +1,64 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NUSNETID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TELEGRAM;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares {@link ArgumentTokenizer} with {@link LegacyArgumentTokenizer} on the arguments of typical commands.
+ * {@code cached} is the path the parsers take, with one tokenizer kept per prefix set, while
+ * {@code singlePass} also builds the tokenizer for every arguments string. Run with the gc profiler
+ * ({@code -prof gc}) to also compare the allocation rate per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    private static final Prefix[] ADD_PREFIXES = {
+        PREFIX_NAME, PREFIX_NUSNETID, PREFIX_TELEGRAM, PREFIX_GROUP, PREFIX_PHONE, PREFIX_EMAIL
+    };
+    private static final ArgumentTokenizer ADD_TOKENIZER = ArgumentTokenizer.of(ADD_PREFIXES);
+
+    /** Argument strings of an add command, a short lookup and a long free-text value. */
+    @Param({
+        " n/John Doe i/E1234567 t/johndoe g/T01 p/98765432 e/johnd@example.com",
+        " i/E1234567",
+        " n/Alexander the Great of Macedonia and his many names that go on and on i/E7654321 t/alex g/T02"
+    })
+    private String argsString;
+
+    @Benchmark
+    public ArgumentMultimap cached() {
+        return ADD_TOKENIZER.extractArguments(argsString);
+    }
+
+    @Benchmark
+    public ArgumentMultimap singlePass() {
+        return ArgumentTokenizer.tokenize(argsString, ADD_PREFIXES);
+    }
+
+    @Benchmark
+    public ArgumentMultimap legacy() {
+        return LegacyArgumentTokenizer.tokenize(argsString, ADD_PREFIXES);
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.GroupId;
+
+/**
+ * Measures {@link ModelManager#markAllAttendance(GroupId, int, AttendanceStatus)} on one tutorial group. The group
+ * keeps about the same size as the roster grows, so any growth in cost comes from the roster-wide work per student.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ModelManagerBenchmark {
+
+    /**
+     * A model holding the shared roster, together with the group of its first student.
+     */
+    @State(Scope.Benchmark)
+    public static class ModelState {
+        private ModelManager model;
+        private GroupId groupId;
+        private int invocations;
+
+        /**
+         * Builds the model from the roster.
+         */
+        @Setup(Level.Trial)
+        public void setUp(RosterState roster) {
+            model = new ModelManager(roster.getAddressBook(), new UserPrefs());
+            groupId = roster.getPersons().get(0).getGroupId();
+        }
+
+        /**
+         * Returns a different status on each call, so that every invocation changes every student in the group.
+         */
+        private AttendanceStatus nextStatus() {
+            invocations++;
+            return invocations % 2 == 0 ? AttendanceStatus.PRESENT : AttendanceStatus.ABSENT;
+        }
+    }
+
+    @Benchmark
+    public ModelManager markAllAttendance(ModelState state) throws CommandException {
+        state.model.markAllAttendance(state.groupId, 2, state.nextStatus());
+        return state.model;
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * A roster of generated students shared by the benchmarks that measure how an operation scales with roster size.
+ * The roster is built once per trial, so its setup cost is not measured.
+ * <p>
+ * Adding a student checks it against every student already added, so building the largest roster takes minutes.
+ * Pick smaller rosters with {@code -p students=100,1000} when iterating on a change.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class RosterState {
+
+    /** Seed of the generator, fixed so that every run measures the same roster. */
+    public static final long SEED = 2103L;
+
+    @Param({"100", "1000", "10000", "100000"})
+    private int students;
+
+    private List<Person> persons;
+    private Person absentPerson;
+    private AddressBook addressBook;
+
+    /**
+     * Generates the roster, and one student more than the roster size to be the student who is not in it.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED);
+        addressBook = generator.generateAddressBook(students);
+        persons = addressBook.getPersonList();
+        absentPerson = generator.generatePersons(students + 1).get(students);
+    }
+
+    public int getStudents() {
+        return students;
+    }
+
+    /** Returns the students of the roster, in the order they were added. */
+    public List<Person> getPersons() {
+        return persons;
+    }
+
+    /** Returns a student who is not in the roster and shares no identifying field with any student in it. */
+    public Person getAbsentPerson() {
+        return absentPerson;
+    }
+
+    public AddressBook getAddressBook() {
+        return addressBook;
+    }
+}
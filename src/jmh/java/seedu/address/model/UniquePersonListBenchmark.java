@@ -0,0 +1,41 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Measures the duplicate checks of {@link UniquePersonList}, through {@link AddressBook}, which run on every add and
+ * edit. The last student added is looked up for a hit and a student outside the roster for a miss, so both scan the
+ * whole list.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Benchmark
+    public boolean containsPresentPerson(RosterState roster) {
+        return roster.getAddressBook().hasPerson(roster.getPersons().get(roster.getStudents() - 1));
+    }
+
+    @Benchmark
+    public boolean containsAbsentPerson(RosterState roster) {
+        return roster.getAddressBook().hasPerson(roster.getAbsentPerson());
+    }
+
+    @Benchmark
+    public boolean containsAbsentNusnetid(RosterState roster) {
+        return roster.getAddressBook().hasPerson(roster.getAbsentPerson().getNusnetid());
+    }
+}
@@ -0,0 +1,56 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.RosterState;
+
+/**
+ * Measures both halves of saving and loading the data file: converting the roster to JSON text, and parsing JSON
+ * text back into a validated {@code AddressBook}. File I/O is left out so that the results do not depend on the disk.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(1)
+public class JsonSerializableAddressBookBenchmark {
+
+    /**
+     * The JSON text of the shared roster.
+     */
+    @State(Scope.Benchmark)
+    public static class JsonState {
+        private String json;
+
+        @Setup(Level.Trial)
+        public void setUp(RosterState roster) throws IOException {
+            json = JsonUtil.toJsonString(new JsonSerializableAddressBook(roster.getAddressBook()));
+        }
+    }
+
+    @Benchmark
+    public String serialize(RosterState roster) throws IOException {
+        return JsonUtil.toJsonString(new JsonSerializableAddressBook(roster.getAddressBook()));
+    }
+
+    @Benchmark
+    public AddressBook deserialize(JsonState state) throws IOException, IllegalValueException {
+        return JsonUtil.fromJsonString(state.json, JsonSerializableAddressBook.class).toModelType();
+    }
+}
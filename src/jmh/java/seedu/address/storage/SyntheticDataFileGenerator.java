@@ -0,0 +1,36 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Writes a generated roster to a data file, for load tests and for measuring how long the app takes to start with a
+ * large roster. Run it with {@code gradlew generateData -Pstudents=100000 -Pseed=1 -Pfile=data/addressbook.json}.
+ */
+public class SyntheticDataFileGenerator {
+
+    private static final String MESSAGE_USAGE = "Usage: SyntheticDataFileGenerator FILE STUDENTS [SEED]";
+
+    /**
+     * Generates {@code args[1]} students from seed {@code args[2]}, or 0 if it is not given, into file
+     * {@code args[0]}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        Path filePath = Paths.get(args[0]);
+        int students = Integer.parseInt(args[1]);
+        long seed = args.length == 3 ? Long.parseLong(args[2]) : 0;
+
+        long start = System.nanoTime();
+        int written = JsonAddressBookStreamWriter.write(
+                new SyntheticDataGenerator(seed).personIterator(students), filePath);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        System.out.printf("Wrote %d students to %s in %d ms.%n", written, filePath.toAbsolutePath(), elapsedMillis);
+    }
+}
@@ -0,0 +1,114 @@
+package seedu.address.ui;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import seedu.address.model.RosterState;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures binding a {@link PersonCard} to a student, which a list cell does for every row scrolled into view, and
+ * reports the number of nodes in the card as the secondary result {@code nodes}. The nodes are counted after the
+ * stylesheets are applied, so the skins of the card's controls are included.
+ * {@code bindNextStudent} binds generated students in turn, so that the attendance and homework strips are redrawn,
+ * while {@code bindSameStudent} rebinds one student and measures the path where nothing is redrawn.
+ * The JavaFX toolkit is started in the benchmark, so it needs a display (or a headless glass platform).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PersonCardBenchmark {
+
+    private static final int STUDENTS = 64;
+
+    private List<Person> persons;
+    private PersonCard card;
+    private int nodeCount;
+    private int next;
+
+    /**
+     * Reports the node count of the card next to the time of each benchmark.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class CardNodes {
+        public long nodes;
+
+        @Setup(Level.Iteration)
+        public void setUp(PersonCardBenchmark benchmark) {
+            nodes = benchmark.nodeCount;
+        }
+    }
+
+    /**
+     * Starts the JavaFX toolkit and creates the card in a scene on the JavaFX thread. The scene is never shown, so
+     * the card can be bound from the benchmark thread afterwards.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws InterruptedException {
+        persons = new SyntheticDataGenerator(RosterState.SEED).generatePersons(STUDENTS);
+        CountDownLatch started = new CountDownLatch(1);
+        try {
+            Platform.startup(started::countDown);
+        } catch (IllegalStateException e) {
+            // The toolkit is already running in this fork
+            started.countDown();
+        }
+        started.await();
+
+        CountDownLatch created = new CountDownLatch(1);
+        Platform.runLater(() -> {
+            card = new PersonCard(persons.get(0), 1);
+            new Scene(card.getRoot());
+            card.getRoot().applyCss();
+            created.countDown();
+        });
+        created.await();
+        nodeCount = countNodes(card.getRoot());
+    }
+
+    @Benchmark
+    public PersonCard bindNextStudent(CardNodes cardNodes) {
+        card.bind(persons.get(next), next + 1);
+        next = (next + 1) % STUDENTS;
+        return card;
+    }
+
+    @Benchmark
+    public PersonCard bindSameStudent(CardNodes cardNodes) {
+        card.bind(persons.get(0), 1);
+        return card;
+    }
+
+    private static int countNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent) {
+            for (Node child : ((Parent) node).getChildrenUnmodifiable()) {
+                count += countNodes(child);
+            }
+        }
+        return count;
+    }
+}
@@ -3,10 +3,15 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
+import javax.management.JMException;
 
 import javafx.application.Application;
 import javafx.stage.Stage;
+import seedu.address.api.ApiServer;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -15,6 +20,7 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.performance.CommandLatencyRecorder;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -38,6 +44,9 @@ public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 2, 2, true);
 
+    /** Seconds to wait for the command in progress to finish when stopping. */
+    private static final long COMMAND_EXECUTOR_STOP_SECONDS = 5;
+
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
 
     protected Ui ui;
@@ -45,6 +54,8 @@ public class MainApp extends Application {
     protected Storage storage;
     protected Model model;
     protected Config config;
+    protected ApiServer apiServer;
+    protected ExecutorService commandExecutor;
 
     @Override
     public void init() throws Exception {
@@ -63,8 +74,24 @@ public class MainApp extends Application {
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+        commandExecutor = createCommandExecutor();
+        initJmx(config);
+        initApi(config);
+        initDataFileWatcher();
+
+        ui = new UiManager(logic, commandExecutor);
+    }
 
-        ui = new UiManager(logic);
+    /**
+     * Returns the executor of the only thread that changes the model and saves the data, so that they always have a
+     * single writer. Everything that changes them, whether typed into the GUI or not, must be run on it.
+     */
+    private static ExecutorService createCommandExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-executor");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     /**
@@ -104,6 +131,53 @@ public class MainApp extends Application {
         LogsCenter.init(config);
     }
 
+    /**
+     * Publishes the command latencies as a JMX MBean if {@code config} enables it.
+     */
+    private void initJmx(Config config) {
+        if (!config.isJmxEnabled()) {
+            return;
+        }
+        try {
+            CommandLatencyRecorder.getInstance().registerMBean();
+            logger.info("Registered JMX MBean " + CommandLatencyRecorder.MBEAN_NAME);
+        } catch (JMException e) {
+            logger.warning("Failed to register JMX MBean : " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Serves the HTTP API on localhost if {@code config} enables it. Commands from the API are run on the command
+     * executor, in turn with the commands typed into the GUI, and need the API token of {@code config}, which
+     * {@link #initConfig(Path)} generates when the API is first enabled.
+     */
+    private void initApi(Config config) {
+        if (!config.isApiEnabled()) {
+            return;
+        }
+        try {
+            apiServer = ApiServer.start(logic, commandExecutor, config.getApiPort(), config.getApiToken());
+        } catch (IOException e) {
+            logger.warning("Failed to start the HTTP API on port " + config.getApiPort() + " : "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Reloads the changes made to the data file outside the application, such as by another TA syncing the file
+     * through a shared drive, so that the next save does not overwrite them. The changes are applied on the command
+     * executor, between commands.
+     */
+    private void initDataFileWatcher() {
+        try {
+            storage.watchAddressBookFile(addressBook ->
+                    commandExecutor.execute(() -> logic.reloadAddressBook(addressBook)));
+        } catch (IOException e) {
+            logger.warning("Failed to watch data file " + storage.getAddressBookFilePath() + " for changes : "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
     /**
      * Returns a {@code Config} using the file at {@code configFilePath}. <br>
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
@@ -134,6 +208,12 @@ public class MainApp extends Application {
             initializedConfig = new Config();
         }
 
+        String apiToken = initializedConfig.getApiToken();
+        if (initializedConfig.isApiEnabled() && (apiToken == null || apiToken.isBlank())) {
+            logger.info("Generating a token for the HTTP API in config file " + configFilePathUsed);
+            initializedConfig.setApiToken(ApiServer.generateToken());
+        }
+
         //Update config file in case it was missing to begin with or there are new/unused fields
         try {
             ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
@@ -184,10 +264,24 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        storage.stopWatchingAddressBookFile();
+        commandExecutor.shutdown();
+        try {
+            if (!commandExecutor.awaitTermination(COMMAND_EXECUTOR_STOP_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("The command in progress did not finish before stopping");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        logger.info("Log records written: " + LogsCenter.getPublishedLogRecordCount()
+                + ", dropped because the log buffer was full: " + LogsCenter.getDroppedLogRecordCount());
     }
 }
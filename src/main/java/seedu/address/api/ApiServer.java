@@ -0,0 +1,551 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
+import seedu.address.model.statistics.RosterStatistics;
+
+/**
+ * Serves commands and roster data as JSON over HTTP on localhost, for scripts and dashboards on the same machine.
+ * <p>
+ * Endpoints:
+ * <ul>
+ *   <li>{@code POST /api/commands} with body {@code {"command": "..."}} runs a command as if it were typed in. The
+ *   request must be sent as {@code application/json} with the header {@code Authorization: Bearer <token>}.</li>
+ *   <li>{@code GET /api/persons} lists students, optionally only those in {@code group} or whose name contains a
+ *   word of {@code name}.</li>
+ *   <li>{@code GET /api/consultations} lists consultations by start time, optionally only those of
+ *   {@code nusnetid}.</li>
+ *   <li>{@code GET /api/stats} returns the attendance and homework statistics of every group, or of {@code group}.</li>
+ * </ul>
+ * Lists return at most {@code limit} items, starting from item {@code offset}.
+ * </p>
+ * <p>
+ * Commands are handed to a single writer, normally the thread that runs the commands typed into the GUI, so they run
+ * one at a time and never alongside a GUI command. Reads never touch the live address book: they are served from its
+ * latest committed snapshot, so any number of them can run at once without holding up commands. Command requests wait
+ * for their command on threads of their own, so slow commands cannot take up the threads that answer reads.
+ * </p>
+ * <p>
+ * Listening on localhost does not keep out web pages open in a browser on the same machine, which can send requests to
+ * it. Requests with an {@code Origin} header, which browsers add to such requests, are therefore refused, and commands
+ * also need the token of this installation and a JSON content type, which a page cannot send without the browser
+ * asking the server for permission first.
+ * </p>
+ */
+public class ApiServer {
+
+    static final int DEFAULT_LIMIT = 50;
+    static final int MAX_LIMIT = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    static final int REQUEST_THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    static final int COMMAND_REQUEST_THREADS = 2;
+    /** Number of command requests that can wait for a command request thread before requests are refused. */
+    static final int MAX_WAITING_COMMAND_REQUESTS = 16;
+    private static final long COMMAND_TIMEOUT_SECONDS = 30;
+    private static final int MAX_REQUEST_BYTES = 64 * 1024;
+    /** Seconds to wait for requests in progress to finish when stopping. */
+    private static final int STOP_DELAY_SECONDS = 1;
+    private static final int TOKEN_BYTES = 32;
+    private static final String JSON_CONTENT_TYPE = "application/json";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final Logic logic;
+    private final Executor commandExecutor;
+    private final byte[] token;
+    private final HttpServer server;
+    private final ExecutorService requestExecutor;
+    private final ExecutorService commandRequestExecutor;
+    /** Statistics of the latest snapshot they were computed for. */
+    private final AtomicReference<Statistics> statistics = new AtomicReference<>();
+
+    private ApiServer(Logic logic, Executor commandExecutor, String token, HttpServer server) {
+        this.logic = logic;
+        this.commandExecutor = commandExecutor;
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        this.server = server;
+        this.requestExecutor = Executors.newFixedThreadPool(REQUEST_THREADS, daemonThreadFactory("api-request-"));
+        this.commandRequestExecutor = new ThreadPoolExecutor(COMMAND_REQUEST_THREADS, COMMAND_REQUEST_THREADS,
+                0, TimeUnit.SECONDS, new ArrayBlockingQueue<>(MAX_WAITING_COMMAND_REQUESTS),
+                daemonThreadFactory("api-command-"));
+
+        server.createContext("/api/commands",
+                onCommandRequestThread(handler("POST", "/api/commands", this::executeCommand)));
+        server.createContext("/api/persons", handler("GET", "/api/persons", this::listPersons));
+        server.createContext("/api/consultations", handler("GET", "/api/consultations", this::listConsultations));
+        server.createContext("/api/stats", handler("GET", "/api/stats", this::getStatistics));
+        server.createContext("/", handler("GET", "", exchange -> {
+            throw new ApiException(404, "Unknown endpoint: " + exchange.getRequestURI().getPath());
+        }));
+        server.setExecutor(requestExecutor);
+    }
+
+    /**
+     * Starts serving {@code logic} on {@code port} of the loopback address, or on any free port if {@code port} is 0.
+     * Commands are run on {@code commandExecutor}, which must run them one at a time on the thread that runs all other
+     * commands of {@code logic}, and are only accepted with {@code token}.
+     *
+     * @throws IOException if the port cannot be bound.
+     */
+    public static ApiServer start(Logic logic, Executor commandExecutor, int port, String token) throws IOException {
+        requireNonNull(logic);
+        requireNonNull(commandExecutor);
+        requireNonNull(token);
+        if (token.isBlank()) {
+            throw new IllegalArgumentException("The API token must not be blank.");
+        }
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        ApiServer apiServer = new ApiServer(logic, commandExecutor, token, server);
+        server.start();
+        logger.info("Serving the HTTP API on " + server.getAddress());
+        return apiServer;
+    }
+
+    /**
+     * Returns a new random token for {@link #start}, to be kept in the config of this installation.
+     */
+    public static String generateToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops accepting requests, and stops the server once the requests in progress finish.
+     */
+    public void stop() {
+        server.stop(STOP_DELAY_SECONDS);
+        requestExecutor.shutdownNow();
+        commandRequestExecutor.shutdownNow();
+    }
+
+    //=========== Endpoints ==================================================================================
+
+    private Object executeCommand(HttpExchange exchange) throws ApiException, IOException {
+        checkToken(exchange);
+        checkJsonContentType(exchange);
+        CommandRequest request = readJson(exchange, CommandRequest.class);
+        if (request.command == null || request.command.isBlank()) {
+            throw new ApiException(400, "Missing field: command");
+        }
+
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        commandExecutor.execute(() -> {
+            try {
+                result.complete(logic.execute(request.command));
+            } catch (CommandException | ParseException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        try {
+            return new CommandResponse(result.get(COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS).getFeedbackToUser());
+        } catch (TimeoutException e) {
+            throw new ApiException(503, "The command did not finish in time, but may still run.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(503, "The server is stopping.");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException || cause instanceof ParseException) {
+                throw new ApiException(400, cause.getMessage());
+            }
+            logger.warning("Command from the HTTP API failed: " + StringUtil.getDetails(cause));
+            throw new ApiException(500, "The command failed unexpectedly.");
+        }
+    }
+
+    private Object listPersons(HttpExchange exchange) throws ApiException {
+        Map<String, String> parameters = parseQuery(exchange.getRequestURI());
+        Predicate<Person> filter = person -> true;
+        if (parameters.containsKey("group")) {
+            GroupId groupId = parseGroupId(parameters.get("group"));
+            filter = filter.and(person -> person.getGroupId().equals(groupId));
+        }
+        if (parameters.containsKey("name")) {
+            String[] keywords = parameters.get("name").trim().split("\\s+");
+            filter = filter.and(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+        }
+
+        AddressBookSnapshot snapshot = logic.getAddressBookSnapshot();
+        List<Person> matches = snapshot.getUniquePersonList().stream().filter(filter).collect(Collectors.toList());
+        return Page.of(snapshot, matches, parameters, JsonApiPerson::new);
+    }
+
+    private Object listConsultations(HttpExchange exchange) throws ApiException {
+        Map<String, String> parameters = parseQuery(exchange.getRequestURI());
+        Predicate<Consultation> filter = consultation -> true;
+        if (parameters.containsKey("nusnetid")) {
+            String nusnetid = parameters.get("nusnetid");
+            if (!Nusnetid.isValidNusnetid(nusnetid)) {
+                throw new ApiException(400, Nusnetid.MESSAGE_CONSTRAINTS);
+            }
+            Nusnetid target = new Nusnetid(nusnetid);
+            filter = consultation -> consultation.getNusnetid().equals(target);
+        }
+
+        AddressBookSnapshot snapshot = logic.getAddressBookSnapshot();
+        List<Consultation> matches = snapshot.getConsultationList().stream()
+                .filter(filter)
+                .sorted(Comparator.comparing(Consultation::getFrom))
+                .collect(Collectors.toList());
+        return Page.of(snapshot, matches, parameters, JsonApiConsultation::new);
+    }
+
+    private Object getStatistics(HttpExchange exchange) throws ApiException {
+        Map<String, String> parameters = parseQuery(exchange.getRequestURI());
+        AddressBookSnapshot snapshot = logic.getAddressBookSnapshot();
+        Statistics current = statistics.get();
+        if (current == null || current.version != snapshot.getVersion()) {
+            Statistics computed = new Statistics(snapshot);
+            // another request may have computed the statistics of a newer snapshot in the meantime
+            current = statistics.updateAndGet(latest ->
+                    latest == null || latest.version < computed.version ? computed : latest);
+        }
+
+        if (!parameters.containsKey("group")) {
+            return current;
+        }
+        String groupId = parseGroupId(parameters.get("group")).value;
+        return current.filter(group -> group.getGroupId().equals(groupId));
+    }
+
+    //=========== Request handling ===========================================================================
+
+    /**
+     * Returns a handler that hands requests on to {@code handler} on a command request thread, or refuses them if too
+     * many command requests are waiting already.
+     */
+    private HttpHandler onCommandRequestThread(HttpHandler handler) {
+        return exchange -> {
+            try {
+                commandRequestExecutor.execute(() -> {
+                    try {
+                        handler.handle(exchange);
+                    } catch (IOException e) {
+                        logger.fine("Failed to answer a command request: " + StringUtil.getDetails(e));
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                try (exchange) {
+                    sendJson(exchange, 503, new ErrorResponse("Too many commands are waiting to run."));
+                }
+            }
+        };
+    }
+
+    private static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicInteger threadCount = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private void checkToken(HttpExchange exchange) throws ApiException {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        boolean isAuthorized = authorization != null && authorization.startsWith(BEARER_PREFIX)
+                && MessageDigest.isEqual(token,
+                        authorization.substring(BEARER_PREFIX.length()).getBytes(StandardCharsets.UTF_8));
+        if (!isAuthorized) {
+            exchange.getResponseHeaders().set("WWW-Authenticate", "Bearer");
+            throw new ApiException(401, "Commands need the header Authorization: Bearer <apiToken in config.json>");
+        }
+    }
+
+    private static void checkJsonContentType(HttpExchange exchange) throws ApiException {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        String mediaType = contentType == null ? "" : contentType.split(";", 2)[0].trim();
+        if (!mediaType.equalsIgnoreCase(JSON_CONTENT_TYPE)) {
+            throw new ApiException(415, "Commands must be sent as " + JSON_CONTENT_TYPE + ".");
+        }
+    }
+
+    /**
+     * Returns a handler that answers {@code method} requests for exactly {@code path} with the JSON of the object
+     * returned by {@code endpoint}.
+     */
+    private static HttpHandler handler(String method, String path, Endpoint endpoint) {
+        return exchange -> {
+            try (exchange) {
+                Object response;
+                int status = 200;
+                try {
+                    if (exchange.getRequestHeaders().containsKey("Origin")) {
+                        throw new ApiException(403, "Requests from web pages are not accepted.");
+                    }
+                    if (!exchange.getRequestURI().getPath().equals(path)) {
+                        throw new ApiException(404, "Unknown endpoint: " + exchange.getRequestURI().getPath());
+                    }
+                    if (!exchange.getRequestMethod().equals(method)) {
+                        exchange.getResponseHeaders().set("Allow", method);
+                        throw new ApiException(405, "Use " + method + " for " + path);
+                    }
+                    response = endpoint.handle(exchange);
+                } catch (ApiException e) {
+                    status = e.status;
+                    response = new ErrorResponse(e.getMessage());
+                } catch (RuntimeException e) {
+                    logger.warning("HTTP API request failed: " + StringUtil.getDetails(e));
+                    status = 500;
+                    response = new ErrorResponse("The request failed unexpectedly.");
+                }
+                sendJson(exchange, status, response);
+            }
+        };
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, Object response) throws IOException {
+        byte[] body = JsonUtil.toJsonString(response).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static <T> T readJson(HttpExchange exchange, Class<T> type) throws ApiException, IOException {
+        byte[] body;
+        try (InputStream in = exchange.getRequestBody()) {
+            body = in.readNBytes(MAX_REQUEST_BYTES + 1);
+        }
+        if (body.length > MAX_REQUEST_BYTES) {
+            throw new ApiException(413, "The request body is larger than " + MAX_REQUEST_BYTES + " bytes.");
+        }
+        try {
+            return JsonUtil.fromJsonString(new String(body, StandardCharsets.UTF_8), type);
+        } catch (IOException e) {
+            throw new ApiException(400, "The request body is not valid JSON.");
+        }
+    }
+
+    /**
+     * Returns the parameters of the query of {@code uri}, decoded.
+     */
+    static Map<String, String> parseQuery(URI uri) throws ApiException {
+        Map<String, String> parameters = new HashMap<>();
+        String query = uri.getRawQuery();
+        if (query == null) {
+            return parameters;
+        }
+        try {
+            for (String parameter : query.split("&")) {
+                if (parameter.isEmpty()) {
+                    continue;
+                }
+                int separator = parameter.indexOf('=');
+                String name = separator < 0 ? parameter : parameter.substring(0, separator);
+                String value = separator < 0 ? "" : parameter.substring(separator + 1);
+                parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8),
+                        URLDecoder.decode(value, StandardCharsets.UTF_8));
+            }
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(400, "The query is not correctly encoded.");
+        }
+        return parameters;
+    }
+
+    private static GroupId parseGroupId(String groupId) throws ApiException {
+        if (!GroupId.isValidGroupId(groupId)) {
+            throw new ApiException(400, GroupId.MESSAGE_CONSTRAINTS);
+        }
+        return new GroupId(groupId);
+    }
+
+    /**
+     * Returns the integer parameter {@code name}, or {@code defaultValue} if it is absent.
+     *
+     * @throws ApiException if the parameter is not an integer from {@code min} to {@code max}.
+     */
+    private static int parseInt(Map<String, String> parameters, String name, int defaultValue, int min, int max)
+            throws ApiException {
+        String value = parameters.get(name);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed >= min && parsed <= max) {
+                return parsed;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new ApiException(400, String.format("%s must be an integer from %d to %d.", name, min, max));
+    }
+
+    /**
+     * Handles a request to one endpoint, returning the object to send back as JSON.
+     */
+    @FunctionalInterface
+    private interface Endpoint {
+        Object handle(HttpExchange exchange) throws ApiException, IOException;
+    }
+
+    /**
+     * Signals that a request cannot be answered, with the HTTP status to answer it with instead.
+     */
+    static class ApiException extends Exception {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+
+    //=========== Request and response bodies ================================================================
+
+    /**
+     * Body of a request to run a command.
+     */
+    private static class CommandRequest {
+        private final String command;
+
+        @JsonCreator
+        private CommandRequest(@JsonProperty("command") String command) {
+            this.command = command;
+        }
+    }
+
+    /**
+     * Body of the response to a command that succeeded.
+     */
+    private static class CommandResponse {
+        private final String feedback;
+
+        private CommandResponse(String feedback) {
+            this.feedback = feedback;
+        }
+    }
+
+    /**
+     * Body of the response to a request that failed.
+     */
+    private static class ErrorResponse {
+        private final String error;
+
+        private ErrorResponse(String error) {
+            this.error = error;
+        }
+    }
+
+    /**
+     * One page of a list, and the snapshot version it was read from.
+     */
+    private static class Page {
+        private final long version;
+        private final int total;
+        private final int offset;
+        private final int limit;
+        private final List<Object> items = new ArrayList<>();
+
+        private Page(long version, int total, int offset, int limit) {
+            this.version = version;
+            this.total = total;
+            this.offset = offset;
+            this.limit = limit;
+        }
+
+        /**
+         * Returns the page of {@code matches} selected by the {@code offset} and {@code limit} of {@code parameters},
+         * converted by {@code adapter}.
+         */
+        static <T> Page of(AddressBookSnapshot snapshot, List<T> matches, Map<String, String> parameters,
+                Function<T, Object> adapter) throws ApiException {
+            int offset = parseInt(parameters, "offset", 0, 0, Integer.MAX_VALUE);
+            int limit = parseInt(parameters, "limit", DEFAULT_LIMIT, 1, MAX_LIMIT);
+            Page page = new Page(snapshot.getVersion(), matches.size(), offset, limit);
+            for (int i = offset; i < matches.size() && i - offset < limit; i++) {
+                page.items.add(adapter.apply(matches.get(i)));
+            }
+            return page;
+        }
+    }
+
+    /**
+     * Statistics of every group in one snapshot.
+     */
+    private static class Statistics {
+        private final long version;
+        private final List<JsonApiGroupStatistics> groups;
+
+        private Statistics(AddressBookSnapshot snapshot) {
+            this(snapshot.getVersion(), new RosterStatistics(snapshot.getPersonList()).getAllGroupStatistics()
+                    .stream()
+                    .map(JsonApiGroupStatistics::new)
+                    .collect(Collectors.toList()));
+        }
+
+        private Statistics(long version, List<JsonApiGroupStatistics> groups) {
+            this.version = version;
+            this.groups = groups;
+        }
+
+        Statistics filter(Predicate<JsonApiGroupStatistics> predicate) {
+            return new Statistics(version, groups.stream().filter(predicate).collect(Collectors.toList()));
+        }
+    }
+}
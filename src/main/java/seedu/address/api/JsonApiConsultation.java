@@ -0,0 +1,23 @@
+package seedu.address.api;
+
+import seedu.address.model.event.Consultation;
+
+/**
+ * Jackson-friendly version of {@link Consultation}, as returned by the HTTP API.
+ * Times are in ISO-8601 format, e.g. {@code 2025-08-18T09:00}.
+ */
+class JsonApiConsultation {
+
+    private final String nusnetid;
+    private final String from;
+    private final String to;
+
+    /**
+     * Converts a given {@code Consultation} into this class for Jackson use.
+     */
+    JsonApiConsultation(Consultation source) {
+        nusnetid = source.getNusnetid().value;
+        from = source.getFrom().toString();
+        to = source.getTo().toString();
+    }
+}
@@ -0,0 +1,58 @@
+package seedu.address.api;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.statistics.GroupStatistics;
+
+/**
+ * Jackson-friendly version of {@link GroupStatistics}, as returned by the HTTP API.
+ */
+class JsonApiGroupStatistics {
+
+    private final String groupId;
+    private final int students;
+    private final int present;
+    private final int absent;
+    private final int excused;
+    /** Percentage of marked attendance records that are present. */
+    private final double attendanceRate;
+    private final List<Assignment> homework = new ArrayList<>();
+
+    /**
+     * Converts a given {@code GroupStatistics} into this class for Jackson use.
+     */
+    JsonApiGroupStatistics(GroupStatistics source) {
+        groupId = source.getGroupId().value;
+        students = source.getStudentCount();
+        present = source.getAttendanceCount(AttendanceStatus.PRESENT);
+        absent = source.getAttendanceCount(AttendanceStatus.ABSENT);
+        excused = source.getAttendanceCount(AttendanceStatus.EXCUSED);
+        attendanceRate = source.getAttendanceRate();
+        for (int id = 1; id <= HomeworkTracker.MAX_ASSIGNMENTS; id++) {
+            homework.add(new Assignment(id, source.getAssignedHomeworkCount(id), source.getCompletionRate(id)));
+        }
+    }
+
+    String getGroupId() {
+        return groupId;
+    }
+
+    /**
+     * How much of one assignment the group has done.
+     */
+    private static class Assignment {
+        private final int id;
+        private final int assigned;
+        /** Percentage of students assigned the homework who completed it, on time or late. */
+        private final double completionRate;
+
+        Assignment(int id, int assigned, double completionRate) {
+            this.id = id;
+            this.assigned = assigned;
+            this.completionRate = completionRate;
+        }
+    }
+}
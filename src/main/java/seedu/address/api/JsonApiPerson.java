@@ -0,0 +1,45 @@
+package seedu.address.api;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Attendance;
+import seedu.address.model.person.Homework;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of {@link Person}, as returned by the HTTP API.
+ */
+class JsonApiPerson {
+
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String nusnetid;
+    private final String telegram;
+    private final String groupId;
+    /** Attendance status of each marked week, by week. */
+    private final Map<Integer, String> attendance = new TreeMap<>();
+    /** Status of each assigned homework, by assignment ID. */
+    private final Map<Integer, String> homework = new TreeMap<>();
+    private final JsonApiConsultation consultation;
+
+    /**
+     * Converts a given {@code Person} into this class for Jackson use.
+     */
+    JsonApiPerson(Person source) {
+        name = source.getName().fullName;
+        phone = source.getPhone().map(value -> value.value).orElse(null);
+        email = source.getEmail().map(value -> value.value).orElse(null);
+        nusnetid = source.getNusnetid().value;
+        telegram = source.getTelegram().value;
+        groupId = source.getGroupId().value;
+        for (Attendance record : source.getAttendanceSheet().getAttendanceList()) {
+            attendance.put(record.getWeek(), record.getAttendanceStatus().getStatus());
+        }
+        for (Homework record : source.getHomeworkTracker().asMap().values()) {
+            homework.put(record.getId(), record.getStatus());
+        }
+        consultation = source.getConsultation().map(JsonApiConsultation::new).orElse(null);
+    }
+}
@@ -0,0 +1,268 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records to other handlers on a background thread, so that logging never waits on
+ * console or file I/O.
+ * <p>
+ * Records are queued in a bounded ring buffer. Any number of threads can add to it without taking a lock: each slot
+ * has a sequence number that says whether it is free for the position being written or holds the record for the
+ * position being read. A single drain thread takes records out in batches, publishes each batch to every delegate,
+ * and flushes the delegates once per batch rather than once per record.
+ * </p>
+ * <p>
+ * When the buffer is full, the {@link OverflowPolicy} decides whether the record is dropped and counted, or whether
+ * the logging thread waits for space.
+ * </p>
+ */
+public class AsyncLogHandler extends Handler {
+
+    /** Default number of records the buffer can hold. */
+    public static final int DEFAULT_CAPACITY = 8192;
+
+    /** Largest number of records published between two flushes of the delegates. */
+    private static final int MAX_BATCH_SIZE = 256;
+    /** Longest time the drain thread sleeps without being woken, as a safeguard against a missed wake-up. */
+    private static final long MAX_IDLE_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    /** Time a blocked logging thread waits before checking the buffer for space again. */
+    private static final long BLOCKED_WAIT_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    /**
+     * What to do with a record when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /** Drop the record and count it, so that logging never delays the caller. */
+        DROP,
+        /** Wait until the drain thread has made space, so that no record is lost. */
+        BLOCK
+    }
+
+    private final Handler[] delegates;
+    private final OverflowPolicy overflowPolicy;
+    private final int mask;
+    private final AtomicReferenceArray<LogRecord> slots;
+    /**
+     * Slot {@code i} is free for writing position {@code p} when its sequence is {@code p}, and holds the record of
+     * position {@code p} when its sequence is {@code p + 1}.
+     */
+    private final AtomicLongArray sequences;
+    /** Next position to be written. */
+    private final AtomicLong tail = new AtomicLong();
+    /** Next position to be read. Only written by the drain thread. */
+    private volatile long head;
+
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private final Thread drainThread;
+    private final AtomicBoolean isDrainThreadIdle = new AtomicBoolean();
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that publishes to {@code delegates} through a buffer of at least {@code capacity} records,
+     * and starts its drain thread.
+     */
+    public AsyncLogHandler(int capacity, OverflowPolicy overflowPolicy, Handler... delegates) {
+        requireNonNull(overflowPolicy);
+        requireNonNull(delegates);
+        if (!isValidCapacity(capacity)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and 2^30.");
+        }
+        int roundedCapacity = Integer.bitCount(capacity) == 1 ? capacity : Integer.highestOneBit(capacity) << 1;
+        this.delegates = delegates.clone();
+        this.overflowPolicy = overflowPolicy;
+        this.mask = roundedCapacity - 1;
+        this.slots = new AtomicReferenceArray<>(roundedCapacity);
+        this.sequences = new AtomicLongArray(roundedCapacity);
+        for (int i = 0; i < roundedCapacity; i++) {
+            sequences.set(i, i);
+        }
+        setLevel(Level.ALL);
+
+        drainThread = new Thread(this::drain, "log-writer");
+        drainThread.setDaemon(true);
+        drainThread.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (record == null || isClosed || !isLoggable(record)) {
+            return;
+        }
+        // Resolve the caller now, since it cannot be found from the drain thread
+        record.getSourceClassName();
+
+        while (!offer(record)) {
+            if (overflowPolicy == OverflowPolicy.DROP || isClosed) {
+                droppedCount.incrementAndGet();
+                return;
+            }
+            wakeDrainThread();
+            LockSupport.parkNanos(BLOCKED_WAIT_NANOS);
+        }
+        publishedCount.incrementAndGet();
+        wakeDrainThread();
+    }
+
+    /**
+     * Adds {@code record} to the buffer, or returns false if the buffer is full.
+     */
+    private boolean offer(LogRecord record) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) (position & mask);
+            long sequence = sequences.get(index);
+            if (sequence < position) {
+                return false;
+            }
+            if (sequence == position && tail.compareAndSet(position, position + 1)) {
+                slots.set(index, record);
+                sequences.set(index, position + 1);
+                return true;
+            }
+            // Another thread took this position first; try the next one
+        }
+    }
+
+    /**
+     * Removes and returns the oldest record in the buffer, or returns null if the buffer is empty.
+     * Only called by the drain thread.
+     */
+    private LogRecord poll() {
+        long position = head;
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        LogRecord record = slots.get(index);
+        slots.set(index, null);
+        sequences.set(index, position + mask + 1);
+        head = position + 1;
+        return record;
+    }
+
+    private void wakeDrainThread() {
+        if (isDrainThreadIdle.get() && isDrainThreadIdle.compareAndSet(true, false)) {
+            LockSupport.unpark(drainThread);
+        }
+    }
+
+    /**
+     * Publishes batches of records to the delegates until the handler is closed and the buffer is empty.
+     */
+    private void drain() {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (true) {
+            LogRecord record;
+            while (batch.size() < MAX_BATCH_SIZE && (record = poll()) != null) {
+                batch.add(record);
+            }
+            if (!batch.isEmpty()) {
+                publishToDelegates(batch);
+                batch.clear();
+                continue;
+            }
+            if (isClosed) {
+                return;
+            }
+            isDrainThreadIdle.set(true);
+            // Check again, in case a record was added before the flag was set
+            if (sequences.get((int) (head & mask)) != head + 1 && !isClosed) {
+                LockSupport.parkNanos(this, MAX_IDLE_NANOS);
+            }
+            isDrainThreadIdle.set(false);
+        }
+    }
+
+    private void publishToDelegates(List<LogRecord> batch) {
+        for (Handler delegate : delegates) {
+            try {
+                for (LogRecord record : batch) {
+                    delegate.publish(record);
+                }
+                delegate.flush();
+            } catch (RuntimeException e) {
+                reportError("Log handler failed", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    /**
+     * Waits until every record published before this call has been handed to the delegates, then flushes them.
+     */
+    @Override
+    public void flush() {
+        long target = tail.get();
+        while (head < target && drainThread.isAlive()) {
+            wakeDrainThread();
+            LockSupport.parkNanos(BLOCKED_WAIT_NANOS);
+        }
+        for (Handler delegate : delegates) {
+            delegate.flush();
+        }
+    }
+
+    /**
+     * Stops the drain thread once every queued record has been published, without closing the delegates.
+     */
+    void stop() {
+        isClosed = true;
+        LockSupport.unpark(drainThread);
+        try {
+            drainThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Publishes every queued record, then closes the delegates.
+     */
+    @Override
+    public void close() {
+        stop();
+        for (Handler delegate : delegates) {
+            delegate.close();
+        }
+    }
+
+    public OverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    /**
+     * Returns true if a buffer of at least {@code capacity} records can be made.
+     */
+    public static boolean isValidCapacity(int capacity) {
+        return capacity >= 1 && capacity <= 1 << 30;
+    }
+
+    /** Returns the number of records the buffer can hold. */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /** Returns the number of records accepted into the buffer so far. */
+    public long getPublishedCount() {
+        return publishedCount.get();
+    }
+
+    /** Returns the number of records dropped so far because the buffer was full. */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+}
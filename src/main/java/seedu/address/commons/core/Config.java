@@ -13,10 +13,17 @@ import seedu.address.commons.util.ToStringBuilder;
 public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
+    public static final int DEFAULT_API_PORT = 8765;
 
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean jmxEnabled = false;
+    private int logBufferCapacity = AsyncLogHandler.DEFAULT_CAPACITY;
+    private AsyncLogHandler.OverflowPolicy logOverflowPolicy = AsyncLogHandler.OverflowPolicy.DROP;
+    private boolean apiEnabled = false;
+    private int apiPort = DEFAULT_API_PORT;
+    private String apiToken = null;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +41,70 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if command latencies should be published as a JMX MBean.
+     */
+    public boolean isJmxEnabled() {
+        return jmxEnabled;
+    }
+
+    public void setJmxEnabled(boolean jmxEnabled) {
+        this.jmxEnabled = jmxEnabled;
+    }
+
+    /**
+     * Returns the number of log records that can wait to be written before the {@link #getLogOverflowPolicy()} applies.
+     * {@link LogsCenter} uses {@link AsyncLogHandler#DEFAULT_CAPACITY} instead if it is not between 1 and 2^30.
+     */
+    public int getLogBufferCapacity() {
+        return logBufferCapacity;
+    }
+
+    public void setLogBufferCapacity(int logBufferCapacity) {
+        this.logBufferCapacity = logBufferCapacity;
+    }
+
+    /**
+     * Returns whether log records are dropped, or logging waits, when the log buffer is full.
+     */
+    public AsyncLogHandler.OverflowPolicy getLogOverflowPolicy() {
+        return logOverflowPolicy;
+    }
+
+    public void setLogOverflowPolicy(AsyncLogHandler.OverflowPolicy logOverflowPolicy) {
+        this.logOverflowPolicy = logOverflowPolicy;
+    }
+
+    /**
+     * Returns true if the HTTP command API should be served on {@link #getApiPort()} of localhost.
+     */
+    public boolean isApiEnabled() {
+        return apiEnabled;
+    }
+
+    public void setApiEnabled(boolean apiEnabled) {
+        this.apiEnabled = apiEnabled;
+    }
+
+    public int getApiPort() {
+        return apiPort;
+    }
+
+    public void setApiPort(int apiPort) {
+        this.apiPort = apiPort;
+    }
+
+    /**
+     * Returns the token that commands sent to the HTTP API must carry, or null if none has been generated yet.
+     */
+    public String getApiToken() {
+        return apiToken;
+    }
+
+    public void setApiToken(String apiToken) {
+        this.apiToken = apiToken;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +118,19 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && jmxEnabled == otherConfig.jmxEnabled
+                && logBufferCapacity == otherConfig.logBufferCapacity
+                && logOverflowPolicy == otherConfig.logOverflowPolicy
+                && apiEnabled == otherConfig.apiEnabled
+                && apiPort == otherConfig.apiPort
+                && Objects.equals(apiToken, otherConfig.apiToken);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, jmxEnabled, logBufferCapacity, logOverflowPolicy, apiEnabled,
+                apiPort, apiToken);
     }
 
     @Override
@@ -60,6 +138,11 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("jmxEnabled", jmxEnabled)
+                .add("logBufferCapacity", logBufferCapacity)
+                .add("logOverflowPolicy", logOverflowPolicy)
+                .add("apiEnabled", apiEnabled)
+                .add("apiPort", apiPort)
                 .toString();
     }
 
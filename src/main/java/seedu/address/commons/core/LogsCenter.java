@@ -6,7 +6,9 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -16,6 +18,8 @@ import java.util.logging.SimpleFormatter;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Log records are written by an {@link AsyncLogHandler} on a background thread, so logging does not wait on I/O. The
+ *   size of its buffer and whether records are dropped or the caller waits when it is full are set in {@link Config}.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
@@ -24,6 +28,8 @@ public class LogsCenter {
     private static final Logger logger; // logger for this class
     private static Logger baseLogger; // to be used as the parent of all other loggers created by this class.
     private static Level currentLogLevel = Level.INFO;
+    private static Handler[] outputHandlers; // handlers that write log records to the console and file
+    private static AsyncLogHandler asyncHandler; // hands log records to the outputHandlers on a background thread
 
     // This static block ensures essential loggers are created early
     static {
@@ -40,6 +46,49 @@ public class LogsCenter {
         logger.info("Log level will be set as: " + currentLogLevel);
         // set the level of the baseLogger which will be inherited by other loggers
         baseLogger.setLevel(currentLogLevel);
+
+        int capacity = config.getLogBufferCapacity();
+        if (!AsyncLogHandler.isValidCapacity(capacity)) {
+            logger.warning("Invalid log buffer capacity " + capacity + " in the config file, using "
+                    + AsyncLogHandler.DEFAULT_CAPACITY + " instead.");
+            capacity = AsyncLogHandler.DEFAULT_CAPACITY;
+        }
+        AsyncLogHandler.OverflowPolicy overflowPolicy = config.getLogOverflowPolicy();
+        if (overflowPolicy == null) {
+            logger.warning("Missing log overflow policy in the config file, using "
+                    + AsyncLogHandler.OverflowPolicy.DROP + " instead.");
+            overflowPolicy = AsyncLogHandler.OverflowPolicy.DROP;
+        }
+
+        if (capacity != asyncHandler.getCapacity() || overflowPolicy != asyncHandler.getOverflowPolicy()) {
+            AsyncLogHandler oldHandler = asyncHandler;
+            asyncHandler = new AsyncLogHandler(capacity, overflowPolicy, outputHandlers);
+            baseLogger.addHandler(asyncHandler);
+            baseLogger.removeHandler(oldHandler);
+            // the output handlers are shared with the new handler, so they are left open
+            oldHandler.stop();
+        }
+    }
+
+    /**
+     * Returns the number of log records the log buffer can hold.
+     */
+    static int getLogBufferCapacity() {
+        return asyncHandler.getCapacity();
+    }
+
+    /**
+     * Returns the number of log records dropped so far because the log buffer was full.
+     */
+    public static long getDroppedLogRecordCount() {
+        return asyncHandler.getDroppedCount();
+    }
+
+    /**
+     * Returns the number of log records queued for writing so far.
+     */
+    public static long getPublishedLogRecordCount() {
+        return asyncHandler.getPublishedCount();
     }
 
     /**
@@ -75,8 +124,8 @@ public class LogsCenter {
     }
 
     /**
-     * Creates a logger named 'ab3', containing a {@code ConsoleHandler} and a {@code FileHandler}.
-     * Sets it as the {@code baseLogger}, to be used as the parent logger of all other loggers.
+     * Creates a logger named 'ab3', containing an {@code AsyncLogHandler} that writes to a {@code ConsoleHandler} and
+     * a {@code FileHandler}. Sets it as the {@code baseLogger}, to be used as the parent logger of all other loggers.
      */
     private static void setBaseLogger() {
         baseLogger = Logger.getLogger("ab3");
@@ -89,18 +138,50 @@ public class LogsCenter {
         // add a ConsoleHandler to log to the console
         ConsoleHandler consoleHandler = new ConsoleHandler();
         consoleHandler.setLevel(Level.ALL);
-        baseLogger.addHandler(consoleHandler);
 
         // add a FileHandler to log to a file
         try {
-            FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
+            FileHandler fileHandler = new BatchingFileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT);
             fileHandler.setFormatter(new SimpleFormatter());
             fileHandler.setLevel(Level.ALL);
-            baseLogger.addHandler(fileHandler);
+            outputHandlers = new Handler[] {consoleHandler, fileHandler};
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            outputHandlers = new Handler[] {consoleHandler};
+            consoleHandler.publish(new LogRecord(Level.WARNING, "Error adding file handler for logger."));
         }
+
+        asyncHandler = new AsyncLogHandler(AsyncLogHandler.DEFAULT_CAPACITY, AsyncLogHandler.OverflowPolicy.DROP,
+                outputHandlers);
+        baseLogger.addHandler(asyncHandler);
     }
 
+    /**
+     * A {@code FileHandler} that only writes to the file when it is flushed, rather than after every record, so that
+     * the {@code AsyncLogHandler} can write a whole batch of records at once.
+     */
+    private static class BatchingFileHandler extends FileHandler {
+        private boolean isPublishing;
 
+        BatchingFileHandler(String pattern, int limit, int count) throws IOException {
+            super(pattern, limit, count, true);
+        }
+
+        @Override
+        public synchronized void publish(LogRecord record) {
+            // FileHandler flushes after every record it publishes; skip that flush
+            isPublishing = true;
+            try {
+                super.publish(record);
+            } finally {
+                isPublishing = false;
+            }
+        }
+
+        @Override
+        public synchronized void flush() {
+            if (!isPublishing) {
+                super.flush();
+            }
+        }
+    }
 }
@@ -0,0 +1,168 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+
+/**
+ * An immutable copy of a list, stored in fixed-size chunks so that consecutive copies of a list can share the chunks
+ * that did not change between them.
+ * <p>
+ * {@link #copyOf(List, ChunkedSnapshotList)} compares the list being copied with the previous copy chunk by chunk, by
+ * identity. Chunks holding the same elements as before are reused, so replacing one element of a large list only
+ * allocates one new chunk and a new array of chunk references. Once created, a copy never changes, so it can be read
+ * from any thread.
+ * </p>
+ * <p>
+ * {@link #restoreInto(List, ChunkedSnapshotList, Consumer, Consumer)} goes the other way, and changes a live list back
+ * to an earlier copy by visiting only the chunks that differ between the two copies.
+ * </p>
+ */
+public final class ChunkedSnapshotList<T> extends AbstractList<T> implements RandomAccess {
+
+    /** Number of elements in each chunk, except the last chunk, which may hold fewer. */
+    static final int CHUNK_SIZE = 64;
+
+    private static final ChunkedSnapshotList<?> EMPTY = new ChunkedSnapshotList<>(new Object[0][], 0);
+
+    private final Object[][] chunks;
+    private final int size;
+
+    private ChunkedSnapshotList(Object[][] chunks, int size) {
+        this.chunks = chunks;
+        this.size = size;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ChunkedSnapshotList<T> empty() {
+        return (ChunkedSnapshotList<T>) EMPTY;
+    }
+
+    /**
+     * Returns an immutable copy of {@code source} that shares every unchanged chunk with {@code previous}.
+     * Returns {@code previous} itself if {@code source} holds the same elements, in the same order.
+     */
+    public static <T> ChunkedSnapshotList<T> copyOf(List<? extends T> source, ChunkedSnapshotList<T> previous) {
+        requireAllNonNull(source, previous);
+        int size = source.size();
+        Object[][] chunks = new Object[(size + CHUNK_SIZE - 1) / CHUNK_SIZE][];
+        Object[] scratch = new Object[CHUNK_SIZE];
+        boolean isUnchanged = size == previous.size;
+
+        Iterator<? extends T> iterator = source.iterator();
+        for (int c = 0; c < chunks.length; c++) {
+            int length = Math.min(CHUNK_SIZE, size - c * CHUNK_SIZE);
+            for (int i = 0; i < length; i++) {
+                scratch[i] = iterator.next();
+            }
+            Object[] previousChunk = c < previous.chunks.length ? previous.chunks[c] : null;
+            if (previousChunk != null && isSameChunk(previousChunk, scratch, length)) {
+                chunks[c] = previousChunk;
+            } else {
+                chunks[c] = Arrays.copyOf(scratch, length);
+                isUnchanged = false;
+            }
+        }
+        return isUnchanged ? previous : new ChunkedSnapshotList<>(chunks, size);
+    }
+
+    /**
+     * Returns true if {@code chunk} holds exactly the first {@code length} elements of {@code elements}.
+     */
+    private static boolean isSameChunk(Object[] chunk, Object[] elements, int length) {
+        if (chunk.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (chunk[i] != elements[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Makes {@code target}, which holds the elements of {@code current}, hold the elements of this list instead.
+     * Only the elements that differ are replaced, and chunks shared by both copies are skipped without comparing
+     * their elements. {@code onRemoved} and {@code onAdded} are called with every element taken out of and put into
+     * {@code target}, just before {@code target} changes, so that anything kept alongside {@code target} is up to date
+     * by the time the listeners of {@code target} are told of the change.
+     * <p>
+     * When both copies have the same size, this costs time proportional to the number of chunks that differ. Otherwise,
+     * every element from the first difference onwards is replaced.
+     * </p>
+     */
+    public void restoreInto(List<T> target, ChunkedSnapshotList<T> current, Consumer<? super T> onRemoved,
+            Consumer<? super T> onAdded) {
+        requireAllNonNull(target, current, onRemoved, onAdded);
+        assert target.size() == current.size : "The target list must hold the elements of the current copy.";
+
+        if (size == current.size) {
+            for (int c = 0; c < chunks.length; c++) {
+                if (chunks[c] == current.chunks[c]) {
+                    continue;
+                }
+                for (int i = 0; i < chunks[c].length; i++) {
+                    if (chunks[c][i] != current.chunks[c][i]) {
+                        replace(target, c * CHUNK_SIZE + i, onRemoved, onAdded);
+                    }
+                }
+            }
+            return;
+        }
+
+        int firstDifference = 0;
+        int commonChunks = Math.min(chunks.length, current.chunks.length);
+        while (firstDifference / CHUNK_SIZE < commonChunks
+                && chunks[firstDifference / CHUNK_SIZE] == current.chunks[firstDifference / CHUNK_SIZE]) {
+            firstDifference += CHUNK_SIZE;
+        }
+        int commonSize = Math.min(size, current.size);
+        firstDifference = Math.min(firstDifference, commonSize);
+        while (firstDifference < commonSize && get(firstDifference) == current.get(firstDifference)) {
+            firstDifference++;
+        }
+        List<T> removed = target.subList(firstDifference, target.size());
+        List<T> added = subList(firstDifference, size);
+        removed.forEach(onRemoved);
+        added.forEach(onAdded);
+        removed.clear();
+        target.addAll(added);
+    }
+
+    private void replace(List<T> target, int index, Consumer<? super T> onRemoved, Consumer<? super T> onAdded) {
+        T element = get(index);
+        onRemoved.accept(target.get(index));
+        onAdded.accept(element);
+        target.set(index, element);
+    }
+
+    /**
+     * Returns true if chunk {@code chunkIndex} of this list is the same array as that of {@code other}.
+     */
+    boolean isSharingChunk(ChunkedSnapshotList<?> other, int chunkIndex) {
+        return chunkIndex < chunks.length && chunkIndex < other.chunks.length
+                && chunks[chunkIndex] == other.chunks[chunkIndex];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        Objects.checkIndex(index, size);
+        return (T) chunks[index / CHUNK_SIZE][index % CHUNK_SIZE];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+}
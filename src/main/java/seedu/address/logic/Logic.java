@@ -1,12 +1,14 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Consultation;
@@ -25,6 +27,11 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Returns the command words that start with {@code partialCommandWord}, in alphabetical order.
+     */
+    List<String> getCommandWordCompletions(String partialCommandWord);
+
     /**
      * Returns the AddressBook.
      *
@@ -32,6 +39,22 @@ public interface Logic {
      */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the latest committed snapshot of the AddressBook, which can be read from any thread.
+     *
+     * @see seedu.address.model.Model#getAddressBookSnapshot()
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
+    /**
+     * Changes the AddressBook to hold the data of {@code addressBook}, which was changed outside the application,
+     * by adding, replacing or removing only the entries that differ. The data is not saved again, and undo and redo
+     * cannot go back past the reload. Must be called from the thread that executes commands.
+     *
+     * @return the number of entries that were added, replaced or removed.
+     */
+    int reloadAddressBook(ReadOnlyAddressBook addressBook);
+
     /** Returns the Model */
     Model getModel();
 
@@ -3,8 +3,10 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
@@ -13,6 +15,10 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.performance.CommandExecutionEvent;
+import seedu.address.logic.performance.CommandLatencyRecorder;
+import seedu.address.logic.performance.CommandPhase;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Consultation;
@@ -33,33 +39,96 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final CommandLatencyRecorder latencyRecorder;
+    /** Number of persons added, removed or replaced so far, for {@code CommandExecutionEvent}s. */
+    private long personChanges;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that times commands into the app's shared {@code CommandLatencyRecorder}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, CommandLatencyRecorder.getInstance());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that times commands into {@code latencyRecorder}.
+     */
+    public LogicManager(Model model, Storage storage, CommandLatencyRecorder latencyRecorder) {
         this.model = model;
         this.storage = storage;
+        this.latencyRecorder = latencyRecorder;
         addressBookParser = new AddressBookParser();
+        countPersonChanges(model.getAddressBook().getPersonList());
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
-        CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
-
+        String commandWord = AddressBookParser.getCommandWord(commandText);
+        CommandExecutionEvent event = new CommandExecutionEvent();
+        event.begin();
+        long personChangesBefore = personChanges;
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            CommandResult commandResult;
+            long parseStart = System.nanoTime();
+            Command command = addressBookParser.parseCommand(commandText);
+            long executeStart = System.nanoTime();
+            latencyRecorder.record(commandWord, CommandPhase.PARSE, executeStart - parseStart);
+            event.setParseDuration(executeStart - parseStart);
+
+            String activeModule = model.getUserPrefs().getActiveModule();
+            try {
+                commandResult = command.execute(model);
+            } catch (CommandException | RuntimeException e) {
+                model.discardAddressBookChanges();
+                throw e;
+            }
+            model.commitAddressBook();
+            long saveStart = System.nanoTime();
+            latencyRecorder.record(commandWord, CommandPhase.EXECUTE, saveStart - executeStart);
+            event.setExecuteDuration(saveStart - executeStart);
+
+            try {
+                if (!activeModule.equals(model.getUserPrefs().getActiveModule())) {
+                    storage.setAddressBookFilePath(model.getAddressBookFilePath());
+                    storage.saveUserPrefs(model.getUserPrefs());
+                }
+                storage.saveAddressBook(model.getAddressBook());
+            } catch (AccessDeniedException e) {
+                throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            } catch (IOException ioe) {
+                throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            }
+            long saveDuration = System.nanoTime() - saveStart;
+            latencyRecorder.record(commandWord, CommandPhase.SAVE, saveDuration);
+            event.setSaveDuration(saveDuration);
+            event.setSucceeded(true);
+
+            return commandResult;
+        } finally {
+            event.setCommandWord(commandWord);
+            event.setPersonsTouched(personChanges - personChangesBefore);
+            event.commit();
         }
+    }
 
-        return commandResult;
+    /**
+     * Counts every person added, removed or replaced in {@code persons} into {@link #personChanges}.
+     */
+    private void countPersonChanges(ObservableList<Person> persons) {
+        persons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                personChanges += Math.max(change.getAddedSize(), change.getRemovedSize());
+            }
+        });
+    }
+
+    @Override
+    public List<String> getCommandWordCompletions(String partialCommandWord) {
+        return addressBookParser.getCommandWordCompletions(partialCommandWord);
     }
 
     @Override
@@ -67,6 +136,21 @@ public class LogicManager implements Logic {
         return model.getAddressBook();
     }
 
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return model.getAddressBookSnapshot();
+    }
+
+    @Override
+    public int reloadAddressBook(ReadOnlyAddressBook addressBook) {
+        int changeCount = model.applyAddressBookDifferences(addressBook);
+        // undoing a command from before the reload would drop the external changes, and the next save would then
+        // overwrite them in the data file
+        model.clearAddressBookHistory();
+        logger.info("Reloaded " + changeCount + " changed entries from " + model.getAddressBookFilePath());
+        return changeCount;
+    }
+
     @Override
     public Model getModel() {
         return model;
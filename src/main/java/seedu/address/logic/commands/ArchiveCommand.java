@@ -0,0 +1,170 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Group;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonArchiveStorage;
+
+/**
+ * Moves the students of a finished semester, with their attendance, homework and consultations, out of the address
+ * book into a read-only archive next to the data file, so that the data file does not keep growing every semester.
+ * Archived students can still be searched with {@link FindArchiveCommand}. An archive cannot be undone.
+ *
+ * @see JsonArchiveStorage
+ */
+public class ArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "archive";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Moves the students of a finished semester into a read-only archive. Archives all the students, or "
+            + "only those in the groups given. An archive cannot be undone.\n"
+            + "Parameters: SEMESTER [" + PREFIX_GROUP + "GROUP]...\n"
+            + "Example: " + COMMAND_WORD + " AY2425S1 " + PREFIX_GROUP + "T01 " + PREFIX_GROUP + "T02";
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Semesters should only contain letters, digits, hyphens and underscores, and should not be blank";
+    public static final String VALIDATION_REGEX = "[\\p{Alnum}_-]+";
+
+    public static final String MESSAGE_SUCCESS = "Archived %1$d student(s) and %2$d consultation(s) of %3$s to %4$s. "
+            + "%5$d student(s) remain.";
+    public static final String MESSAGE_NO_STUDENTS = "There are no students to archive.";
+    public static final String MESSAGE_GROUP_NOT_FOUND = "Group %1$s not found.";
+    public static final String MESSAGE_ALREADY_ARCHIVED = "Semester %1$s is already archived.";
+    public static final String MESSAGE_ARCHIVE_FAILED = "Could not archive to %1$s: %2$s";
+
+    private final String semester;
+    private final Set<GroupId> groupIds;
+
+    /**
+     * Creates an {@code ArchiveCommand} that archives the students of {@code groupIds} as {@code semester}, or all
+     * the students if {@code groupIds} is empty.
+     */
+    public ArchiveCommand(String semester, Set<GroupId> groupIds) {
+        requireAllNonNull(semester, groupIds);
+        this.semester = semester;
+        this.groupIds = Set.copyOf(groupIds);
+    }
+
+    /**
+     * Returns true if {@code semester} is a valid semester name.
+     */
+    public static boolean isValidSemester(String semester) {
+        return semester.matches(VALIDATION_REGEX);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        for (GroupId groupId : groupIds) {
+            if (!model.hasGroup(groupId)) {
+                throw new CommandException(String.format(MESSAGE_GROUP_NOT_FOUND, groupId));
+            }
+        }
+
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        List<Person> archived = new ArrayList<>();
+        List<Person> remaining = new ArrayList<>();
+        for (Person person : addressBook.getPersonList()) {
+            (isArchived(person.getGroupId()) ? archived : remaining).add(person);
+        }
+        if (archived.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_STUDENTS);
+        }
+
+        JsonArchiveStorage archiveStorage =
+                new JsonArchiveStorage(JsonArchiveStorage.getArchiveDirectory(model.getAddressBookFilePath()));
+        try {
+            Optional<String> existingArchive = archiveStorage.findArchive(semester);
+            if (existingArchive.isPresent()) {
+                throw new CommandException(String.format(MESSAGE_ALREADY_ARCHIVED, existingArchive.get()));
+            }
+            archiveStorage.archive(semester, archived);
+        } catch (DataLoadingException | IOException e) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_FAILED, archiveStorage.getDirectory(),
+                    e.getMessage()), e);
+        }
+
+        // the archive is complete, so the students can leave the address book. Undo cannot bring them back, since
+        // they would then be both in the address book and in the archive, which cannot be changed
+        model.applyAddressBookDifferences(withoutArchived(addressBook, remaining));
+        model.clearAddressBookHistory();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        long consultationCount = archived.stream().filter(Person::hasConsultation).count();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, archived.size(), consultationCount, semester,
+                archiveStorage.getArchiveFilePath(semester), remaining.size()));
+    }
+
+    private boolean isArchived(GroupId groupId) {
+        return groupIds.isEmpty() || groupIds.contains(groupId);
+    }
+
+    /**
+     * Returns the data of {@code addressBook} without the archived students, their consultations and their groups.
+     */
+    private AddressBook withoutArchived(ReadOnlyAddressBook addressBook, List<Person> remaining) {
+        Set<Nusnetid> remainingNusnetids = new HashSet<>();
+        Map<GroupId, List<Person>> groupMembers = new LinkedHashMap<>();
+        for (Group group : addressBook.getGroupList()) {
+            if (!isArchived(group.getGroupId())) {
+                groupMembers.put(group.getGroupId(), new ArrayList<>());
+            }
+        }
+        for (Person person : remaining) {
+            remainingNusnetids.add(person.getNusnetid());
+            groupMembers.computeIfAbsent(person.getGroupId(), groupId -> new ArrayList<>()).add(person);
+        }
+
+        List<Consultation> remainingConsultations = new ArrayList<>();
+        for (Consultation consultation : addressBook.getConsultationList()) {
+            if (remainingNusnetids.contains(consultation.getNusnetid())) {
+                remainingConsultations.add(consultation);
+            }
+        }
+        List<Group> remainingGroups = new ArrayList<>();
+        groupMembers.forEach((groupId, members) -> remainingGroups.add(new Group(groupId, members)));
+
+        AddressBook result = new AddressBook();
+        result.setPersons(remaining);
+        result.setConsultations(remainingConsultations);
+        result.setGroupList(remainingGroups);
+        return result;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ArchiveCommand otherArchiveCommand)) {
+            return false;
+        }
+        return semester.equals(otherArchiveCommand.semester) && groupIds.equals(otherArchiveCommand.groupIds);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ArchiveCommand{semester=%s, groupIds=%s}", semester, groupIds);
+    }
+}
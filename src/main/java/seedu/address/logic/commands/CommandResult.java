@@ -3,8 +3,10 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.ViewCommand.ViewMode;
 
 /**
  * Represents the result of a command execution.
@@ -22,6 +24,9 @@ public class CommandResult {
     /** Consultations should be shown to the user. */
     private final boolean showConsultations;
 
+    /** The student list should be shown in this mode, or null to keep the current mode. */
+    private final ViewMode viewMode;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
@@ -30,6 +35,7 @@ public class CommandResult {
         this.showHelp = showHelp;
         this.exit = exit;
         this.showConsultations = false;
+        this.viewMode = null;
     }
 
     /**
@@ -48,6 +54,18 @@ public class CommandResult {
         this.showHelp = showHelp;
         this.exit = exit;
         this.showConsultations = showConsultations;
+        this.viewMode = null;
+    }
+
+    /**
+     * Constructs a {@code CommandResult} that switches the student list to {@code viewMode}.
+     */
+    public CommandResult(String feedbackToUser, ViewMode viewMode) {
+        this.feedbackToUser = requireNonNull(feedbackToUser);
+        this.showHelp = false;
+        this.exit = false;
+        this.showConsultations = false;
+        this.viewMode = requireNonNull(viewMode);
     }
 
     public String getFeedbackToUser() {
@@ -66,6 +84,10 @@ public class CommandResult {
         return showConsultations;
     }
 
+    public Optional<ViewMode> getViewMode() {
+        return Optional.ofNullable(viewMode);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -80,12 +102,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && viewMode == otherCommandResult.viewMode;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, viewMode);
     }
 
     @Override
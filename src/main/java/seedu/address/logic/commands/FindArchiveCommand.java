@@ -0,0 +1,90 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.JsonArchiveStorage;
+
+/**
+ * Finds the archived students whose name contains any of the argument keywords, or whose NUSNET ID is one of them.
+ * Keyword matching is case insensitive. The archives are only read, and the address book is not changed.
+ *
+ * @see ArchiveCommand
+ */
+public class FindArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "find_archive";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds the archived students whose names contain "
+            + "any of the specified keywords, or whose NUSNET IDs are among them (case-insensitive).\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice E1234567";
+
+    public static final String MESSAGE_FOUND = "%1$d archived student(s) found.";
+    public static final String MESSAGE_STUDENT = "[%1$s] %2$s (%3$s), group %4$s";
+    public static final String MESSAGE_SEARCH_FAILED = "Could not search archives in %1$s: %2$s";
+
+    /** Number of students listed in the result, so that a common name does not flood the result display. */
+    static final int MAX_STUDENTS_SHOWN = 20;
+
+    private final List<String> keywords;
+
+    /**
+     * Creates a {@code FindArchiveCommand} that finds the archived students matching any of {@code keywords}.
+     */
+    public FindArchiveCommand(List<String> keywords) {
+        requireNonNull(keywords);
+        this.keywords = List.copyOf(keywords);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        JsonArchiveStorage archiveStorage =
+                new JsonArchiveStorage(JsonArchiveStorage.getArchiveDirectory(model.getAddressBookFilePath()));
+        List<String> found = new ArrayList<>();
+        AtomicInteger foundCount = new AtomicInteger();
+        try {
+            archiveStorage.search(keywords, (semester, person) -> {
+                if (foundCount.getAndIncrement() < MAX_STUDENTS_SHOWN) {
+                    found.add(String.format(MESSAGE_STUDENT, semester, person.getName(), person.getNusnetid(),
+                            person.getGroupId()));
+                }
+            });
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_SEARCH_FAILED, archiveStorage.getDirectory(),
+                    e.getMessage()), e);
+        }
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_FOUND, foundCount.get()));
+        for (String student : found) {
+            message.append("\n  ").append(student);
+        }
+        if (foundCount.get() > MAX_STUDENTS_SHOWN) {
+            message.append("\n  ...");
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof FindArchiveCommand otherFindArchiveCommand)) {
+            return false;
+        }
+        return keywords.equals(otherFindArchiveCommand.keywords);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FindArchiveCommand{keywords=%s}", keywords);
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.model.Model;
+import seedu.address.model.event.Consultation;
+
+/**
+ * Finds the earliest times within working hours that are free of consultations for at least a given duration, so
+ * that a TA can pick a time for a new consultation that will not overlap with another.
+ * <p>
+ * The consultations of each day are taken from the start time index of the address book and swept in order, so the
+ * search only looks at the days it goes through and stops as soon as enough free slots are found.
+ * </p>
+ */
+public class FreeSlotsCommand extends Command {
+
+    public static final String COMMAND_WORD = "free_slots";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the earliest free slots of at least the given length within working hours, from the start date "
+            + "to the end date, which can be up to a year apart. Working hours are 0900-1800 and 5 slots are listed "
+            + "unless given.\n"
+            + "Parameters: " + PREFIX_FROM + "DATE [" + PREFIX_TO + "DATE] " + PREFIX_DURATION + "MINUTES ["
+            + PREFIX_HOURS + "HHmm-HHmm] [" + PREFIX_COUNT + "COUNT]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FROM + "20251006 " + PREFIX_TO + "20251010 "
+            + PREFIX_DURATION + "60 " + PREFIX_HOURS + "1000-1700 " + PREFIX_COUNT + "3";
+
+    public static final LocalTime DEFAULT_DAY_START = LocalTime.of(9, 0);
+    public static final LocalTime DEFAULT_DAY_END = LocalTime.of(18, 0);
+    public static final int DEFAULT_COUNT = 5;
+    public static final int MAX_COUNT = 50;
+    /** Most days searched, so that a search that finds few slots still stops after a year. */
+    public static final int MAX_DAYS = 366;
+
+    public static final String MESSAGE_SUCCESS = "Found %1$d free slot(s) of at least %2$d minutes:";
+    public static final String MESSAGE_NO_SLOTS = "There are no free slots of at least %1$d minutes from %2$s to %3$s.";
+    public static final String MESSAGE_SLOT = "%1$s %2$s-%3$s (%4$d min)";
+
+    private static final DateTimeFormatter DATE_FORMATTER =
+            DateTimeFormatter.ofPattern("EEE yyyy-MM-dd", Locale.ENGLISH);
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Duration duration;
+    private final LocalTime dayStart;
+    private final LocalTime dayEnd;
+    private final int count;
+
+    /**
+     * Creates a {@code FreeSlotsCommand} that lists at most {@code count} free slots of at least {@code duration},
+     * between {@code dayStart} and {@code dayEnd} of every day from {@code startDate} to {@code endDate}.
+     */
+    public FreeSlotsCommand(LocalDate startDate, LocalDate endDate, Duration duration, LocalTime dayStart,
+            LocalTime dayEnd, int count) {
+        requireAllNonNull(startDate, endDate, duration, dayStart, dayEnd);
+        checkArgument(!endDate.isBefore(startDate), "The end date must not be before the start date.");
+        checkArgument(!endDate.isAfter(startDate.plusDays(MAX_DAYS - 1)), "The date range is too long.");
+        checkArgument(!duration.isNegative() && !duration.isZero(), "The duration must be positive.");
+        checkArgument(dayStart.isBefore(dayEnd), "Working hours must end after they start.");
+        checkArgument(count > 0, "The number of slots must be positive.");
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.duration = duration;
+        this.dayStart = dayStart;
+        this.dayEnd = dayEnd;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<String> slots = new ArrayList<>();
+        for (LocalDate date = startDate; !date.isAfter(endDate) && slots.size() < count; date = date.plusDays(1)) {
+            findFreeSlots(model, date, slots);
+        }
+
+        if (slots.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_SLOTS, duration.toMinutes(), startDate, endDate));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, slots.size(), duration.toMinutes()) + "\n"
+                + String.join("\n", slots));
+    }
+
+    /**
+     * Adds the free slots within the working hours of {@code date} to {@code slots}, until there are {@code count}
+     * of them. The consultations of the day are swept in order of their start time, keeping the time at which the
+     * consultations so far have all ended; a consultation starting later than that leaves a gap before it.
+     */
+    private void findFreeSlots(Model model, LocalDate date, List<String> slots) {
+        LocalDateTime windowStart = date.atTime(dayStart);
+        LocalDateTime windowEnd = date.atTime(dayEnd);
+        LocalDateTime freeFrom = windowStart;
+        for (Consultation consultation : model.getConsultationsBetween(windowStart, windowEnd)) {
+            if (slots.size() >= count) {
+                return;
+            }
+            addIfLongEnough(freeFrom, consultation.getFrom(), slots);
+            if (consultation.getTo().isAfter(freeFrom)) {
+                freeFrom = consultation.getTo();
+            }
+        }
+        if (slots.size() < count) {
+            addIfLongEnough(freeFrom, windowEnd, slots);
+        }
+    }
+
+    private void addIfLongEnough(LocalDateTime from, LocalDateTime to, List<String> slots) {
+        if (Duration.between(from, to).compareTo(duration) < 0) {
+            return;
+        }
+        slots.add(String.format(MESSAGE_SLOT, from.format(DATE_FORMATTER), from.format(TIME_FORMATTER),
+                to.format(TIME_FORMATTER), Duration.between(from, to).toMinutes()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof FreeSlotsCommand otherFreeSlotsCommand)) {
+            return false;
+        }
+        return startDate.equals(otherFreeSlotsCommand.startDate)
+                && endDate.equals(otherFreeSlotsCommand.endDate)
+                && duration.equals(otherFreeSlotsCommand.duration)
+                && dayStart.equals(otherFreeSlotsCommand.dayStart)
+                && dayEnd.equals(otherFreeSlotsCommand.dayEnd)
+                && count == otherFreeSlotsCommand.count;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FreeSlotsCommand{startDate=%s, endDate=%s, duration=%s, dayStart=%s, dayEnd=%s, "
+                + "count=%d}", startDate, endDate, duration, dayStart, dayEnd, count);
+    }
+}
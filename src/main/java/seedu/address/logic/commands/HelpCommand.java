@@ -1,21 +1,63 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Optional;
+
 import seedu.address.model.Model;
 
 /**
  * Format full help instructions for every command for display.
+ * If a command word is given, shows the usage of that command instead.
  */
 public class HelpCommand extends Command {
 
     public static final String COMMAND_WORD = "help";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows program usage instructions.\n"
-            + "Example: " + COMMAND_WORD;
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows program usage instructions, "
+            + "or the usage of one command if its command word is given.\n"
+            + "Parameters: [COMMAND_WORD]\n"
+            + "Example: " + COMMAND_WORD + " " + AddCommand.COMMAND_WORD;
 
     public static final String SHOWING_HELP_MESSAGE = "Opened help window.";
 
+    private final Optional<String> commandUsage;
+
+    /**
+     * Creates a HelpCommand that opens the help window.
+     */
+    public HelpCommand() {
+        this.commandUsage = Optional.empty();
+    }
+
+    /**
+     * Creates a HelpCommand that shows {@code commandUsage}, the usage message of a single command.
+     */
+    public HelpCommand(String commandUsage) {
+        requireNonNull(commandUsage);
+        this.commandUsage = Optional.of(commandUsage);
+    }
+
     @Override
     public CommandResult execute(Model model) {
-        return new CommandResult(SHOWING_HELP_MESSAGE, true, false);
+        return commandUsage.map(CommandResult::new)
+                .orElseGet(() -> new CommandResult(SHOWING_HELP_MESSAGE, true, false));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof HelpCommand otherHelpCommand)) {
+            return false;
+        }
+        return commandUsage.equals(otherHelpCommand.commandUsage);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(commandUsage);
     }
 }
@@ -1,24 +1,89 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_CONSULTATIONS;
 
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
 import seedu.address.model.Model;
 
 /**
- * Lists all consultations in the address book to the user.
+ * Lists all consultations in the address book to the user, or only those within a time range.
  */
 public class ListConsultationCommand extends Command {
 
     public static final String COMMAND_WORD = "list_consult";
 
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists all consultations, or only those taking place "
+            + "within the time range given. A date without a time covers the whole day.\n"
+            + "Parameters: [" + PREFIX_FROM + "DATE_TIME] [" + PREFIX_TO + "DATE_TIME]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FROM + "20251006 " + PREFIX_TO + "20251012";
+
     public static final String MESSAGE_SUCCESS = "Listed all consultations";
+    public static final String MESSAGE_SUCCESS_RANGE = "Listed %1$d consultation(s) %2$s.";
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
 
+    /**
+     * Creates a {@code ListConsultationCommand} that lists all consultations.
+     */
+    public ListConsultationCommand() {
+        this(LocalDateTime.MIN, LocalDateTime.MAX);
+    }
+
+    /**
+     * Creates a {@code ListConsultationCommand} that lists the consultations taking place at any time from
+     * {@code from} until before {@code to}. {@code LocalDateTime.MIN} and {@code LocalDateTime.MAX} leave the range
+     * open on that side.
+     */
+    public ListConsultationCommand(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        this.from = from;
+        this.to = to;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredConsultationList(PREDICATE_SHOW_ALL_CONSULTATIONS);
-        return new CommandResult(MESSAGE_SUCCESS, false, false, true);
+        if (from.equals(LocalDateTime.MIN) && to.equals(LocalDateTime.MAX)) {
+            model.updateFilteredConsultationList(PREDICATE_SHOW_ALL_CONSULTATIONS);
+            return new CommandResult(MESSAGE_SUCCESS, false, false, true);
+        }
+        model.updateFilteredConsultationList(from, to);
+        return new CommandResult(String.format(MESSAGE_SUCCESS_RANGE, model.getFilteredConsultationList().size(),
+                describeRange()), false, false, true);
+    }
+
+    private String describeRange() {
+        if (from.equals(LocalDateTime.MIN)) {
+            return "before " + to.format(FORMATTER);
+        }
+        if (to.equals(LocalDateTime.MAX)) {
+            return "from " + from.format(FORMATTER) + " on";
+        }
+        return "from " + from.format(FORMATTER) + " to " + to.format(FORMATTER);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ListConsultationCommand otherListConsultationCommand)) {
+            return false;
+        }
+        return from.equals(otherListConsultationCommand.from) && to.equals(otherListConsultationCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ListConsultationCommand{from=%s, to=%s}", from, to);
     }
 }
@@ -0,0 +1,113 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BASE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.util.AddressBookMerger;
+import seedu.address.model.util.AddressBookMerger.MergeResult;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Merges the data files of other TAs into the address book, optionally against the common ancestor of the files.
+ * The current address book takes part in the merge as the first file, so the files given win any conflict over it.
+ *
+ * @see AddressBookMerger
+ */
+public class MergeCommand extends Command {
+
+    public static final String COMMAND_WORD = "merge";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Merges other TAs' data files into the address book, matching students by NUSNET ID. "
+            + "If the file the others started from is given, only their changes to it are merged.\n"
+            + "Parameters: " + PREFIX_FILE + "FILE [" + PREFIX_FILE + "MORE_FILES]... "
+            + "[" + PREFIX_BASE + "ANCESTOR_FILE]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_FILE + "data/ta2.json " + PREFIX_FILE + "data/ta3.json "
+            + PREFIX_BASE + "data/start.json";
+
+    public static final String MESSAGE_SUCCESS = "Merged %1$d file(s): %2$d student(s), %3$d change(s) to the "
+            + "address book, %4$d conflict(s) resolved.";
+    public static final String MESSAGE_FILE_NOT_FOUND = "Data file not found: %1$s";
+    public static final String MESSAGE_FILE_NOT_LOADED = "Could not load data file %1$s: %2$s";
+
+    /** Number of conflicts listed in the result, so that a large merge does not flood the result display. */
+    static final int MAX_CONFLICTS_SHOWN = 5;
+
+    private final List<Path> files;
+    private final Optional<Path> ancestorFile;
+
+    /**
+     * Creates a {@code MergeCommand} that merges {@code files}, whose common ancestor is {@code ancestorFile} if
+     * present.
+     */
+    public MergeCommand(List<Path> files, Optional<Path> ancestorFile) {
+        requireAllNonNull(files, ancestorFile);
+        this.files = List.copyOf(files);
+        this.ancestorFile = ancestorFile;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<ReadOnlyAddressBook> addressBooks = new ArrayList<>(files.size() + 1);
+        addressBooks.add(model.getAddressBook());
+        for (Path file : files) {
+            addressBooks.add(read(file));
+        }
+        Optional<ReadOnlyAddressBook> ancestor = ancestorFile.isPresent()
+                ? Optional.of(read(ancestorFile.get()))
+                : Optional.empty();
+
+        MergeResult result = AddressBookMerger.merge(addressBooks, ancestor);
+        int changes = model.applyAddressBookDifferences(result.getAddressBook());
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        List<String> conflicts = result.getConflicts();
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, files.size(),
+                result.getAddressBook().getPersonList().size(), changes, conflicts.size()));
+        for (String conflict : conflicts.subList(0, Math.min(conflicts.size(), MAX_CONFLICTS_SHOWN))) {
+            message.append("\n  ").append(conflict);
+        }
+        if (conflicts.size() > MAX_CONFLICTS_SHOWN) {
+            message.append("\n  ...");
+        }
+        return new CommandResult(message.toString());
+    }
+
+    private static ReadOnlyAddressBook read(Path file) throws CommandException {
+        try {
+            return new JsonAddressBookStorage(file).readAddressBook()
+                    .orElseThrow(() -> new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, file)));
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_LOADED, file, e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof MergeCommand otherMergeCommand)) {
+            return false;
+        }
+        return files.equals(otherMergeCommand.files) && ancestorFile.equals(otherMergeCommand.ancestorFile);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("MergeCommand{files=%s, ancestorFile=%s}", files, ancestorFile.orElse(null));
+    }
+}
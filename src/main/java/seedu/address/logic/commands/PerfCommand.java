@@ -0,0 +1,57 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.performance.CommandLatencyRecorder;
+import seedu.address.model.Model;
+
+/**
+ * Shows the p50, p99 and maximum time spent parsing, executing and saving each command word since startup.
+ */
+public class PerfCommand extends Command {
+
+    public static final String COMMAND_WORD = "perf";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows how long parsing, executing and saving each command has taken since startup.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_EMPTY = "No commands have been timed yet.";
+    public static final String MESSAGE_SUCCESS = "Command latencies since startup:";
+
+    private final CommandLatencyRecorder recorder;
+
+    /**
+     * Creates a PerfCommand that reports the latencies in {@code recorder}.
+     */
+    public PerfCommand(CommandLatencyRecorder recorder) {
+        requireNonNull(recorder);
+        this.recorder = recorder;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        String[] summary = recorder.getSummary();
+        if (summary.length == 0) {
+            return new CommandResult(MESSAGE_EMPTY);
+        }
+        return new CommandResult(MESSAGE_SUCCESS + "\n" + String.join("\n", summary));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof PerfCommand otherPerfCommand)) {
+            return false;
+        }
+        return recorder == otherPerfCommand.recorder;
+    }
+
+    @Override
+    public int hashCode() {
+        return recorder.hashCode();
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.storage.GroupReportGenerator;
+
+/**
+ * Writes an attendance and homework report for every tutorial group, one CSV file per group.
+ * The reports are placed in a {@code reports} folder next to the data file.
+ */
+public class ReportCommand extends Command {
+
+    public static final String COMMAND_WORD = "report";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Writes an attendance and homework report for every group as CSV files.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String REPORTS_DIRECTORY = "reports";
+
+    public static final String MESSAGE_SUCCESS = "Generated %1$d group report(s) in %2$s";
+    public static final String MESSAGE_NO_GROUPS = "There are no groups to generate reports for.";
+    public static final String MESSAGE_FAILURE = "Could not write reports due to the following error: %s";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (model.getGroupList().isEmpty()) {
+            return new CommandResult(MESSAGE_NO_GROUPS);
+        }
+
+        Path outputDirectory = getOutputDirectory(model);
+        try {
+            List<Path> reports = new GroupReportGenerator(outputDirectory)
+                    .generate(model.getGroupList(), model.getAddressBook().getPersonList());
+            return new CommandResult(String.format(MESSAGE_SUCCESS, reports.size(), outputDirectory));
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_FAILURE, e.getMessage()), e);
+        }
+    }
+
+    /**
+     * Returns the folder the reports are written to, which sits next to the address book data file.
+     */
+    public static Path getOutputDirectory(Model model) {
+        Path dataFile = model.getAddressBookFilePath().toAbsolutePath();
+        return dataFile.getParent().resolve(REPORTS_DIRECTORY);
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Group;
+import seedu.address.model.Model;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.statistics.GroupStatistics;
+
+/**
+ * Shows attendance rates and homework completion percentages of every tutorial group, or of one group.
+ * The figures come from counters maintained incrementally by the model, so no student is visited.
+ *
+ * <p>Example usage:</p>
+ * <pre>{@code
+ * stats
+ * stats g/T01
+ * }</pre>
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows attendance and homework statistics of all groups, or of one group if specified.\n"
+            + "Parameters: [" + PREFIX_GROUP + "GROUP_ID]\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_GROUP + "T01";
+
+    public static final String MESSAGE_GROUP_NOT_FOUND = "Group not found.";
+    public static final String MESSAGE_NO_GROUPS = "There are no groups to show statistics for.";
+    public static final String MESSAGE_HEADER = "Statistics for %1$d group(s):";
+    public static final String MESSAGE_GROUP_SUMMARY = "%1$s (%2$d students): attendance %3$.1f%% present "
+            + "(%4$d/%5$d marked)";
+    public static final String MESSAGE_HOMEWORK_SUMMARY = "; HW%1$d %2$.1f%% done (%3$d/%4$d)";
+    public static final String MESSAGE_WEEK_SUMMARY = "  Week %1$d: %2$d present, %3$d absent, %4$d excused";
+
+    private final GroupId groupId;
+
+    /**
+     * Creates a {@code StatsCommand} for all groups.
+     */
+    public StatsCommand() {
+        this.groupId = null;
+    }
+
+    /**
+     * Creates a {@code StatsCommand} for the group identified by {@code groupId}.
+     */
+    public StatsCommand(GroupId groupId) {
+        requireNonNull(groupId);
+        this.groupId = groupId;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (groupId != null) {
+            if (!model.hasGroup(groupId)) {
+                throw new CommandException(MESSAGE_GROUP_NOT_FOUND);
+            }
+            GroupStatistics statistics = getStatistics(model, groupId);
+            return new CommandResult(formatGroup(statistics) + formatWeeks(statistics));
+        }
+
+        List<GroupId> groupIds = model.getGroupList().stream()
+                .map(Group::getGroupId)
+                .sorted(Comparator.comparing(GroupId::toString))
+                .collect(Collectors.toList());
+        if (groupIds.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_GROUPS);
+        }
+
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_HEADER, groupIds.size()));
+        for (GroupId id : groupIds) {
+            builder.append("\n").append(formatGroup(getStatistics(model, id)));
+        }
+        return new CommandResult(builder.toString());
+    }
+
+    private static GroupStatistics getStatistics(Model model, GroupId groupId) {
+        return model.getGroupStatistics(groupId).orElseGet(() -> GroupStatistics.empty(groupId));
+    }
+
+    private static String formatGroup(GroupStatistics statistics) {
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_GROUP_SUMMARY,
+                statistics.getGroupId(), statistics.getStudentCount(), statistics.getAttendanceRate(),
+                statistics.getAttendanceCount(AttendanceStatus.PRESENT), statistics.getMarkedAttendanceCount()));
+        for (int assignmentId = 1; assignmentId <= HomeworkTracker.MAX_ASSIGNMENTS; assignmentId++) {
+            int assigned = statistics.getAssignedHomeworkCount(assignmentId);
+            if (assigned == 0) {
+                continue;
+            }
+            int done = assigned - statistics.getHomeworkCount(assignmentId, "incomplete");
+            builder.append(String.format(MESSAGE_HOMEWORK_SUMMARY,
+                    assignmentId, statistics.getCompletionRate(assignmentId), done, assigned));
+        }
+        return builder.toString();
+    }
+
+    private static String formatWeeks(GroupStatistics statistics) {
+        StringBuilder builder = new StringBuilder();
+        for (int week = GroupStatistics.FIRST_WEEK; week <= GroupStatistics.LAST_WEEK; week++) {
+            int present = statistics.getAttendanceCount(week, AttendanceStatus.PRESENT);
+            int absent = statistics.getAttendanceCount(week, AttendanceStatus.ABSENT);
+            int excused = statistics.getAttendanceCount(week, AttendanceStatus.EXCUSED);
+            if (present + absent + excused > 0) {
+                builder.append("\n").append(String.format(MESSAGE_WEEK_SUMMARY, week, present, absent, excused));
+            }
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof StatsCommand otherStatsCommand)) {
+            return false;
+        }
+        return Optional.ofNullable(groupId).equals(Optional.ofNullable(otherStatsCommand.groupId));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StatsCommand{groupId=%s}", groupId);
+    }
+}
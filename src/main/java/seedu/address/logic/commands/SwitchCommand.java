@@ -0,0 +1,157 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Switches to the students, groups and consultations of another module, each of which is kept in its own data file.
+ * A module that is not known yet is created. Without a module, lists the modules instead.
+ * <p>
+ * The data of a module is read from its file the first time it is used, and kept in memory afterwards for as many
+ * recently used modules as the user prefs allow.
+ * </p>
+ */
+public class SwitchCommand extends Command {
+
+    public static final String COMMAND_WORD = "switch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Switches to another module, creating it if it does not exist yet. Lists the modules if no module "
+            + "is given.\n"
+            + "Parameters: [MODULE] [" + PREFIX_FILE + "FILE]\n"
+            + "Example: " + COMMAND_WORD + " CS2040S";
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "Module names should only contain letters, digits, hyphens and underscores, and should not be blank";
+    public static final String VALIDATION_REGEX = "[\\p{Alnum}_-]+";
+
+    public static final String MESSAGE_SUCCESS = "Switched to module %1$s (%2$d students).";
+    public static final String MESSAGE_MODULES = "Modules: %1$s";
+    public static final String MESSAGE_ALREADY_ACTIVE = "Module %1$s is already in use.";
+    public static final String MESSAGE_FILE_MISMATCH = "Module %1$s already uses the data file %2$s.";
+    public static final String MESSAGE_FILE_IN_USE = "The data file %1$s is already used by module %2$s.";
+    public static final String MESSAGE_FILE_NOT_LOADED = "Could not load data file %1$s: %2$s";
+
+    private final String module;
+    private final Optional<Path> file;
+
+    /**
+     * Creates a {@code SwitchCommand} that lists the modules.
+     */
+    public SwitchCommand() {
+        this.module = null;
+        this.file = Optional.empty();
+    }
+
+    /**
+     * Creates a {@code SwitchCommand} that switches to {@code module}, whose data file is {@code file} if it is a new
+     * module and the file is given.
+     */
+    public SwitchCommand(String module, Optional<Path> file) {
+        requireNonNull(module);
+        requireNonNull(file);
+        this.module = module;
+        this.file = file;
+    }
+
+    /**
+     * Returns true if {@code module} is a valid module name.
+     */
+    public static boolean isValidModule(String module) {
+        return module.matches(VALIDATION_REGEX);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Map<String, Path> modules = model.getUserPrefs().getModules();
+        String activeModule = model.getUserPrefs().getActiveModule();
+        if (module == null) {
+            return new CommandResult(String.format(MESSAGE_MODULES, listModules(modules, activeModule)));
+        }
+
+        // module names are matched ignoring case, since their files may be on a file system that does the same
+        String name = modules.keySet().stream().filter(module::equalsIgnoreCase).findFirst().orElse(module);
+        if (name.equals(activeModule)) {
+            throw new CommandException(String.format(MESSAGE_ALREADY_ACTIVE, name));
+        }
+        Path filePath = getFilePath(name, modules, model.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> loadedAddressBook = model.getLoadedModule(name);
+        ReadOnlyAddressBook addressBook = loadedAddressBook.isPresent() ? loadedAddressBook.get() : read(filePath);
+        model.switchModule(name, filePath, addressBook);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, name, addressBook.getPersonList().size()));
+    }
+
+    /**
+     * Returns the data file of the module {@code name}. A new module uses the file given to this command, or a file
+     * named after the module next to the data file of the active module.
+     */
+    private Path getFilePath(String name, Map<String, Path> modules, Path activeFilePath) throws CommandException {
+        Path existingFilePath = modules.get(name);
+        if (existingFilePath != null) {
+            if (file.isPresent() && !file.get().equals(existingFilePath)) {
+                throw new CommandException(String.format(MESSAGE_FILE_MISMATCH, name, existingFilePath));
+            }
+            return existingFilePath;
+        }
+
+        Path filePath = file.orElse(activeFilePath.resolveSibling(name + ".json"));
+        for (Map.Entry<String, Path> entry : modules.entrySet()) {
+            if (entry.getValue().toAbsolutePath().normalize().equals(filePath.toAbsolutePath().normalize())) {
+                throw new CommandException(String.format(MESSAGE_FILE_IN_USE, filePath, entry.getKey()));
+            }
+        }
+        return filePath;
+    }
+
+    /**
+     * Returns the data in {@code filePath}, or an empty address book if there is no such file yet.
+     */
+    private static ReadOnlyAddressBook read(Path filePath) throws CommandException {
+        try {
+            return new JsonAddressBookStorage(filePath).readAddressBook().orElseGet(AddressBook::new);
+        } catch (DataLoadingException e) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_LOADED, filePath, e.getMessage()), e);
+        }
+    }
+
+    private static String listModules(Map<String, Path> modules, String activeModule) {
+        StringJoiner joiner = new StringJoiner(", ");
+        for (String name : modules.keySet()) {
+            joiner.add(name.equals(activeModule) ? name + " (in use)" : name);
+        }
+        return joiner.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof SwitchCommand otherSwitchCommand)) {
+            return false;
+        }
+        return Optional.ofNullable(module).equals(Optional.ofNullable(otherSwitchCommand.module))
+                && file.equals(otherSwitchCommand.file);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SwitchCommand{module=%s, file=%s}", module, file.orElse(null));
+    }
+}
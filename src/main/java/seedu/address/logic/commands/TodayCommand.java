@@ -0,0 +1,60 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+import seedu.address.model.Model;
+
+/**
+ * Lists the consultations taking place today.
+ */
+public class TodayCommand extends Command {
+
+    public static final String COMMAND_WORD = "today";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the consultations taking place today.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_SUCCESS = "Listed %1$d consultation(s) today, %2$s.";
+
+    private final Clock clock;
+
+    public TodayCommand() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a {@code TodayCommand} that takes the date from {@code clock}.
+     */
+    TodayCommand(Clock clock) {
+        requireNonNull(clock);
+        this.clock = clock;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        LocalDate today = LocalDate.now(clock);
+        model.updateFilteredConsultationList(today.atStartOfDay(), today.plusDays(1).atStartOfDay());
+        return new CommandResult(String.format(MESSAGE_SUCCESS, model.getFilteredConsultationList().size(), today),
+                false, false, true);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof TodayCommand otherTodayCommand)) {
+            return false;
+        }
+        return clock.equals(otherTodayCommand.clock);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TodayCommand{clock=%s}", clock);
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+
+/**
+ * Switches the student list between the detailed cards and a compact, sortable table.
+ */
+public class ViewCommand extends Command {
+
+    public static final String COMMAND_WORD = "view";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the students as detailed cards or as a compact table that can be sorted by clicking "
+            + "on a column header.\n"
+            + "Parameters: cards|table\n"
+            + "Example: " + COMMAND_WORD + " table";
+
+    public static final String MESSAGE_SUCCESS = "Showing students as %1$s";
+
+    /**
+     * The ways the student list can be shown.
+     */
+    public enum ViewMode {
+        CARDS("cards"),
+        TABLE("table");
+
+        private final String keyword;
+
+        ViewMode(String keyword) {
+            this.keyword = keyword;
+        }
+
+        public String getKeyword() {
+            return keyword;
+        }
+
+        /**
+         * Returns the view mode named {@code keyword}, ignoring case.
+         *
+         * @throws IllegalArgumentException if no view mode has that name
+         */
+        public static ViewMode fromKeyword(String keyword) {
+            for (ViewMode mode : values()) {
+                if (mode.keyword.equalsIgnoreCase(keyword)) {
+                    return mode;
+                }
+            }
+            throw new IllegalArgumentException("Invalid view mode: " + keyword);
+        }
+    }
+
+    private final ViewMode viewMode;
+
+    /**
+     * Creates a {@code ViewCommand} that switches to {@code viewMode}.
+     */
+    public ViewCommand(ViewMode viewMode) {
+        requireNonNull(viewMode);
+        this.viewMode = viewMode;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, viewMode.getKeyword()), viewMode);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof ViewCommand otherViewCommand)) {
+            return false;
+        }
+        return viewMode == otherViewCommand.viewMode;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ViewCommand{viewMode=%s}", viewMode.getKeyword());
+    }
+}
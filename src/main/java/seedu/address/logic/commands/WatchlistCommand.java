@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.Model;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.watchlist.WatchlistEntry;
+
+/**
+ * Lists the students on the at-risk watchlist, most severe first.
+ * The watchlist is maintained by the model as attendance and homework change, so no rules are evaluated here.
+ */
+public class WatchlistCommand extends Command {
+
+    public static final String COMMAND_WORD = "watchlist";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the students at risk of falling behind and the reasons.\n"
+            + "Example: " + COMMAND_WORD;
+
+    public static final String MESSAGE_EMPTY = "No students are at risk.";
+    public static final String MESSAGE_SUCCESS = "%1$d student(s) at risk:";
+    public static final String MESSAGE_ENTRY = "%1$d. %2$s (%3$s): %4$s";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        List<WatchlistEntry> entries = List.copyOf(model.getWatchlist());
+        Set<Nusnetid> atRisk = entries.stream()
+                .map(entry -> entry.getPerson().getNusnetid())
+                .collect(Collectors.toSet());
+        model.updateFilteredPersonList(person -> atRisk.contains(person.getNusnetid()));
+
+        if (entries.isEmpty()) {
+            return new CommandResult(MESSAGE_EMPTY);
+        }
+        StringBuilder builder = new StringBuilder(String.format(MESSAGE_SUCCESS, entries.size()));
+        for (int i = 0; i < entries.size(); i++) {
+            WatchlistEntry entry = entries.get(i);
+            builder.append("\n").append(String.format(MESSAGE_ENTRY, i + 1, entry.getPerson().getName(),
+                    entry.getPerson().getNusnetid(), String.join("; ", entry.getReasons())));
+        }
+        return new CommandResult(builder.toString());
+    }
+}
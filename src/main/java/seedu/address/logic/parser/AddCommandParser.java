@@ -30,15 +30,17 @@ import seedu.address.model.person.Telegram;
  */
 public class AddCommandParser implements Parser<AddCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER =
+            ArgumentTokenizer.of(PREFIX_NAME, PREFIX_NUSNETID, PREFIX_TELEGRAM, PREFIX_GROUP,
+                    PREFIX_PHONE, PREFIX_EMAIL);
+
     /**
      * Parses the given {@code String} of arguments in the context of the AddCommand
      * and returns an AddCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NAME, PREFIX_NUSNETID,
-                        PREFIX_TELEGRAM, PREFIX_GROUP, PREFIX_PHONE, PREFIX_EMAIL);
+        ArgumentMultimap argMultimap = TOKENIZER.extractArguments(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NAME, PREFIX_NUSNETID,
                 PREFIX_TELEGRAM, PREFIX_GROUP)
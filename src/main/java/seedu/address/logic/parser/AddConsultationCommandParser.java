@@ -18,14 +18,15 @@ import seedu.address.model.person.Nusnetid;
  */
 public class AddConsultationCommandParser implements Parser<AddConsultationCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = ArgumentTokenizer.of(PREFIX_NUSNETID, PREFIX_FROM, PREFIX_TO);
+
     /**
      * Parses the given {@code String} of arguments in the context of the ConsultationCommand
      * and returns a ConsultationCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public AddConsultationCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NUSNETID, PREFIX_FROM, PREFIX_TO);
+        ArgumentMultimap argMultimap = TOKENIZER.extractArguments(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NUSNETID, PREFIX_FROM, PREFIX_TO)
                 || !argMultimap.getPreamble().isEmpty()) {
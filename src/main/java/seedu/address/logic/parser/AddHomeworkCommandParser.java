@@ -28,10 +28,12 @@ import seedu.address.model.person.Nusnetid;
  */
 public class AddHomeworkCommandParser implements Parser<AddHomeworkCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = ArgumentTokenizer.of(PREFIX_NUSNETID, PREFIX_ASSIGNMENT);
+
     @Override
     public AddHomeworkCommand parse(String args) throws ParseException {
         requireNonNull(args);
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_NUSNETID, PREFIX_ASSIGNMENT);
+        ArgumentMultimap argMultimap = TOKENIZER.extractArguments(args);
         if (!arePrefixesPresent(argMultimap, PREFIX_NUSNETID, PREFIX_ASSIGNMENT)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AddHomeworkCommand.MESSAGE_USAGE));
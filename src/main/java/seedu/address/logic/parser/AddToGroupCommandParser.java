@@ -13,10 +13,13 @@ import seedu.address.model.person.Nusnetid;
  * Parses input arguments and creates a new AddToGroupCommand object
  */
 public class AddToGroupCommandParser implements Parser<AddToGroupCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER =
+            ArgumentTokenizer.of(CliSyntax.PREFIX_GROUP, CliSyntax.PREFIX_NUSNETID);
+
     @Override
     public AddToGroupCommand parse(String args) throws ParseException {
-        ArgumentMultimap argumentMultimap = ArgumentTokenizer.tokenize(args, CliSyntax.PREFIX_GROUP,
-                CliSyntax.PREFIX_NUSNETID);
+        ArgumentMultimap argumentMultimap = TOKENIZER.extractArguments(args);
         if (!arePrefixesPresent(argumentMultimap, CliSyntax.PREFIX_GROUP, CliSyntax.PREFIX_NUSNETID)
                 || !argumentMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
@@ -3,15 +3,15 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.List;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AddConsultationCommand;
 import seedu.address.logic.commands.AddHomeworkCommand;
 import seedu.address.logic.commands.AddToGroupCommand;
+import seedu.address.logic.commands.ArchiveCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CreateGroupCommand;
@@ -20,112 +20,141 @@ import seedu.address.logic.commands.DeleteConsultationCommand;
 import seedu.address.logic.commands.DeleteHomeworkCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindArchiveCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindGroupCommand;
+import seedu.address.logic.commands.FreeSlotsCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.ListConsultationCommand;
 import seedu.address.logic.commands.MarkAllAttendanceCommand;
 import seedu.address.logic.commands.MarkAttendanceCommand;
 import seedu.address.logic.commands.MarkHomeworkCommand;
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.commands.PerfCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.ReportCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.SwitchCommand;
+import seedu.address.logic.commands.TodayCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.ViewCommand;
+import seedu.address.logic.commands.WatchlistCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.performance.CommandLatencyRecorder;
 
 /**
  * Parses user input.
+ * <p>
+ * Every command word is registered once, with a single stateless parser, in a {@link CommandParserRegistry}.
+ * Parsing a command is then one lookup of its command word, and the same registry answers completion and help queries.
+ * A new command only needs to be registered in {@link #createRegistry()}.
+ * </p>
  */
 public class AddressBookParser {
 
-    /**
-     * Used for initial separation of command word and args.
-     * the command word is defined as the first non-whitespace sequence of characters
-     * and the arguments is everything after that.
-     */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
+    private static final CommandParserRegistry REGISTRY = createRegistry();
+
+    private static CommandParserRegistry createRegistry() {
+        CommandParserRegistry registry = new CommandParserRegistry();
+        registry.register(AddCommand.COMMAND_WORD, AddCommand.MESSAGE_USAGE, new AddCommandParser());
+        registry.register(EditCommand.COMMAND_WORD, EditCommand.MESSAGE_USAGE, new EditCommandParser());
+        registry.register(DeleteCommand.COMMAND_WORD, DeleteCommand.MESSAGE_USAGE, new DeleteCommandParser());
+        registry.register(ClearCommand.COMMAND_WORD, ClearCommand.MESSAGE_USAGE, args -> new ClearCommand());
+        registry.register(FindCommand.COMMAND_WORD, FindCommand.MESSAGE_USAGE, new FindCommandParser());
+        registry.register(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_USAGE, args -> new ListCommand());
+        registry.register(ListConsultationCommand.COMMAND_WORD, ListConsultationCommand.MESSAGE_USAGE,
+                new ListConsultationCommandParser());
+        registry.register(TodayCommand.COMMAND_WORD, TodayCommand.MESSAGE_USAGE, args -> new TodayCommand());
+        registry.register(FreeSlotsCommand.COMMAND_WORD, FreeSlotsCommand.MESSAGE_USAGE, new FreeSlotsCommandParser());
+        registry.register(ExitCommand.COMMAND_WORD, ExitCommand.MESSAGE_USAGE, args -> new ExitCommand());
+        registry.register(HelpCommand.COMMAND_WORD, HelpCommand.MESSAGE_USAGE, new HelpCommandParser(registry));
+        registry.register(CreateGroupCommand.COMMAND_WORD, CreateGroupCommand.MESSAGE_USAGE,
+                new CreateGroupCommandParser());
+        registry.register(FindGroupCommand.COMMAND_WORD, FindGroupCommand.MESSAGE_USAGE,
+                new FindGroupCommandParser());
+        registry.register(AddToGroupCommand.COMMAND_WORD, AddToGroupCommand.MESSAGE_USAGE,
+                new AddToGroupCommandParser());
+        registry.register(AddHomeworkCommand.COMMAND_WORD, AddHomeworkCommand.MESSAGE_USAGE,
+                new AddHomeworkCommandParser());
+        registry.register(DeleteHomeworkCommand.COMMAND_WORD, DeleteHomeworkCommand.MESSAGE_USAGE,
+                new DeleteHomeworkCommandParser());
+        registry.register(MarkHomeworkCommand.COMMAND_WORD, MarkHomeworkCommand.MESSAGE_USAGE,
+                new MarkHomeworkCommandParser());
+        registry.register(MarkAttendanceCommand.COMMAND_WORD, MarkAttendanceCommand.MESSAGE_USAGE,
+                new MarkAttendanceCommandParser());
+        registry.register(MarkAllAttendanceCommand.COMMAND_WORD, MarkAllAttendanceCommand.MESSAGE_USAGE,
+                new MarkAllAttendanceCommandParser());
+        registry.register(AddConsultationCommand.COMMAND_WORD, AddConsultationCommand.MESSAGE_USAGE,
+                new AddConsultationCommandParser());
+        registry.register(DeleteConsultationCommand.COMMAND_WORD, DeleteConsultationCommand.MESSAGE_USAGE,
+                new DeleteConsultationCommandParser());
+        registry.register(StatsCommand.COMMAND_WORD, StatsCommand.MESSAGE_USAGE, new StatsCommandParser());
+        registry.register(WatchlistCommand.COMMAND_WORD, WatchlistCommand.MESSAGE_USAGE,
+                args -> new WatchlistCommand());
+        registry.register(ReportCommand.COMMAND_WORD, ReportCommand.MESSAGE_USAGE, args -> new ReportCommand());
+        registry.register(ViewCommand.COMMAND_WORD, ViewCommand.MESSAGE_USAGE, new ViewCommandParser());
+        registry.register(PerfCommand.COMMAND_WORD, PerfCommand.MESSAGE_USAGE,
+                args -> new PerfCommand(CommandLatencyRecorder.getInstance()));
+        registry.register(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_USAGE, args -> new UndoCommand());
+        registry.register(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_USAGE, args -> new RedoCommand());
+        registry.register(MergeCommand.COMMAND_WORD, MergeCommand.MESSAGE_USAGE, new MergeCommandParser());
+        registry.register(SwitchCommand.COMMAND_WORD, SwitchCommand.MESSAGE_USAGE, new SwitchCommandParser());
+        registry.register(ArchiveCommand.COMMAND_WORD, ArchiveCommand.MESSAGE_USAGE, new ArchiveCommandParser());
+        registry.register(FindArchiveCommand.COMMAND_WORD, FindArchiveCommand.MESSAGE_USAGE,
+                new FindArchiveCommandParser());
+        return registry;
+    }
 
     /**
      * Parses user input into command for execution.
+     * The command word is the first non-whitespace sequence of characters and the arguments are everything after it.
      *
      * @param userInput full user input string
      * @return the command based on the user input
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
+        final String commandWord = getCommandWord(trimmedInput);
+        final String arguments = trimmedInput.substring(commandWord.length());
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
         logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommand();
-
-        case ListConsultationCommand.COMMAND_WORD:
-            return new ListConsultationCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-
-        case CreateGroupCommand.COMMAND_WORD:
-            return new CreateGroupCommandParser().parse(arguments);
-
-        case FindGroupCommand.COMMAND_WORD:
-            return new FindGroupCommandParser().parse(arguments);
-
-        case AddToGroupCommand.COMMAND_WORD:
-            return new AddToGroupCommandParser().parse(arguments);
-
-        case AddHomeworkCommand.COMMAND_WORD:
-            return new AddHomeworkCommandParser().parse(arguments);
-
-        case DeleteHomeworkCommand.COMMAND_WORD:
-            return new DeleteHomeworkCommandParser().parse(arguments);
-
-        case MarkHomeworkCommand.COMMAND_WORD:
-            return new MarkHomeworkCommandParser().parse(arguments);
-
-        case MarkAttendanceCommand.COMMAND_WORD:
-            return new MarkAttendanceCommandParser().parse(arguments);
-        case MarkAllAttendanceCommand.COMMAND_WORD:
-            return new MarkAllAttendanceCommandParser().parse(arguments);
-
-        case AddConsultationCommand.COMMAND_WORD:
-            return new AddConsultationCommandParser().parse(arguments);
-
-        case DeleteConsultationCommand.COMMAND_WORD:
-            return new DeleteConsultationCommandParser().parse(arguments);
-
-        default:
+        Parser<? extends Command> parser = REGISTRY.getParser(commandWord).orElse(null);
+        if (parser == null) {
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parse(arguments);
+    }
+
+    /**
+     * Returns the command word of {@code userInput}, i.e. its first non-whitespace sequence of characters,
+     * or an empty string if {@code userInput} is blank.
+     */
+    public static String getCommandWord(String userInput) {
+        final String trimmedInput = userInput.trim();
+        int end = 0;
+        while (end < trimmedInput.length() && !Character.isWhitespace(trimmedInput.charAt(end))) {
+            end++;
+        }
+        return trimmedInput.substring(0, end);
+    }
+
+    /**
+     * Returns the command words that start with {@code partialCommandWord}, in alphabetical order.
+     */
+    public List<String> getCommandWordCompletions(String partialCommandWord) {
+        return REGISTRY.getCommandWordsStartingWith(partialCommandWord);
     }
 
 }
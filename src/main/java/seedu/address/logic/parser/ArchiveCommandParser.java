@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import seedu.address.logic.commands.ArchiveCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.GroupId;
+
+/**
+ * Parses input arguments and creates a new ArchiveCommand object
+ */
+public class ArchiveCommandParser implements Parser<ArchiveCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = ArgumentTokenizer.of(PREFIX_GROUP);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ArchiveCommand
+     * and returns an ArchiveCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ArchiveCommand parse(String args) throws ParseException {
+        ArgumentMultimap argumentMultimap = TOKENIZER.extractArguments(args);
+        String semester = argumentMultimap.getPreamble();
+        if (semester.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ArchiveCommand.MESSAGE_USAGE));
+        }
+        if (!ArchiveCommand.isValidSemester(semester)) {
+            throw new ParseException(ArchiveCommand.MESSAGE_CONSTRAINTS);
+        }
+
+        Set<GroupId> groupIds = new HashSet<>();
+        for (String groupId : argumentMultimap.getAllValues(PREFIX_GROUP)) {
+            groupIds.add(ParserUtil.parseGroupId(groupId));
+        }
+        return new ArchiveCommand(semester, groupIds);
+    }
+}
@@ -1,10 +1,5 @@
 package seedu.address.logic.parser;
 
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
-import java.util.stream.Collectors;
-
 /**
  * Tokenizes arguments string of the form: {@code preamble <prefix>value <prefix>value ...}<br>
  *     e.g. {@code some preamble text t/ 11.00 t/12.00 k/ m/ July}  where prefixes are {@code t/ k/ m/}.<br>
@@ -12,9 +7,50 @@ import java.util.stream.Collectors;
  * 2. Leading and trailing whitespaces of an argument value will be discarded.<br>
  * 3. An argument may be repeated and all its values will be accumulated e.g. the value of {@code t/}
  *    in the above example.<br>
+ * <p>
+ * The arguments string is scanned once. A prefix can only start right after a space, and at such a position the
+ * character there is first looked up in a bit mask of the prefixes' first characters, so most positions are rejected
+ * without comparing any prefix. Values are cut out of the arguments string as soon as the next prefix is found.
+ * </p>
+ * <p>
+ * A tokenizer only depends on its prefixes, so a parser that always recognizes the same prefixes can create one
+ * with {@link #of(Prefix...)} once and reuse it for every arguments string it parses.
+ * </p>
  */
 public class ArgumentTokenizer {
 
+    /** Number of characters covered by the first-character mask; other prefixes are always compared. */
+    private static final int MASKED_CHARACTERS = 128;
+
+    private final Prefix[] prefixes;
+    /** Bit {@code c} is set if some prefix starts with character {@code c}, for {@code c < 64}. */
+    private final long lowFirstCharMask;
+    /** Bit {@code c - 64} is set if some prefix starts with character {@code c}, for {@code 64 <= c < 128}. */
+    private final long highFirstCharMask;
+    /** True if some prefix is empty or starts with a character outside the masks. */
+    private final boolean hasUnmaskedPrefix;
+
+    private ArgumentTokenizer(Prefix... prefixes) {
+        this.prefixes = prefixes.clone();
+        long lowMask = 0;
+        long highMask = 0;
+        boolean hasUnmasked = false;
+        for (Prefix prefix : prefixes) {
+            String prefixString = prefix.getPrefix();
+            char firstChar = prefixString.isEmpty() ? MASKED_CHARACTERS : prefixString.charAt(0);
+            if (firstChar < 64) {
+                lowMask |= 1L << firstChar;
+            } else if (firstChar < MASKED_CHARACTERS) {
+                highMask |= 1L << (firstChar - 64);
+            } else {
+                hasUnmasked = true;
+            }
+        }
+        lowFirstCharMask = lowMask;
+        highFirstCharMask = highMask;
+        hasUnmaskedPrefix = hasUnmasked;
+    }
+
     /**
      * Tokenizes an arguments string and returns an {@code ArgumentMultimap} object that maps prefixes to their
      * respective argument values. Only the given prefixes will be recognized in the arguments string.
@@ -24,125 +60,71 @@ public class ArgumentTokenizer {
      * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
     public static ArgumentMultimap tokenize(String argsString, Prefix... prefixes) {
-        List<PrefixPosition> positions = findAllPrefixPositions(argsString, prefixes);
-        return extractArguments(argsString, positions);
+        return of(prefixes).extractArguments(argsString);
     }
 
     /**
-     * Finds all zero-based prefix positions in the given arguments string.
+     * Returns a tokenizer that recognizes only the given prefixes. The tokenizer is immutable and can be shared.
      *
-     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixes   Prefixes to find in the arguments string
-     * @return           List of zero-based prefix positions in the given arguments string
-     */
-    private static List<PrefixPosition> findAllPrefixPositions(String argsString, Prefix... prefixes) {
-        return Arrays.stream(prefixes)
-                .flatMap(prefix -> findPrefixPositions(argsString, prefix).stream())
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * {@see findAllPrefixPositions}
+     * @param prefixes Prefixes to tokenize arguments strings with
      */
-    private static List<PrefixPosition> findPrefixPositions(String argsString, Prefix prefix) {
-        List<PrefixPosition> positions = new ArrayList<>();
-
-        int prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), 0);
-        while (prefixPosition != -1) {
-            PrefixPosition extendedPrefix = new PrefixPosition(prefix, prefixPosition);
-            positions.add(extendedPrefix);
-            prefixPosition = findPrefixPosition(argsString, prefix.getPrefix(), prefixPosition);
-        }
-
-        return positions;
+    public static ArgumentTokenizer of(Prefix... prefixes) {
+        return new ArgumentTokenizer(prefixes);
     }
 
     /**
-     * Returns the index of the first occurrence of {@code prefix} in
-     * {@code argsString} starting from index {@code fromIndex}. An occurrence
-     * is valid if there is a whitespace before {@code prefix}. Returns -1 if no
-     * such occurrence can be found.
+     * Scans {@code argsString} once and maps every recognized prefix, and the preamble, to its trimmed value.
+     * An occurrence of a prefix is valid only if there is a whitespace before it, e.g. {@code p/} is found in
+     * {@code "e/hi p/900"} but not in {@code "e/hip/900"}.
      *
-     * E.g if {@code argsString} = "e/hip/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns -1 as there are no valid
-     * occurrences of "p/" with whitespace before it. However, if
-     * {@code argsString} = "e/hi p/900", {@code prefix} = "p/" and
-     * {@code fromIndex} = 0, this method returns 5.
-     */
-    private static int findPrefixPosition(String argsString, String prefix, int fromIndex) {
-        int prefixIndex = argsString.indexOf(" " + prefix, fromIndex);
-        return prefixIndex == -1 ? -1
-                : prefixIndex + 1; // +1 as offset for whitespace
-    }
-
-    /**
-     * Extracts prefixes and their argument values, and returns an {@code ArgumentMultimap} object that maps the
-     * extracted prefixes to their respective arguments. Prefixes are extracted based on their zero-based positions in
-     * {@code argsString}.
-     *
-     * @param argsString      Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
-     * @param prefixPositions Zero-based positions of all prefixes in {@code argsString}
-     * @return                ArgumentMultimap object that maps prefixes to their arguments
+     * @param argsString Arguments string of the form: {@code preamble <prefix>value <prefix>value ...}
+     * @return           ArgumentMultimap object that maps prefixes to their arguments
      */
-    private static ArgumentMultimap extractArguments(String argsString, List<PrefixPosition> prefixPositions) {
-
-        // Sort by start position
-        prefixPositions.sort((prefix1, prefix2) -> prefix1.getStartPosition() - prefix2.getStartPosition());
-
-        // Insert a PrefixPosition to represent the preamble
-        PrefixPosition preambleMarker = new PrefixPosition(new Prefix(""), 0);
-        prefixPositions.add(0, preambleMarker);
-
-        // Add a dummy PrefixPosition to represent the end of the string
-        PrefixPosition endPositionMarker = new PrefixPosition(new Prefix(""), argsString.length());
-        prefixPositions.add(endPositionMarker);
-
-        // Map prefixes to their argument values (if any)
+    public ArgumentMultimap extractArguments(String argsString) {
         ArgumentMultimap argMultimap = new ArgumentMultimap();
-        for (int i = 0; i < prefixPositions.size() - 1; i++) {
-            // Extract and store prefixes and their arguments
-            Prefix argPrefix = prefixPositions.get(i).getPrefix();
-            String argValue = extractArgumentValue(argsString, prefixPositions.get(i), prefixPositions.get(i + 1));
-            argMultimap.put(argPrefix, argValue);
+        Prefix currentPrefix = ArgumentMultimap.PREAMBLE;
+        int valueStart = 0;
+
+        for (int i = 1; i < argsString.length(); i++) {
+            if (argsString.charAt(i - 1) != ' ' || !mayStartPrefix(argsString.charAt(i))) {
+                continue;
+            }
+            Prefix foundPrefix = findPrefixAt(argsString, i);
+            if (foundPrefix != null) {
+                argMultimap.put(currentPrefix, argsString.substring(valueStart, i).trim());
+                currentPrefix = foundPrefix;
+                valueStart = i + foundPrefix.getPrefix().length();
+            }
         }
 
+        argMultimap.put(currentPrefix, argsString.substring(valueStart).trim());
         return argMultimap;
     }
 
     /**
-     * Returns the trimmed value of the argument in the arguments string specified by {@code currentPrefixPosition}.
-     * The end position of the value is determined by {@code nextPrefixPosition}.
+     * Returns false if no prefix can start with {@code c}.
      */
-    private static String extractArgumentValue(String argsString,
-                                        PrefixPosition currentPrefixPosition,
-                                        PrefixPosition nextPrefixPosition) {
-        Prefix prefix = currentPrefixPosition.getPrefix();
-
-        int valueStartPos = currentPrefixPosition.getStartPosition() + prefix.getPrefix().length();
-        String value = argsString.substring(valueStartPos, nextPrefixPosition.getStartPosition());
-
-        return value.trim();
+    private boolean mayStartPrefix(char c) {
+        if (hasUnmaskedPrefix) {
+            return true;
+        } else if (c < 64) {
+            return (lowFirstCharMask & (1L << c)) != 0;
+        } else if (c < MASKED_CHARACTERS) {
+            return (highFirstCharMask & (1L << (c - 64))) != 0;
+        }
+        return false;
     }
 
     /**
-     * Represents a prefix's position in an arguments string.
+     * Returns the first of the prefixes that occurs in {@code argsString} at {@code index}, or null if none does.
      */
-    private static class PrefixPosition {
-        private int startPosition;
-        private final Prefix prefix;
-
-        PrefixPosition(Prefix prefix, int startPosition) {
-            this.prefix = prefix;
-            this.startPosition = startPosition;
-        }
-
-        int getStartPosition() {
-            return startPosition;
-        }
-
-        Prefix getPrefix() {
-            return prefix;
+    private Prefix findPrefixAt(String argsString, int index) {
+        for (Prefix prefix : prefixes) {
+            if (argsString.startsWith(prefix.getPrefix(), index)) {
+                return prefix;
+            }
         }
+        return null;
     }
 
 }
@@ -17,4 +17,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_TO = new Prefix("to/");
     public static final Prefix PREFIX_ASSIGNMENT = new Prefix("a/");
     public static final Prefix PREFIX_STATUS = new Prefix("status/");
+    public static final Prefix PREFIX_FILE = new Prefix("f/");
+    public static final Prefix PREFIX_BASE = new Prefix("base/");
+    public static final Prefix PREFIX_DURATION = new Prefix("d/");
+    public static final Prefix PREFIX_HOURS = new Prefix("hours/");
+    public static final Prefix PREFIX_COUNT = new Prefix("k/");
 }
@@ -0,0 +1,68 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+
+import seedu.address.logic.commands.Command;
+
+/**
+ * Maps command words to the parser of their command and to their usage message.
+ * <p>
+ * Each command word has exactly one parser, which is reused for every command entered. Parsers must therefore be
+ * stateless. All commands are registered before the registry is shared; afterwards it is only read, so lookups from
+ * several threads are safe.
+ * </p>
+ */
+public class CommandParserRegistry {
+
+    private final Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+    private final Map<String, String> usages = new HashMap<>();
+    /** Command words in alphabetical order, for completion. */
+    private final NavigableSet<String> commandWords = new TreeSet<>();
+
+    /**
+     * Registers {@code parser} as the parser of {@code commandWord}, described by {@code usage}.
+     *
+     * @throws IllegalArgumentException if {@code commandWord} is already registered.
+     */
+    public void register(String commandWord, String usage, Parser<? extends Command> parser) {
+        requireAllNonNull(commandWord, usage, parser);
+        if (parsers.containsKey(commandWord)) {
+            throw new IllegalArgumentException("Command word is already registered: " + commandWord);
+        }
+        parsers.put(commandWord, parser);
+        usages.put(commandWord, usage);
+        commandWords.add(commandWord);
+    }
+
+    /**
+     * Returns the parser of {@code commandWord}, or an empty {@code Optional} if it is not registered.
+     */
+    public Optional<Parser<? extends Command>> getParser(String commandWord) {
+        return Optional.ofNullable(parsers.get(commandWord));
+    }
+
+    /**
+     * Returns the usage message of {@code commandWord}, or an empty {@code Optional} if it is not registered.
+     */
+    public Optional<String> getUsage(String commandWord) {
+        return Optional.ofNullable(usages.get(commandWord));
+    }
+
+    /**
+     * Returns the registered command words that start with {@code partialCommandWord}, in alphabetical order.
+     */
+    public List<String> getCommandWordsStartingWith(String partialCommandWord) {
+        requireNonNull(partialCommandWord);
+        return new ArrayList<>(commandWords.subSet(partialCommandWord, true,
+                partialCommandWord + Character.MAX_VALUE, false));
+    }
+}
@@ -11,14 +11,16 @@ import seedu.address.model.person.GroupId;
  * Parses input arguments and creates a new CreateGroupCommand object
  */
 public class CreateGroupCommandParser implements Parser<CreateGroupCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = ArgumentTokenizer.of(PREFIX_GROUP);
+
     /**
      * Parses the given {@code String} of arguments in the context of the CreateGroupCommand
      * and returns a CreateGroupCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public CreateGroupCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_GROUP);
+        ArgumentMultimap argMultimap = TOKENIZER.extractArguments(args);
         if (!argPrefixesPresent(argMultimap, PREFIX_GROUP)
             || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
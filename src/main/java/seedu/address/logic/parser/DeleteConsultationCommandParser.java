@@ -14,14 +14,15 @@ import seedu.address.model.person.Nusnetid;
  */
 public class DeleteConsultationCommandParser implements Parser<DeleteConsultationCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = ArgumentTokenizer.of(PREFIX_NUSNETID);
+
     /**
      * Parses the given {@code String} of arguments in the context of the DeleteConsultationCommand
      * and returns a DeleteConsultationCommand object for execution.
      * @throws ParseException if the user input does not conform the expected format
      */
     public DeleteConsultationCommand parse(String args) throws ParseException {
-        ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_NUSNETID);
+        ArgumentMultimap argMultimap = TOKENIZER.extractArguments(args);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NUSNETID)
                 || !argMultimap.getPreamble().isEmpty()) {
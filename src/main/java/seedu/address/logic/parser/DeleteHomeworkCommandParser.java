@@ -21,11 +21,13 @@ import seedu.address.model.person.Nusnetid;
  */
 public class DeleteHomeworkCommandParser implements Parser<DeleteHomeworkCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = ArgumentTokenizer.of(PREFIX_NUSNETID, PREFIX_ASSIGNMENT);
+
     @Override
     public DeleteHomeworkCommand parse(String args) throws ParseException {
         requireNonNull(args);
         String normalized = " " + args.trim();
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(normalized, PREFIX_NUSNETID, PREFIX_ASSIGNMENT);
+        ArgumentMultimap argMultimap = TOKENIZER.extractArguments(normalized);
         if (!arePrefixesPresent(argMultimap, PREFIX_NUSNETID, PREFIX_ASSIGNMENT)
                 || !argMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
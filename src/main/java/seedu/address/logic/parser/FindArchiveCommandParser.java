@@ -0,0 +1,29 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import seedu.address.logic.commands.FindArchiveCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FindArchiveCommand object
+ */
+public class FindArchiveCommandParser implements Parser<FindArchiveCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindArchiveCommand
+     * and returns a FindArchiveCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public FindArchiveCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindArchiveCommand.MESSAGE_USAGE));
+        }
+        return new FindArchiveCommand(Arrays.asList(trimmedArgs.split("\\s+")));
+    }
+}
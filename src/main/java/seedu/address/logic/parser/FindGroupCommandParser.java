@@ -13,6 +13,9 @@ import seedu.address.model.person.GroupId;
  * Parses input arguments and creates a new FindGroupCommand object
  */
 public class FindGroupCommandParser implements Parser<FindGroupCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = ArgumentTokenizer.of(PREFIX_GROUP);
+
     /**
      * Parses the given {@code String} of arguments in the context of the FindGroupCommand
      * and returns a FindGroupCommand object for execution.
@@ -22,7 +25,7 @@ public class FindGroupCommandParser implements Parser<FindGroupCommand> {
      */
     @Override
     public FindGroupCommand parse(String args) throws ParseException {
-        ArgumentMultimap argumentMultimap = ArgumentTokenizer.tokenize(args, PREFIX_GROUP);
+        ArgumentMultimap argumentMultimap = TOKENIZER.extractArguments(args);
         if (!arePrefixesPresent(argumentMultimap, PREFIX_GROUP)
                 || !argumentMultimap.getPreamble().isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
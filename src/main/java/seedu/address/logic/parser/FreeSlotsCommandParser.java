@@ -0,0 +1,109 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COUNT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_HOURS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.format.ResolverStyle;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.FreeSlotsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new FreeSlotsCommand object
+ */
+public class FreeSlotsCommandParser implements Parser<FreeSlotsCommand> {
+
+    public static final String MESSAGE_INVALID_DATES = "The end date must not be before the start date.";
+    public static final String MESSAGE_RANGE_TOO_LONG =
+            "The date range should cover at most " + FreeSlotsCommand.MAX_DAYS + " days.";
+    public static final String MESSAGE_INVALID_DURATION = "Duration should be a whole number of minutes, at least 1.";
+    public static final String MESSAGE_INVALID_HOURS =
+            "Working hours should be in HHmm-HHmm format, ending after they start. (Eg. 0900-1800)";
+    public static final String MESSAGE_DURATION_TOO_LONG = "The duration is longer than the working hours.";
+    public static final String MESSAGE_INVALID_COUNT =
+            "Number of slots should be a whole number from 1 to " + FreeSlotsCommand.MAX_COUNT + ".";
+
+    private static final ArgumentTokenizer TOKENIZER =
+            ArgumentTokenizer.of(PREFIX_FROM, PREFIX_TO, PREFIX_DURATION, PREFIX_HOURS, PREFIX_COUNT);
+
+    private static final DateTimeFormatter TIME_FORMATTER =
+            DateTimeFormatter.ofPattern("HHmm").withResolverStyle(ResolverStyle.STRICT);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FreeSlotsCommand
+     * and returns a FreeSlotsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public FreeSlotsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.extractArguments(args);
+        if (!argMultimap.getPreamble().isEmpty() || argMultimap.getValue(PREFIX_FROM).isEmpty()
+                || argMultimap.getValue(PREFIX_DURATION).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO, PREFIX_DURATION, PREFIX_HOURS, PREFIX_COUNT);
+
+        LocalDate startDate = ParserUtil.parseDate(argMultimap.getValue(PREFIX_FROM).get());
+        LocalDate endDate = argMultimap.getValue(PREFIX_TO).isPresent()
+                ? ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO).get())
+                : startDate;
+        if (endDate.isBefore(startDate)) {
+            throw new ParseException(MESSAGE_INVALID_DATES);
+        }
+        if (endDate.isAfter(startDate.plusDays(FreeSlotsCommand.MAX_DAYS - 1))) {
+            throw new ParseException(MESSAGE_RANGE_TOO_LONG);
+        }
+
+        String minutes = argMultimap.getValue(PREFIX_DURATION).get().trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(minutes)) {
+            throw new ParseException(MESSAGE_INVALID_DURATION);
+        }
+        Duration duration = Duration.ofMinutes(Integer.parseInt(minutes));
+
+        LocalTime dayStart = FreeSlotsCommand.DEFAULT_DAY_START;
+        LocalTime dayEnd = FreeSlotsCommand.DEFAULT_DAY_END;
+        if (argMultimap.getValue(PREFIX_HOURS).isPresent()) {
+            String[] hours = argMultimap.getValue(PREFIX_HOURS).get().trim().split("-", -1);
+            if (hours.length != 2) {
+                throw new ParseException(MESSAGE_INVALID_HOURS);
+            }
+            dayStart = parseTime(hours[0]);
+            dayEnd = parseTime(hours[1]);
+            if (!dayStart.isBefore(dayEnd)) {
+                throw new ParseException(MESSAGE_INVALID_HOURS);
+            }
+        }
+        if (Duration.between(dayStart, dayEnd).compareTo(duration) < 0) {
+            throw new ParseException(MESSAGE_DURATION_TOO_LONG);
+        }
+
+        int count = FreeSlotsCommand.DEFAULT_COUNT;
+        if (argMultimap.getValue(PREFIX_COUNT).isPresent()) {
+            String countValue = argMultimap.getValue(PREFIX_COUNT).get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(countValue)
+                    || Integer.parseInt(countValue) > FreeSlotsCommand.MAX_COUNT) {
+                throw new ParseException(MESSAGE_INVALID_COUNT);
+            }
+            count = Integer.parseInt(countValue);
+        }
+        return new FreeSlotsCommand(startDate, endDate, duration, dayStart, dayEnd, count);
+    }
+
+    private static LocalTime parseTime(String time) throws ParseException {
+        try {
+            return LocalTime.parse(time.trim(), TIME_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new ParseException(MESSAGE_INVALID_HOURS);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.commands.HelpCommand;
+
+/**
+ * Parses input arguments and creates a new HelpCommand object.
+ */
+public class HelpCommandParser implements Parser<HelpCommand> {
+
+    private final CommandParserRegistry registry;
+
+    /**
+     * Creates a {@code HelpCommandParser} that looks up usage messages in {@code registry}.
+     */
+    public HelpCommandParser(CommandParserRegistry registry) {
+        requireNonNull(registry);
+        this.registry = registry;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the HelpCommand
+     * and returns a HelpCommand object for execution.
+     * A registered command word gives a HelpCommand showing that command's usage; anything else opens the help window.
+     */
+    @Override
+    public HelpCommand parse(String args) {
+        return registry.getUsage(args.trim())
+                .map(HelpCommand::new)
+                .orElseGet(HelpCommand::new);
+    }
+}
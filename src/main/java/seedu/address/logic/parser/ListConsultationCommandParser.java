@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FROM;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import seedu.address.logic.commands.ListConsultationCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new ListConsultationCommand object
+ */
+public class ListConsultationCommandParser implements Parser<ListConsultationCommand> {
+
+    public static final String MESSAGE_INVALID_RANGE = "The end of the time range must be after its start.";
+
+    private static final ArgumentTokenizer TOKENIZER = ArgumentTokenizer.of(PREFIX_FROM, PREFIX_TO);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ListConsultationCommand
+     * and returns a ListConsultationCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ListConsultationCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = TOKENIZER.extractArguments(args);
+        if (!argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                    ListConsultationCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FROM, PREFIX_TO);
+
+        LocalDateTime from = parseBound(argMultimap.getValue(PREFIX_FROM), false).orElse(LocalDateTime.MIN);
+        LocalDateTime to = parseBound(argMultimap.getValue(PREFIX_TO), true).orElse(LocalDateTime.MAX);
+        if (!to.isAfter(from)) {
+            throw new ParseException(MESSAGE_INVALID_RANGE);
+        }
+        return new ListConsultationCommand(from, to);
+    }
+
+    /**
+     * Parses one end of the time range. A date without a time stands for the start of that day, or for the end of
+     * that day if {@code isEnd}, so that the range includes the whole day.
+     */
+    private static Optional<LocalDateTime> parseBound(Optional<String> value, boolean isEnd) throws ParseException {
+        if (value.isEmpty()) {
+            return Optional.empty();
+        }
+        String trimmedValue = value.get().trim();
+        if (!trimmedValue.matches("\\d{8}")) {
+            return Optional.of(ParserUtil.parseDateTime(trimmedValue));
+        }
+        LocalDate date = ParserUtil.parseDate(trimmedValue);
+        return Optional.of(isEnd ? date.plusDays(1).atStartOfDay() : date.atStartOfDay());
+    }
+}
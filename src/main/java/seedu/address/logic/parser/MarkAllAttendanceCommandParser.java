@@ -33,12 +33,13 @@ import seedu.address.model.person.GroupId;
  */
 public class MarkAllAttendanceCommandParser implements Parser<MarkAllAttendanceCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER = ArgumentTokenizer.of(PREFIX_GROUP, PREFIX_WEEK, PREFIX_STATUS);
+
     @Override
     public MarkAllAttendanceCommand parse(String args) throws ParseException {
         requireNonNull(args);
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_GROUP, PREFIX_WEEK,
-                PREFIX_STATUS);
+        ArgumentMultimap argMultimap = TOKENIZER.extractArguments(args);
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_GROUP, PREFIX_WEEK, PREFIX_STATUS);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_GROUP, PREFIX_WEEK, PREFIX_STATUS)
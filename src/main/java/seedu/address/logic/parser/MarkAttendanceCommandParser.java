@@ -33,12 +33,14 @@ import seedu.address.model.person.Nusnetid;
  */
 public class MarkAttendanceCommandParser implements Parser<MarkAttendanceCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER =
+            ArgumentTokenizer.of(PREFIX_NUSNETID, PREFIX_WEEK, PREFIX_STATUS);
+
     @Override
     public MarkAttendanceCommand parse(String args) throws ParseException {
         requireNonNull(args);
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
-                PREFIX_NUSNETID, PREFIX_WEEK, PREFIX_STATUS);
+        ArgumentMultimap argMultimap = TOKENIZER.extractArguments(args);
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NUSNETID, PREFIX_WEEK, PREFIX_STATUS);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NUSNETID, PREFIX_WEEK, PREFIX_STATUS)
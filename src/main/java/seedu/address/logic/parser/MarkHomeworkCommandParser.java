@@ -28,12 +28,14 @@ import seedu.address.model.person.Nusnetid;
  */
 public class MarkHomeworkCommandParser implements Parser<MarkHomeworkCommand> {
 
+    private static final ArgumentTokenizer TOKENIZER =
+            ArgumentTokenizer.of(PREFIX_NUSNETID, PREFIX_ASSIGNMENT, PREFIX_STATUS);
+
     @Override
     public MarkHomeworkCommand parse(String args) throws ParseException {
         requireNonNull(args);
 
-        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args,
-                PREFIX_NUSNETID, PREFIX_ASSIGNMENT, PREFIX_STATUS);
+        ArgumentMultimap argMultimap = TOKENIZER.extractArguments(args);
         argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NUSNETID, PREFIX_ASSIGNMENT, PREFIX_STATUS);
 
         if (!arePrefixesPresent(argMultimap, PREFIX_NUSNETID, PREFIX_ASSIGNMENT, PREFIX_STATUS)
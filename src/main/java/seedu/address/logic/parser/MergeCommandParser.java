@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_BASE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new MergeCommand object
+ */
+public class MergeCommandParser implements Parser<MergeCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = ArgumentTokenizer.of(PREFIX_FILE, PREFIX_BASE);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the MergeCommand
+     * and returns a MergeCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public MergeCommand parse(String args) throws ParseException {
+        ArgumentMultimap argumentMultimap = TOKENIZER.extractArguments(args);
+        if (!argumentMultimap.getPreamble().isEmpty() || argumentMultimap.getAllValues(PREFIX_FILE).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE));
+        }
+        argumentMultimap.verifyNoDuplicatePrefixesFor(PREFIX_BASE);
+
+        List<Path> files = new ArrayList<>();
+        for (String file : argumentMultimap.getAllValues(PREFIX_FILE)) {
+            files.add(ParserUtil.parseFilePath(file));
+        }
+        Optional<Path> ancestorFile = Optional.empty();
+        if (argumentMultimap.getValue(PREFIX_BASE).isPresent()) {
+            ancestorFile = Optional.of(ParserUtil.parseFilePath(argumentMultimap.getValue(PREFIX_BASE).get()));
+        }
+        return new MergeCommand(files, ancestorFile);
+    }
+}
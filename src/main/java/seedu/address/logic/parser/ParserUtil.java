@@ -2,6 +2,10 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -23,6 +27,7 @@ import seedu.address.model.person.Telegram;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_FILE_PATH = "File path is not valid: %1$s";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -137,6 +142,28 @@ public class ParserUtil {
             }
         }
     }
+    /**
+     * Parses a {@code String input} in yyyyMMdd format into a {@code LocalDate}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code input} is invalid.
+     */
+    public static LocalDate parseDate(String input) throws ParseException {
+        requireNonNull(input);
+        String trimmedInput = input.trim();
+        try {
+            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("uuuuMMdd")
+                    .withResolverStyle(ResolverStyle.STRICT);
+            return LocalDate.parse(trimmedInput, formatter);
+        } catch (DateTimeParseException e) {
+            if (e.getMessage().toLowerCase().contains("invalid")) {
+                throw new ParseException("Invalid date. Please ensure the date exists!");
+            } else {
+                throw new ParseException("Incorrect date format. Please use yyyyMMdd format! (Eg. 20251010)");
+            }
+        }
+    }
+
     /**
      * Parses a {@code String groupId} into a {@code GroupId}.
      * Leading and trailing whitespaces will be trimmed.
@@ -151,4 +178,23 @@ public class ParserUtil {
         }
         return new GroupId(trimmed);
     }
+
+    /**
+     * Parses a {@code String filePath} into a {@code Path}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code filePath} is empty or not a valid path.
+     */
+    public static Path parseFilePath(String filePath) throws ParseException {
+        requireNonNull(filePath);
+        String trimmed = filePath.trim();
+        if (trimmed.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE_PATH, trimmed));
+        }
+        try {
+            return Paths.get(trimmed);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(MESSAGE_INVALID_FILE_PATH, trimmed));
+        }
+    }
 }
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GROUP;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.GroupId;
+
+/**
+ * Parses input arguments and creates a new StatsCommand object
+ */
+public class StatsCommandParser implements Parser<StatsCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = ArgumentTokenizer.of(PREFIX_GROUP);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the StatsCommand
+     * and returns a StatsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public StatsCommand parse(String args) throws ParseException {
+        ArgumentMultimap argumentMultimap = TOKENIZER.extractArguments(args);
+        if (!argumentMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        }
+        argumentMultimap.verifyNoDuplicatePrefixesFor(PREFIX_GROUP);
+        if (argumentMultimap.getValue(PREFIX_GROUP).isEmpty()) {
+            return new StatsCommand();
+        }
+        GroupId groupId = ParserUtil.parseGroupId(argumentMultimap.getValue(PREFIX_GROUP).get());
+        return new StatsCommand(groupId);
+    }
+}
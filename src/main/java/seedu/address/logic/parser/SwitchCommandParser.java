@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_FILE;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import seedu.address.logic.commands.SwitchCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new SwitchCommand object
+ */
+public class SwitchCommandParser implements Parser<SwitchCommand> {
+
+    private static final ArgumentTokenizer TOKENIZER = ArgumentTokenizer.of(PREFIX_FILE);
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SwitchCommand
+     * and returns a SwitchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public SwitchCommand parse(String args) throws ParseException {
+        ArgumentMultimap argumentMultimap = TOKENIZER.extractArguments(args);
+        argumentMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FILE);
+        String module = argumentMultimap.getPreamble();
+        if (module.isEmpty()) {
+            if (argumentMultimap.getValue(PREFIX_FILE).isPresent()) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SwitchCommand.MESSAGE_USAGE));
+            }
+            return new SwitchCommand();
+        }
+        if (!SwitchCommand.isValidModule(module)) {
+            throw new ParseException(SwitchCommand.MESSAGE_CONSTRAINTS);
+        }
+
+        Optional<Path> file = Optional.empty();
+        if (argumentMultimap.getValue(PREFIX_FILE).isPresent()) {
+            file = Optional.of(ParserUtil.parseFilePath(argumentMultimap.getValue(PREFIX_FILE).get()));
+        }
+        return new SwitchCommand(module, file);
+    }
+}
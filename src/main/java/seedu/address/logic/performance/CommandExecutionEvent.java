@@ -0,0 +1,67 @@
+package seedu.address.logic.performance;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Java Flight Recorder event for one command entered by the user, from parsing until the address book is saved.
+ * When no recording is running the event is disabled and costs next to nothing.
+ */
+@Name("seedu.address.CommandExecution")
+@Label("Command Execution")
+@Category({"SoCTAssist", "Logic"})
+@Description("Parsing, execution and saving of one command")
+@StackTrace(false)
+public class CommandExecutionEvent extends Event {
+
+    @Label("Command Word")
+    private String commandWord;
+
+    @Label("Parse Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long parseDuration;
+
+    @Label("Execute Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long executeDuration;
+
+    @Label("Save Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long saveDuration;
+
+    @Label("Persons Touched")
+    @Description("Number of students added, removed or replaced by the command")
+    private long personsTouched;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    public void setCommandWord(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    public void setParseDuration(long parseDuration) {
+        this.parseDuration = parseDuration;
+    }
+
+    public void setExecuteDuration(long executeDuration) {
+        this.executeDuration = executeDuration;
+    }
+
+    public void setSaveDuration(long saveDuration) {
+        this.saveDuration = saveDuration;
+    }
+
+    public void setPersonsTouched(long personsTouched) {
+        this.personsTouched = personsTouched;
+    }
+
+    public void setSucceeded(boolean succeeded) {
+        this.succeeded = succeeded;
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.logic.performance;
+
+/**
+ * JMX view of the command latencies recorded by a {@link CommandLatencyRecorder}.
+ */
+public interface CommandLatencyMXBean {
+
+    /**
+     * Returns the command words that have been timed, in alphabetical order.
+     */
+    String[] getCommandWords();
+
+    /**
+     * Returns one line per command word and phase with the number of samples, p50, p99 and max in milliseconds.
+     */
+    String[] getSummary();
+
+    /**
+     * Returns the given percentile of {@code phase} ("parse", "execute" or "save") of {@code commandWord} in
+     * milliseconds, or 0 if it has not been timed.
+     */
+    double getMillisAtPercentile(String commandWord, String phase, double percentile);
+
+    /**
+     * Discards all recorded latencies.
+     */
+    void reset();
+}
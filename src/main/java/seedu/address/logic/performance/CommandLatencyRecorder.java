@@ -0,0 +1,116 @@
+package seedu.address.logic.performance;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+/**
+ * Records how long each phase of each command takes, per command word, in {@link LatencyHistogram}s.
+ * <p>
+ * Histograms are created the first time a command word is timed. Recording and reading are lock-free, so the
+ * command thread can record while the {@code perf} command or a JMX client reads.
+ * </p>
+ */
+public class CommandLatencyRecorder implements CommandLatencyMXBean {
+
+    public static final String MBEAN_NAME = "seedu.address:type=CommandLatency";
+    public static final String SUMMARY_FORMAT =
+            "%1$s %2$s: %3$d sample(s), p50 %4$.3f ms, p99 %5$.3f ms, max %6$.3f ms";
+
+    private static final CommandLatencyRecorder INSTANCE = new CommandLatencyRecorder();
+
+    private final ConcurrentMap<String, LatencyHistogram[]> histogramsByCommandWord = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the recorder shared by the whole app.
+     */
+    public static CommandLatencyRecorder getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records that {@code phase} of a command with {@code commandWord} took {@code nanos} nanoseconds.
+     */
+    public void record(String commandWord, CommandPhase phase, long nanos) {
+        requireAllNonNull(commandWord, phase);
+        histogramsByCommandWord.computeIfAbsent(commandWord, unused -> createHistograms())[phase.ordinal()]
+                .record(nanos);
+    }
+
+    /**
+     * Returns the histogram of {@code phase} of {@code commandWord}, or an empty {@code Optional} if the command word
+     * has not been timed.
+     */
+    public Optional<LatencyHistogram> getHistogram(String commandWord, CommandPhase phase) {
+        requireAllNonNull(commandWord, phase);
+        return Optional.ofNullable(histogramsByCommandWord.get(commandWord))
+                .map(histograms -> histograms[phase.ordinal()]);
+    }
+
+    @Override
+    public String[] getCommandWords() {
+        return histogramsByCommandWord.keySet().stream().sorted().toArray(String[]::new);
+    }
+
+    @Override
+    public String[] getSummary() {
+        List<Map.Entry<String, LatencyHistogram[]>> entries = histogramsByCommandWord.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+        List<String> lines = new ArrayList<>();
+        for (Map.Entry<String, LatencyHistogram[]> entry : entries) {
+            String commandWord = entry.getKey();
+            for (CommandPhase phase : CommandPhase.values()) {
+                LatencyHistogram histogram = entry.getValue()[phase.ordinal()];
+                if (histogram.getCount() > 0) {
+                    lines.add(String.format(SUMMARY_FORMAT, commandWord, phase, histogram.getCount(),
+                            histogram.getMillisAtPercentile(50), histogram.getMillisAtPercentile(99),
+                            histogram.getMaxMillis()));
+                }
+            }
+        }
+        return lines.toArray(String[]::new);
+    }
+
+    @Override
+    public double getMillisAtPercentile(String commandWord, String phase, double percentile) {
+        for (CommandPhase commandPhase : CommandPhase.values()) {
+            if (commandPhase.toString().equals(phase)) {
+                return getHistogram(commandWord, commandPhase)
+                        .map(histogram -> histogram.getMillisAtPercentile(percentile))
+                        .orElse(0.0);
+            }
+        }
+        throw new IllegalArgumentException("Unknown phase: " + phase);
+    }
+
+    @Override
+    public void reset() {
+        histogramsByCommandWord.clear();
+    }
+
+    /**
+     * Registers this recorder with the platform MBean server under {@link #MBEAN_NAME}.
+     *
+     * @throws JMException if the MBean could not be registered, e.g. because it is registered already.
+     */
+    public void registerMBean() throws JMException {
+        ManagementFactory.getPlatformMBeanServer().registerMBean(this, new ObjectName(MBEAN_NAME));
+    }
+
+    private static LatencyHistogram[] createHistograms() {
+        LatencyHistogram[] histograms = new LatencyHistogram[CommandPhase.values().length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+        return histograms;
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.logic.performance;
+
+/**
+ * The timed phases of executing a command.
+ */
+public enum CommandPhase {
+    PARSE("parse"),
+    EXECUTE("execute"),
+    SAVE("save");
+
+    private final String displayName;
+
+    CommandPhase(String displayName) {
+        this.displayName = displayName;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
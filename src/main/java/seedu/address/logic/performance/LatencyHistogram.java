@@ -0,0 +1,120 @@
+package seedu.address.logic.performance;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations in nanoseconds with bounded relative error, in the style of HdrHistogram.
+ * <p>
+ * Every power of two is split into {@value #SUB_BUCKETS} equally wide buckets, so a recorded value is placed in a
+ * bucket whose width is at most 1/{@value #SUB_BUCKETS} of the value. Recording is a single atomic increment plus
+ * an atomic maximum, so any number of threads may record while others read percentiles.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /** Durations are capped at 2^40 ns (about 18 minutes). */
+    private static final int MAX_EXPONENT = 40;
+    private static final long MAX_TRACKABLE_NANOS = (1L << (MAX_EXPONENT + 1)) - 1;
+    private static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    /**
+     * Records one duration of {@code nanos} nanoseconds. Negative durations are recorded as 0.
+     */
+    public void record(long nanos) {
+        long value = Math.min(Math.max(nanos, 0), MAX_TRACKABLE_NANOS);
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.incrementAndGet();
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    /**
+     * Returns the smallest recorded duration, in nanoseconds and up to the bucket width, that is at least as large as
+     * {@code percentile} percent of all recorded durations. Returns 0 if nothing has been recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        }
+        long total = totalCount.get();
+        if (total == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(bucketUpperBound(i), getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * Returns {@link #getValueAtPercentile(double)} in milliseconds.
+     */
+    public double getMillisAtPercentile(double percentile) {
+        return toMillis(getValueAtPercentile(percentile));
+    }
+
+    public double getMaxMillis() {
+        return toMillis(getMaxNanos());
+    }
+
+    /**
+     * Discards all recorded durations.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts.set(i, 0);
+        }
+        totalCount.set(0);
+        maxNanos.set(0);
+    }
+
+    private static double toMillis(long nanos) {
+        return (double) nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    /**
+     * Returns the bucket of {@code value}: values below {@code SUB_BUCKETS} have a bucket each, and every higher power
+     * of two {@code 2^e} is split into {@code SUB_BUCKETS} buckets by the bits following its leading one bit.
+     */
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the largest value that falls into bucket {@code index}.
+     */
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        long subBucket = index % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return (1L << exponent) + (subBucket + 1) * width - 1;
+    }
+}
@@ -1,10 +1,17 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javafx.collections.ObservableList;
@@ -109,6 +116,111 @@ public class AddressBook implements ReadOnlyAddressBook {
         setGroupList(newData.getGroupList());
     }
 
+    /**
+     * Changes this {@code AddressBook}, which holds the data of {@code current}, back to the data of {@code target}.
+     * Only the persons and consultations that differ between the two snapshots are replaced, and only the groups of
+     * those persons are updated, so the cost depends on how much changed rather than on the size of the roster.
+     */
+    public void restore(AddressBookSnapshot target, AddressBookSnapshot current) {
+        requireAllNonNull(target, current);
+        persons.restore(target.getPersons(), current.getPersons(), this::removeFromGroupIfPresent,
+                this::updateGroupWhenAddPerson);
+        consultations.restore(target.getConsultations(), current.getConsultations());
+
+        if (!target.getGroupIds().equals(current.getGroupIds())) {
+            setGroupIds(target.getGroupIds());
+        }
+    }
+
+    /**
+     * Changes this {@code AddressBook} to hold the same data as {@code newData}, matching persons by NUSNET ID.
+     * Unlike {@link #resetData(ReadOnlyAddressBook)}, only the persons, consultations and groups that differ are
+     * added, replaced or removed, so views of this address book only see the entries that actually changed.
+     *
+     * @return the number of persons, consultations and groups that were added, replaced or removed.
+     */
+    public int applyDifferences(ReadOnlyAddressBook newData) {
+        requireNonNull(newData);
+        int changeCount = 0;
+        Set<GroupId> oldGroupIds = groups.asUnmodifiableObservableList().stream()
+                .map(Group::getGroupId)
+                .collect(Collectors.toSet());
+
+        Map<Nusnetid, Person> newPersons = new LinkedHashMap<>();
+        for (Person person : newData.getPersonList()) {
+            newPersons.put(person.getNusnetid(), person);
+        }
+        for (Person person : persons.toArrayList()) {
+            Person newPerson = newPersons.remove(person.getNusnetid());
+            if (newPerson == null) {
+                persons.remove(person);
+                removeFromGroupIfPresent(person);
+                changeCount++;
+            } else if (!person.hasSameData(newPerson)) {
+                persons.setPerson(person, newPerson);
+                removeFromGroupIfPresent(person);
+                updateGroupWhenAddPerson(newPerson);
+                changeCount++;
+            }
+        }
+        for (Person newPerson : newPersons.values()) {
+            persons.add(newPerson);
+            updateGroupWhenAddPerson(newPerson);
+            changeCount++;
+        }
+
+        Set<Consultation> newConsultations = new HashSet<>(newData.getConsultationList());
+        for (Consultation consultation : List.copyOf(consultations.asUnmodifiableObservableList())) {
+            if (!newConsultations.remove(consultation)) {
+                consultations.remove(consultation);
+                changeCount++;
+            }
+        }
+        for (Consultation consultation : newConsultations) {
+            consultations.add(consultation);
+            changeCount++;
+        }
+
+        List<GroupId> newGroupIds = newData.getGroupList().stream()
+                .map(Group::getGroupId)
+                .collect(Collectors.toList());
+        Set<GroupId> changedGroupIds = new HashSet<>(newGroupIds);
+        changedGroupIds.removeAll(oldGroupIds);
+        oldGroupIds.removeAll(newGroupIds);
+        changedGroupIds.addAll(oldGroupIds);
+        changeCount += changedGroupIds.size();
+        // groups may also have been created above, for persons that were added or moved
+        Set<GroupId> groupIds = groups.asUnmodifiableObservableList().stream()
+                .map(Group::getGroupId)
+                .collect(Collectors.toSet());
+        if (!groupIds.equals(new HashSet<>(newGroupIds))) {
+            setGroupIds(newGroupIds);
+        }
+        return changeCount;
+    }
+
+    private void removeFromGroupIfPresent(Person person) {
+        Group group = groups.getGroup(person.getGroupId());
+        if (group != null) {
+            group.removeStudent(person.getNusnetid());
+        }
+    }
+
+    /**
+     * Replaces the group list with the groups of {@code groupIds}, in that order. Groups that already exist are kept
+     * as they are, and new groups are filled with the persons that belong to them.
+     */
+    private void setGroupIds(List<GroupId> groupIds) {
+        List<Group> newGroups = new ArrayList<>();
+        for (GroupId groupId : groupIds) {
+            Group group = groups.getGroup(groupId);
+            newGroups.add(group != null ? group : new Group(groupId, persons.toList().stream()
+                    .filter(person -> person.getGroupId().equals(groupId))
+                    .collect(Collectors.toList())));
+        }
+        groups.setGroups(newGroups);
+    }
+
     //// person-level operations
 
     /**
@@ -272,6 +384,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         return consultations.hasOverlappingConsultation(consultation);
     }
 
+    /**
+     * Returns the consultations that take place at any time from {@code from} until before {@code to}, ordered by
+     * their start time.
+     */
+    public List<Consultation> getConsultationsBetween(LocalDateTime from, LocalDateTime to) {
+        return consultations.getConsultationsBetween(from, to);
+    }
+
     /**
      * Adds a consultation to the address book.
      * The consultation must not already exist in the address book.
@@ -0,0 +1,156 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.ChunkedSnapshotList;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.Person;
+
+/**
+ * A point-in-time, read-only copy of an address book, which can be read from any thread without locking.
+ * <p>
+ * Each snapshot shares every unchanged part of its persons and consultations with the snapshot before it, so taking
+ * a snapshot after a command only copies what the command changed. Groups are not copied, since they hold mutable
+ * copies of their students; {@link #getGroupList()} rebuilds them from the persons of the snapshot instead.
+ * </p>
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private static final AddressBookSnapshot EMPTY = new AddressBookSnapshot(0, ChunkedSnapshotList.empty(),
+            ChunkedSnapshotList.empty(), ChunkedSnapshotList.empty());
+
+    private final long version;
+    private final ChunkedSnapshotList<Person> persons;
+    private final ChunkedSnapshotList<Consultation> consultations;
+    /** IDs of the groups, in the order of the address book's group list. */
+    private final ChunkedSnapshotList<GroupId> groupIds;
+
+    private AddressBookSnapshot(long version, ChunkedSnapshotList<Person> persons,
+            ChunkedSnapshotList<Consultation> consultations, ChunkedSnapshotList<GroupId> groupIds) {
+        this.version = version;
+        this.persons = persons;
+        this.consultations = consultations;
+        this.groupIds = groupIds;
+    }
+
+    /**
+     * Returns the snapshot of an empty address book, with version 0.
+     */
+    public static AddressBookSnapshot empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a snapshot of {@code addressBook} that shares every unchanged part with {@code previous}, and has the
+     * next version. Returns {@code previous} itself if {@code addressBook} has not changed since it was taken.
+     * Must be called from the thread that modifies {@code addressBook}.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook, AddressBookSnapshot previous) {
+        requireAllNonNull(addressBook, previous);
+        ChunkedSnapshotList<Person> persons =
+                ChunkedSnapshotList.copyOf(addressBook.getPersonList(), previous.persons);
+        ChunkedSnapshotList<Consultation> consultations =
+                ChunkedSnapshotList.copyOf(addressBook.getConsultationList(), previous.consultations);
+        List<GroupId> currentGroupIds = new ArrayList<>();
+        for (Group group : addressBook.getGroupList()) {
+            currentGroupIds.add(group.getGroupId());
+        }
+        ChunkedSnapshotList<GroupId> groupIds = ChunkedSnapshotList.copyOf(currentGroupIds, previous.groupIds);
+
+        if (persons == previous.persons && consultations == previous.consultations
+                && groupIds.equals(previous.groupIds)) {
+            return previous;
+        }
+        return new AddressBookSnapshot(previous.version + 1, persons, consultations, groupIds);
+    }
+
+    /**
+     * Returns a snapshot holding the data of {@code target}, with the version after that of {@code current}.
+     * Used when the address book is changed back to an earlier snapshot, so that versions keep increasing.
+     */
+    static AddressBookSnapshot restored(AddressBookSnapshot target, AddressBookSnapshot current) {
+        requireAllNonNull(target, current);
+        return new AddressBookSnapshot(current.version + 1, target.persons, target.consultations, target.groupIds);
+    }
+
+    /**
+     * Returns the number of snapshots taken before this one. A newer snapshot always has a larger version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    ChunkedSnapshotList<Person> getPersons() {
+        return persons;
+    }
+
+    ChunkedSnapshotList<Consultation> getConsultations() {
+        return consultations;
+    }
+
+    ChunkedSnapshotList<GroupId> getGroupIds() {
+        return groupIds;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+    }
+
+    @Override
+    public List<Person> getUniquePersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Consultation> getConsultationList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(consultations));
+    }
+
+    /**
+     * Returns new groups holding the persons of this snapshot, in the order of the address book's group list.
+     * The groups are built again on every call, so changing them does not change the snapshot.
+     */
+    @Override
+    public ObservableList<Group> getGroupList() {
+        Map<GroupId, List<Person>> members = new LinkedHashMap<>();
+        for (GroupId groupId : groupIds) {
+            members.put(groupId, new ArrayList<>());
+        }
+        for (Person person : persons) {
+            members.computeIfAbsent(person.getGroupId(), groupId -> new ArrayList<>()).add(person);
+        }
+        List<Group> groups = new ArrayList<>(members.size());
+        members.forEach((groupId, students) -> groups.add(new Group(groupId, students)));
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(groups));
+    }
+
+    /**
+     * Snapshots cannot be modified.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void updateGroupWhenAddPerson(Person person) {
+        throw new UnsupportedOperationException("An address book snapshot cannot be modified.");
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("version", version)
+                .add("persons", persons.size())
+                .add("consultations", consultations.size())
+                .add("groups", groupIds.size())
+                .toString();
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.model;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for a new predicate on one of the model's filtered lists, including the re-filtering.
+ */
+@Name("seedu.address.FilterChange")
+@Label("Filter Change")
+@Category({"SoCTAssist", "Model"})
+@Description("Change of the predicate of a filtered list")
+@StackTrace(false)
+public class FilterChangeEvent extends Event {
+
+    @Label("List")
+    private String list;
+
+    @Label("Predicate")
+    private String predicate;
+
+    @Label("Matched")
+    private int matchedCount;
+
+    @Label("Total")
+    private int totalCount;
+
+    public void setList(String list) {
+        this.list = list;
+    }
+
+    public void setPredicate(String predicate) {
+        this.predicate = predicate;
+    }
+
+    public void setMatchedCount(int matchedCount) {
+        this.matchedCount = matchedCount;
+    }
+
+    public void setTotalCount(int totalCount) {
+        this.totalCount = totalCount;
+    }
+}
@@ -10,6 +10,7 @@ import seedu.address.model.person.GroupId;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * Represents a Tutorial session.
@@ -39,8 +40,13 @@ public class Group {
         requireNonNull(students);
         this.groupId = groupId;
         this.students = new UniquePersonList();
-        for (Person p : students) {
-            this.students.add(p);
+        try {
+            this.students.setPersons(students);
+        } catch (DuplicatePersonException e) {
+            // keeps the first of each set of duplicates, as adding them one by one would
+            for (Person p : students) {
+                this.students.add(p);
+            }
         }
     }
 
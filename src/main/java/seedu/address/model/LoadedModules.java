@@ -0,0 +1,169 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * The address books of recently used modules other than the active one, kept in memory so that switching back to
+ * them does not read their data files again.
+ * <p>
+ * At most a given number of address books are kept, and the least recently used one is dropped to make room for
+ * another. The active module is saved after every command, so a module is never dropped with unsaved changes and
+ * is read from its data file again the next time it is used.
+ * </p>
+ * <p>
+ * Only the data file of the active module is watched for changes made outside the application. The size and
+ * modification time of a kept module's data file are therefore recorded when it is kept, and the address book is
+ * dropped instead of returned if either has changed since, for example because another TA synced their edits to the
+ * file. The module is then read from its file again, and the next save does not overwrite those edits.
+ * </p>
+ */
+public class LoadedModules {
+
+    private static final Logger logger = LogsCenter.getLogger(LoadedModules.class);
+
+    /** Address books by module name, the least recently used first. */
+    private final Map<String, LoadedModule> addressBooks = new LinkedHashMap<>(16, 0.75f, true);
+    private int capacity;
+
+    /**
+     * Creates an empty {@code LoadedModules} that keeps at most {@code capacity} address books.
+     */
+    public LoadedModules(int capacity) {
+        setCapacity(capacity);
+    }
+
+    /**
+     * Sets the number of address books kept, dropping the least recently used ones that no longer fit.
+     */
+    public void setCapacity(int capacity) {
+        checkArgument(capacity >= 0, "Number of loaded modules must not be negative.");
+        this.capacity = capacity;
+        evictExcess();
+    }
+
+    /**
+     * Returns the address book of {@code module} if it is kept and its data file has not changed since, and marks it
+     * as the most recently used. An address book whose data file has changed is no longer kept.
+     */
+    public Optional<ReadOnlyAddressBook> get(String module) {
+        requireNonNull(module);
+        LoadedModule loadedModule = addressBooks.get(module);
+        if (loadedModule == null) {
+            return Optional.empty();
+        }
+        if (!loadedModule.fileStamp.equals(FileStamp.of(loadedModule.filePath))) {
+            addressBooks.remove(module);
+            logger.info("Data file " + loadedModule.filePath + " of module " + module
+                    + " changed since it was loaded, so it will be read again");
+            return Optional.empty();
+        }
+        return Optional.of(loadedModule.addressBook);
+    }
+
+    /**
+     * Keeps {@code addressBook}, which holds the data saved in {@code filePath}, as the address book of
+     * {@code module}, and marks it as the most recently used.
+     */
+    public void put(String module, ReadOnlyAddressBook addressBook, Path filePath) {
+        requireAllNonNull(module, addressBook, filePath);
+        addressBooks.put(module, new LoadedModule(addressBook, filePath, FileStamp.of(filePath)));
+        evictExcess();
+    }
+
+    /**
+     * Stops keeping the address book of {@code module}, if it is kept.
+     */
+    public void remove(String module) {
+        requireNonNull(module);
+        addressBooks.remove(module);
+    }
+
+    /**
+     * Returns the names of the modules whose address books are kept, the least recently used first.
+     */
+    public List<String> getModules() {
+        return List.copyOf(addressBooks.keySet());
+    }
+
+    private void evictExcess() {
+        Iterator<String> leastRecentlyUsed = addressBooks.keySet().iterator();
+        while (addressBooks.size() > capacity) {
+            String module = leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+            logger.fine("Unloaded module " + module);
+        }
+    }
+
+    /**
+     * A kept address book, and the data file it was saved to as it was when the address book was kept.
+     */
+    private static class LoadedModule {
+        private final ReadOnlyAddressBook addressBook;
+        private final Path filePath;
+        private final FileStamp fileStamp;
+
+        private LoadedModule(ReadOnlyAddressBook addressBook, Path filePath, FileStamp fileStamp) {
+            this.addressBook = addressBook;
+            this.filePath = filePath;
+            this.fileStamp = fileStamp;
+        }
+    }
+
+    /**
+     * The size and modification time of a file, or neither if the file does not exist or cannot be read.
+     */
+    private static class FileStamp {
+        private static final FileStamp MISSING = new FileStamp(-1, null);
+
+        private final long size;
+        private final FileTime lastModifiedTime;
+
+        private FileStamp(long size, FileTime lastModifiedTime) {
+            this.size = size;
+            this.lastModifiedTime = lastModifiedTime;
+        }
+
+        static FileStamp of(Path filePath) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+                return new FileStamp(attributes.size(), attributes.lastModifiedTime());
+            } catch (IOException e) {
+                return MISSING;
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof FileStamp)) {
+                return false;
+            }
+            FileStamp otherStamp = (FileStamp) other;
+            return size == otherStamp.size && Objects.equals(lastModifiedTime, otherStamp.lastModifiedTime);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, lastModifiedTime);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -12,6 +14,8 @@ import seedu.address.model.person.AttendanceStatus;
 import seedu.address.model.person.GroupId;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
+import seedu.address.model.statistics.GroupStatistics;
+import seedu.address.model.watchlist.WatchlistEntry;
 
 /**
  * The API of the Model component.
@@ -61,9 +65,77 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Returns the address book of {@code module} if it is still in memory from when the module was last active, and
+     * its data file has not been changed outside the application since.
+     */
+    Optional<ReadOnlyAddressBook> getLoadedModule(String module);
+
+    /**
+     * Makes {@code module}, whose data file is {@code filePath}, the active module with the data in
+     * {@code addressBook}. The address book of the module that was active is kept in memory for a later switch back,
+     * and the undo history is cleared, since it belongs to the module that was active.
+     */
+    void switchModule(String module, Path filePath, ReadOnlyAddressBook addressBook);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Changes the address book to hold the data of {@code addressBook}, adding, replacing or removing only the
+     * persons, consultations and groups that differ. Persons are matched by NUSNET ID.
+     *
+     * @return the number of entries that were added, replaced or removed.
+     */
+    int applyAddressBookDifferences(ReadOnlyAddressBook addressBook);
+
+    /**
+     * Publishes the current state of the address book as the latest snapshot, if it changed since the last commit.
+     * Must be called from the thread that modifies the address book, once a command has finished modifying it.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns the snapshot published by the latest {@link #commitAddressBook()}, or of the initial address book if
+     * nothing has been committed. Can be called from any thread, and never waits for a command to finish.
+     */
+    AddressBookSnapshot getAddressBookSnapshot();
+
+    /**
+     * Commits the address book and forgets the versions that undo and redo could change to, so that neither can go
+     * back past the current data.
+     */
+    void clearAddressBookHistory();
+
+    /**
+     * Changes the address book back to the snapshot published by the latest {@link #commitAddressBook()}, dropping
+     * the changes made since then. Used when a command fails after changing the address book, so that its partial
+     * change is neither kept nor folded into the undo entry of the next command.
+     */
+    void discardAddressBookChanges();
+
+    /**
+     * Returns true if there is an earlier committed version of the address book to change back to.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone version of the address book to change forward to.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Changes the address book back to the version committed before the latest change.
+     * There must be such a version, as reported by {@link #canUndoAddressBook()}.
+     */
+    void undoAddressBook();
+
+    /**
+     * Changes the address book forward to the version undone by the latest {@link #undoAddressBook()}.
+     * There must be such a version, as reported by {@link #canRedoAddressBook()}.
+     */
+    void redoAddressBook();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -217,6 +289,18 @@ public interface Model {
      */
     void updateFilteredConsultationList(Predicate<Consultation> predicate);
 
+    /**
+     * Updates the filtered consultation list to show the consultations that take place at any time from {@code from}
+     * until before {@code to}.
+     */
+    void updateFilteredConsultationList(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Returns the consultations that take place at any time from {@code from} until before {@code to}, ordered by
+     * their start time.
+     */
+    List<Consultation> getConsultationsBetween(LocalDateTime from, LocalDateTime to);
+
     /**
      * Adds the given consultation to the person identified by the given nusnetid.
      */
@@ -250,4 +334,15 @@ public interface Model {
      * The implementation should update any Consultation objects that reference the old nusnetid to use the new one.
      */
     void updateConsultationsForEditedPerson(Nusnetid oldNusnetid, Nusnetid newNusnetid);
+
+    /**
+     * Returns the attendance and homework statistics of the group identified by {@code groupId},
+     * or an empty {@code Optional} if the group has no students.
+     */
+    Optional<GroupStatistics> getGroupStatistics(GroupId groupId);
+
+    /**
+     * Returns an unmodifiable view of the at-risk students, most severe first.
+     */
+    ObservableList<WatchlistEntry> getWatchlist();
 }
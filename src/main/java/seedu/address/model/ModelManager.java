@@ -4,15 +4,22 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddHomeworkCommand;
@@ -25,6 +32,13 @@ import seedu.address.model.person.GroupId;
 import seedu.address.model.person.HomeworkTracker;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
+import seedu.address.model.statistics.GroupStatistics;
+import seedu.address.model.statistics.RosterStatistics;
+import seedu.address.model.watchlist.AbsenceRule;
+import seedu.address.model.watchlist.HomeworkRule;
+import seedu.address.model.watchlist.Watchlist;
+import seedu.address.model.watchlist.WatchlistEntry;
+import seedu.address.model.watchlist.WatchlistRule;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -32,11 +46,35 @@ import seedu.address.model.person.Person;
 public class ModelManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
     private static final String MESSAGE_STUDENT_NOT_FOUND = "Student not found.";
+    /** Order of the shown consultations, which is the order of the time index of the address book. */
+    private static final Comparator<Consultation> CONSULTATION_ORDER =
+            Comparator.comparing(Consultation::getFrom).thenComparing(Consultation::getTo);
+    /** Changes to more consultations than this at once are shown by querying the shown range again. */
+    private static final int MAX_INCREMENTAL_CONSULTATION_CHANGE = 64;
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
-    private final FilteredList<Consultation> filteredConsultations;
-    private final SortedList<Consultation> sortedConsultations;
+    /**
+     * The shown consultations in time order, found through the time index of the address book when the range or
+     * predicate changes, and kept up to date one consultation at a time as the address book changes.
+     */
+    private final ObservableList<Consultation> shownConsultations = FXCollections.observableArrayList();
+    private final ObservableList<Consultation> unmodifiableShownConsultations =
+            FXCollections.unmodifiableObservableList(shownConsultations);
+    private Predicate<Consultation> consultationPredicate = PREDICATE_SHOW_ALL_CONSULTATIONS;
+    private LocalDateTime shownFrom = LocalDateTime.MIN;
+    private LocalDateTime shownTo = LocalDateTime.MAX;
+    private final RosterStatistics rosterStatistics;
+    private final Watchlist watchlist;
+    private final AtomicReference<AddressBookSnapshot> snapshot = new AtomicReference<>();
+    private boolean hasUncommittedChanges;
+    /** Earlier snapshots that undo can restore, the most recent first. */
+    private final Deque<AddressBookSnapshot> undoHistory = new ArrayDeque<>();
+    /** Snapshots undone since the last command that changed the address book, the most recently undone first. */
+    private final Deque<AddressBookSnapshot> redoHistory = new ArrayDeque<>();
+    /** Address books of the modules used before the active one. */
+    private final LoadedModules loadedModules;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -48,10 +86,18 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        filteredConsultations = new FilteredList<>(this.addressBook.getConsultationList());
-        sortedConsultations = new SortedList<>(filteredConsultations);
-        // Set comparator to sort by start time
-        sortedConsultations.setComparator(Comparator.comparing(Consultation::getFrom));
+        refreshShownConsultations();
+        rosterStatistics = new RosterStatistics(this.addressBook.getPersonList());
+        watchlist = new Watchlist(this.addressBook.getPersonList(), createWatchlistRules(this.userPrefs));
+        // the active module is loaded too
+        loadedModules = new LoadedModules(this.userPrefs.getMaxLoadedModules() - 1);
+
+        snapshot.set(AddressBookSnapshot.of(this.addressBook, AddressBookSnapshot.empty()));
+        ListChangeListener<Object> changeListener = change -> hasUncommittedChanges = true;
+        this.addressBook.getPersonList().addListener(changeListener);
+        this.addressBook.getConsultationList().addListener(changeListener);
+        this.addressBook.getConsultationList().addListener(this::updateShownConsultations);
+        this.addressBook.getGroupList().addListener(changeListener);
     }
 
     public ModelManager() {
@@ -64,6 +110,8 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        watchlist.setRules(createWatchlistRules(this.userPrefs));
+        loadedModules.setCapacity(this.userPrefs.getMaxLoadedModules() - 1);
     }
 
     @Override
@@ -105,6 +153,130 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public Optional<ReadOnlyAddressBook> getLoadedModule(String module) {
+        return loadedModules.get(module);
+    }
+
+    @Override
+    public void switchModule(String module, Path filePath, ReadOnlyAddressBook addressBook) {
+        requireAllNonNull(module, filePath, addressBook);
+        commitAddressBook();
+        // the snapshot cannot change, unlike the address book, which is about to be reused for the new module
+        loadedModules.put(userPrefs.getActiveModule(), snapshot.get(), userPrefs.getAddressBookFilePath());
+        loadedModules.remove(module);
+        userPrefs.setActiveModule(module, filePath);
+
+        this.addressBook.resetData(addressBook);
+        clearAddressBookHistory();
+        logger.info("Switched to module " + module + " at " + filePath);
+    }
+
+    @Override
+    public int applyAddressBookDifferences(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        return this.addressBook.applyDifferences(addressBook);
+    }
+
+    @Override
+    public void commitAddressBook() {
+        if (!hasUncommittedChanges) {
+            return;
+        }
+        hasUncommittedChanges = false;
+        AddressBookSnapshot previous = snapshot.get();
+        AddressBookSnapshot committed = AddressBookSnapshot.of(addressBook, previous);
+        if (committed == previous) {
+            return;
+        }
+        snapshot.set(committed);
+        pushHistory(undoHistory, previous);
+        redoHistory.clear();
+        logger.fine("Committed address book version " + committed.getVersion());
+    }
+
+    @Override
+    public void clearAddressBookHistory() {
+        commitAddressBook();
+        undoHistory.clear();
+        redoHistory.clear();
+    }
+
+    @Override
+    public void discardAddressBookChanges() {
+        if (!hasUncommittedChanges) {
+            return;
+        }
+        AddressBookSnapshot committed = snapshot.get();
+        AddressBookSnapshot changed = AddressBookSnapshot.of(addressBook, committed);
+        if (changed != committed) {
+            addressBook.restore(committed, changed);
+        }
+        hasUncommittedChanges = false;
+        logger.fine("Discarded the changes made since address book version " + committed.getVersion());
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        commitAddressBook();
+        return !undoHistory.isEmpty();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        commitAddressBook();
+        return !redoHistory.isEmpty();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        if (!canUndoAddressBook()) {
+            throw new IllegalStateException("There is no change to undo.");
+        }
+        AddressBookSnapshot current = snapshot.get();
+        restoreAddressBook(undoHistory.pop(), current);
+        pushHistory(redoHistory, current);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        if (!canRedoAddressBook()) {
+            throw new IllegalStateException("There is no undone change to redo.");
+        }
+        AddressBookSnapshot current = snapshot.get();
+        restoreAddressBook(redoHistory.pop(), current);
+        pushHistory(undoHistory, current);
+    }
+
+    /**
+     * Changes the address book, which holds the data of {@code current}, back to the data of {@code target}, and
+     * publishes it as a new snapshot.
+     */
+    private void restoreAddressBook(AddressBookSnapshot target, AddressBookSnapshot current) {
+        addressBook.restore(target, current);
+        AddressBookSnapshot restored = AddressBookSnapshot.restored(target, current);
+        snapshot.set(restored);
+        hasUncommittedChanges = false;
+        logger.fine("Restored address book version " + target.getVersion() + " as version "
+                + restored.getVersion());
+    }
+
+    /**
+     * Pushes {@code addressBookSnapshot} onto {@code history}, dropping the oldest snapshots that do not fit in the
+     * undo history depth of the user prefs.
+     */
+    private void pushHistory(Deque<AddressBookSnapshot> history, AddressBookSnapshot addressBookSnapshot) {
+        history.push(addressBookSnapshot);
+        while (history.size() > userPrefs.getUndoHistoryDepth()) {
+            history.removeLast();
+        }
+    }
+
+    @Override
+    public AddressBookSnapshot getAddressBookSnapshot() {
+        return snapshot.get();
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -214,7 +386,12 @@ public class ModelManager implements Model {
         requireAllNonNull(groupId, status);
         Group targetGroup = getGroup(groupId);
         ArrayList<Person> studentsInGroup = targetGroup.getAllPersons();
-        for (Person targetStudent: studentsInGroup) {
+        for (Person groupMember: studentsInGroup) {
+            // The group may hold an older copy of the student, e.g. from before their homework was updated
+            Person targetStudent = findPerson(groupMember.getNusnetid());
+            if (targetStudent == null) {
+                continue;
+            }
             AttendanceSheet updatedSheet = new AttendanceSheet();
             for (Attendance attendance : targetStudent.getAttendanceSheet().getAttendanceList()) {
                 updatedSheet.markAttendance(attendance.getWeek(), attendance.getAttendanceStatus());
@@ -232,7 +409,7 @@ public class ModelManager implements Model {
                     targetStudent.getConsultation());
 
             setPerson(targetStudent, updatedStudent);
-            targetGroup.setPerson(targetStudent, updatedStudent);
+            targetGroup.setPerson(groupMember, updatedStudent);
         }
 
         Predicate<Person> predicate = person -> person.getGroupId().equals(groupId);
@@ -322,7 +499,7 @@ public class ModelManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        setPredicate("persons", filteredPersons, predicate);
     }
 
     @Override
@@ -450,6 +627,26 @@ public class ModelManager implements Model {
         return addressBook.getGroupList();
     }
 
+    //=========== Statistics =================================================================================
+
+    @Override
+    public Optional<GroupStatistics> getGroupStatistics(GroupId groupId) {
+        requireNonNull(groupId);
+        return rosterStatistics.getGroupStatistics(groupId);
+    }
+
+    //=========== Watchlist ==================================================================================
+
+    @Override
+    public ObservableList<WatchlistEntry> getWatchlist() {
+        return watchlist.asUnmodifiableObservableList();
+    }
+
+    private static List<WatchlistRule> createWatchlistRules(ReadOnlyUserPrefs userPrefs) {
+        return List.of(new AbsenceRule(userPrefs.getWatchlistAbsenceThreshold()),
+                new HomeworkRule(userPrefs.getWatchlistHomeworkThreshold()));
+    }
+
     //=========== Filtered Consultation List Accessors =============================================================
     /**
      * Returns an unmodifiable view of the list of {@code Consultation} backed by the internal list of
@@ -457,13 +654,119 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Consultation> getFilteredConsultationList() {
-        return sortedConsultations;
+        return unmodifiableShownConsultations;
     }
 
     @Override
     public void updateFilteredConsultationList(Predicate<Consultation> predicate) {
         requireNonNull(predicate);
-        filteredConsultations.setPredicate(predicate);
+        showConsultations(LocalDateTime.MIN, LocalDateTime.MAX, predicate);
+    }
+
+    @Override
+    public void updateFilteredConsultationList(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        showConsultations(from, to, PREDICATE_SHOW_ALL_CONSULTATIONS);
+    }
+
+    @Override
+    public List<Consultation> getConsultationsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        return addressBook.getConsultationsBetween(from, to);
+    }
+
+    /**
+     * Shows the consultations from {@code from} until before {@code to} that match {@code predicate}, and reports the
+     * change as a {@code FilterChangeEvent}.
+     */
+    private void showConsultations(LocalDateTime from, LocalDateTime to, Predicate<Consultation> predicate) {
+        FilterChangeEvent event = new FilterChangeEvent();
+        event.begin();
+        // the shown consultations are kept up to date, so they only need to be found again for a different view
+        if (!from.equals(shownFrom) || !to.equals(shownTo) || predicate != consultationPredicate) {
+            shownFrom = from;
+            shownTo = to;
+            consultationPredicate = predicate;
+            refreshShownConsultations();
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.setList("consultations");
+            event.setPredicate(from + " to " + to + ", " + predicate);
+            event.setMatchedCount(shownConsultations.size());
+            event.setTotalCount(addressBook.getConsultationList().size());
+            event.commit();
+        }
+    }
+
+    /**
+     * Shows the consultations in the shown time range that match the shown predicate. Only the consultations in the
+     * time range are looked at, so a range as short as a day stays cheap however many consultations there are.
+     */
+    private void refreshShownConsultations() {
+        List<Consultation> consultations = new ArrayList<>();
+        for (Consultation consultation : addressBook.getConsultationsBetween(shownFrom, shownTo)) {
+            if (consultationPredicate.test(consultation)) {
+                consultations.add(consultation);
+            }
+        }
+        if (!consultations.equals(shownConsultations)) {
+            shownConsultations.setAll(consultations);
+        }
+    }
+
+    /**
+     * Applies {@code change} of the consultations of the address book to the shown consultations, inserting or
+     * removing each consultation at its place in time order. A change to many consultations at once, such as
+     * replacing all of them, queries the shown range again instead.
+     */
+    private void updateShownConsultations(ListChangeListener.Change<? extends Consultation> change) {
+        while (change.next()) {
+            if (change.wasPermutated()
+                    || change.getRemovedSize() + change.getAddedSize() > MAX_INCREMENTAL_CONSULTATION_CHANGE) {
+                refreshShownConsultations();
+                return;
+            }
+            for (Consultation removed : change.getRemoved()) {
+                int index = Collections.binarySearch(shownConsultations, removed, CONSULTATION_ORDER);
+                if (index >= 0 && shownConsultations.get(index).equals(removed)) {
+                    shownConsultations.remove(index);
+                }
+            }
+            for (Consultation added : change.getAddedSubList()) {
+                if (!isShown(added)) {
+                    continue;
+                }
+                int index = Collections.binarySearch(shownConsultations, added, CONSULTATION_ORDER);
+                if (index >= 0) {
+                    shownConsultations.set(index, added);
+                } else {
+                    shownConsultations.add(-index - 1, added);
+                }
+            }
+        }
+    }
+
+    private boolean isShown(Consultation consultation) {
+        return consultation.getFrom().isBefore(shownTo) && consultation.getTo().isAfter(shownFrom)
+                && consultationPredicate.test(consultation);
+    }
+
+    /**
+     * Sets {@code predicate} on {@code filteredList} and reports the change as a {@code FilterChangeEvent}.
+     */
+    private static <T> void setPredicate(String listName, FilteredList<T> filteredList, Predicate<T> predicate) {
+        FilterChangeEvent event = new FilterChangeEvent();
+        event.begin();
+        filteredList.setPredicate(predicate);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setList(listName);
+            event.setPredicate(predicate.toString());
+            event.setMatchedCount(filteredList.size());
+            event.setTotalCount(filteredList.getSource().size());
+            event.commit();
+        }
     }
 
     @Override
@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Map;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,4 +14,22 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /** Returns the data files of all modules by name, including the active module. */
+    Map<String, Path> getModules();
+
+    /** Returns the name of the module whose data file is {@link #getAddressBookFilePath()}. */
+    String getActiveModule();
+
+    /** Returns the number of modules whose address books may be kept in memory at once, including the active one. */
+    int getMaxLoadedModules();
+
+    /** Returns the number of absences at which a student is put on the watchlist. */
+    int getWatchlistAbsenceThreshold();
+
+    /** Returns the number of incomplete or late homework at which a student is put on the watchlist. */
+    int getWatchlistHomeworkThreshold();
+
+    /** Returns the number of earlier versions of the address book that can be restored with undo. */
+    int getUndoHistoryDepth();
+
 }
@@ -1,9 +1,14 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
@@ -13,8 +18,18 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /** Name of the module whose data is in the default data file. */
+    public static final String DEFAULT_MODULE = "main";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    /** Data files of the modules, by name. The active module's file is {@code addressBookFilePath} instead. */
+    private Map<String, Path> modules = new LinkedHashMap<>();
+    private String activeModule = DEFAULT_MODULE;
+    private int maxLoadedModules = 3;
+    private int watchlistAbsenceThreshold = 3;
+    private int watchlistHomeworkThreshold = 2;
+    private int undoHistoryDepth = 50;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -35,7 +50,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     public void resetData(ReadOnlyUserPrefs newUserPrefs) {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
+        setModules(newUserPrefs.getModules());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        activeModule = requireNonNull(newUserPrefs.getActiveModule());
+        setMaxLoadedModules(newUserPrefs.getMaxLoadedModules());
+        setWatchlistAbsenceThreshold(newUserPrefs.getWatchlistAbsenceThreshold());
+        setWatchlistHomeworkThreshold(newUserPrefs.getWatchlistHomeworkThreshold());
+        setUndoHistoryDepth(newUserPrefs.getUndoHistoryDepth());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +77,72 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    /**
+     * Returns the data files of all modules by name, including the active module.
+     */
+    public Map<String, Path> getModules() {
+        Map<String, Path> allModules = new LinkedHashMap<>(modules);
+        allModules.put(activeModule, addressBookFilePath);
+        return Collections.unmodifiableMap(allModules);
+    }
+
+    public void setModules(Map<String, Path> modules) {
+        requireNonNull(modules);
+        this.modules = new LinkedHashMap<>(modules);
+    }
+
+    public String getActiveModule() {
+        return activeModule;
+    }
+
+    /**
+     * Makes {@code module}, whose data is in {@code filePath}, the active module, and keeps the module that was active
+     * in the list of modules.
+     */
+    public void setActiveModule(String module, Path filePath) {
+        requireAllNonNull(module, filePath);
+        modules.put(activeModule, addressBookFilePath);
+        modules.put(module, filePath);
+        activeModule = module;
+        addressBookFilePath = filePath;
+    }
+
+    public int getMaxLoadedModules() {
+        return maxLoadedModules;
+    }
+
+    public void setMaxLoadedModules(int maxLoadedModules) {
+        checkArgument(maxLoadedModules > 0, "Maximum number of loaded modules must be positive.");
+        this.maxLoadedModules = maxLoadedModules;
+    }
+
+    public int getWatchlistAbsenceThreshold() {
+        return watchlistAbsenceThreshold;
+    }
+
+    public void setWatchlistAbsenceThreshold(int watchlistAbsenceThreshold) {
+        checkArgument(watchlistAbsenceThreshold > 0, "Watchlist absence threshold must be positive.");
+        this.watchlistAbsenceThreshold = watchlistAbsenceThreshold;
+    }
+
+    public int getWatchlistHomeworkThreshold() {
+        return watchlistHomeworkThreshold;
+    }
+
+    public void setWatchlistHomeworkThreshold(int watchlistHomeworkThreshold) {
+        checkArgument(watchlistHomeworkThreshold > 0, "Watchlist homework threshold must be positive.");
+        this.watchlistHomeworkThreshold = watchlistHomeworkThreshold;
+    }
+
+    public int getUndoHistoryDepth() {
+        return undoHistoryDepth;
+    }
+
+    public void setUndoHistoryDepth(int undoHistoryDepth) {
+        checkArgument(undoHistoryDepth >= 0, "Undo history depth must not be negative.");
+        this.undoHistoryDepth = undoHistoryDepth;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +156,19 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && getModules().equals(otherUserPrefs.getModules())
+                && activeModule.equals(otherUserPrefs.activeModule)
+                && maxLoadedModules == otherUserPrefs.maxLoadedModules
+                && watchlistAbsenceThreshold == otherUserPrefs.watchlistAbsenceThreshold
+                && watchlistHomeworkThreshold == otherUserPrefs.watchlistHomeworkThreshold
+                && undoHistoryDepth == otherUserPrefs.undoHistoryDepth;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, getModules(), activeModule, maxLoadedModules,
+                watchlistAbsenceThreshold, watchlistHomeworkThreshold, undoHistoryDepth);
     }
 
     @Override
@@ -82,6 +176,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nActive module : " + activeModule + " of " + getModules().keySet()
+                + ", at most " + maxLoadedModules + " loaded");
+        sb.append("\nWatchlist thresholds : " + watchlistAbsenceThreshold + " absences, "
+                + watchlistHomeworkThreshold + " incomplete/late homework");
+        sb.append("\nUndo history depth : " + undoHistoryDepth);
         return sb.toString();
     }
 
@@ -3,11 +3,17 @@ package seedu.address.model.event;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ChunkedSnapshotList;
 import seedu.address.model.event.exceptions.ConsultationNotFoundException;
 import seedu.address.model.event.exceptions.DuplicateConsultationException;
 
@@ -20,6 +26,11 @@ import seedu.address.model.event.exceptions.DuplicateConsultationException;
  * as to ensure that the consultation with exactly the same fields will be removed.
  *
  * Supports a minimal set of list operations.
+ * <p>
+ * The consultations are also indexed by their start time, so that the consultations within a time range, e.g. a day
+ * or a week, are found without going through every consultation. The index is updated before the list, so listeners
+ * of the list can already query it.
+ * </p>
  *
  * @see Consultation#isSameConsultation(Consultation)
  */
@@ -28,13 +39,18 @@ public class UniqueConsultationList implements Iterable<Consultation> {
     private final ObservableList<Consultation> internalList = FXCollections.observableArrayList();
     private final ObservableList<Consultation> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    /** The consultations in the list by start time. */
+    private final NavigableMap<LocalDateTime, List<Consultation>> timeline = new TreeMap<>();
+    /** At least the duration of the longest consultation in the list, which bounds how early an overlap can start. */
+    private Duration longestDuration = Duration.ZERO;
 
     /**
      * Returns true if the list contains an equivalent consultation as the given argument.
      */
     public boolean contains(Consultation toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameConsultation);
+        List<Consultation> sameStart = timeline.get(toCheck.getFrom());
+        return sameStart != null && sameStart.stream().anyMatch(toCheck::isSameConsultation);
     }
 
     /**
@@ -42,7 +58,31 @@ public class UniqueConsultationList implements Iterable<Consultation> {
      */
     public boolean hasOverlappingConsultation(Consultation toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isOverlappingConsultation);
+        return !getConsultationsBetween(toCheck.getFrom(), toCheck.getTo()).isEmpty();
+    }
+
+    /**
+     * Returns the consultations that take place at any time from {@code from} until before {@code to}, ordered by
+     * their start time, and then by their end time.
+     */
+    public List<Consultation> getConsultationsBetween(LocalDateTime from, LocalDateTime to) {
+        requireAllNonNull(from, to);
+        List<Consultation> consultations = new ArrayList<>();
+        if (!to.isAfter(from)) {
+            return consultations;
+        }
+        // a consultation that started before from can only still be going on if it started recently enough
+        LocalDateTime earliestStart = from.isAfter(LocalDateTime.MIN.plus(longestDuration))
+                ? from.minus(longestDuration)
+                : LocalDateTime.MIN;
+        for (List<Consultation> sameStart : timeline.subMap(earliestStart, true, to, false).values()) {
+            for (Consultation consultation : sameStart) {
+                if (consultation.getTo().isAfter(from)) {
+                    consultations.add(consultation);
+                }
+            }
+        }
+        return consultations;
     }
 
     /**
@@ -54,6 +94,7 @@ public class UniqueConsultationList implements Iterable<Consultation> {
         if (contains(toAdd)) {
             throw new DuplicateConsultationException();
         }
+        addToTimeline(toAdd);
         internalList.add(toAdd);
     }
 
@@ -74,6 +115,8 @@ public class UniqueConsultationList implements Iterable<Consultation> {
             throw new DuplicateConsultationException();
         }
 
+        removeFromTimeline(target);
+        addToTimeline(editedConsultation);
         internalList.set(index, editedConsultation);
     }
 
@@ -83,14 +126,17 @@ public class UniqueConsultationList implements Iterable<Consultation> {
      */
     public void remove(Consultation toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new ConsultationNotFoundException();
         }
+        removeFromTimeline(internalList.get(index));
+        internalList.remove(index);
     }
 
     public void setConsultations(UniqueConsultationList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        setConsultations(replacement.internalList);
     }
 
     /**
@@ -99,12 +145,49 @@ public class UniqueConsultationList implements Iterable<Consultation> {
      */
     public void setConsultations(List<Consultation> consultations) {
         requireAllNonNull(consultations);
-        if (!consultationsAreUnique(consultations)) {
-            throw new DuplicateConsultationException();
+        UniqueConsultationList replacement = new UniqueConsultationList();
+        for (Consultation consultation : consultations) {
+            if (replacement.contains(consultation)) {
+                throw new DuplicateConsultationException();
+            }
+            replacement.addToTimeline(consultation);
         }
+        timeline.clear();
+        timeline.putAll(replacement.timeline);
+        longestDuration = replacement.longestDuration;
         internalList.setAll(consultations);
     }
 
+    /**
+     * Changes this list, which holds the consultations of {@code current}, back to the consultations of
+     * {@code target}, replacing only the consultations that differ.
+     */
+    public void restore(ChunkedSnapshotList<Consultation> target, ChunkedSnapshotList<Consultation> current) {
+        target.restoreInto(internalList, current, this::removeFromTimeline, this::addToTimeline);
+    }
+
+    private void addToTimeline(Consultation consultation) {
+        List<Consultation> sameStart = timeline.computeIfAbsent(consultation.getFrom(), from -> new ArrayList<>(1));
+        // consultations that start together are kept in order of their end, so the index has a fixed order
+        int index = 0;
+        while (index < sameStart.size() && sameStart.get(index).getTo().isBefore(consultation.getTo())) {
+            index++;
+        }
+        sameStart.add(index, consultation);
+        Duration duration = Duration.between(consultation.getFrom(), consultation.getTo());
+        if (duration.compareTo(longestDuration) > 0) {
+            longestDuration = duration;
+        }
+    }
+
+    private void removeFromTimeline(Consultation consultation) {
+        List<Consultation> sameStart = timeline.get(consultation.getFrom());
+        sameStart.remove(consultation);
+        if (sameStart.isEmpty()) {
+            timeline.remove(consultation.getFrom());
+        }
+    }
+
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
@@ -114,7 +197,7 @@ public class UniqueConsultationList implements Iterable<Consultation> {
 
     @Override
     public Iterator<Consultation> iterator() {
-        return internalList.iterator();
+        return internalUnmodifiableList.iterator();
     }
 
     @Override
@@ -142,18 +225,4 @@ public class UniqueConsultationList implements Iterable<Consultation> {
     public String toString() {
         return internalList.toString();
     }
-
-    /**
-     * Returns true if {@code consultations} contains only unique consultations.
-     */
-    private boolean consultationsAreUnique(List<Consultation> consultations) {
-        for (int i = 0; i < consultations.size() - 1; i++) {
-            for (int j = i + 1; j < consultations.size(); j++) {
-                if (consultations.get(i).isSameConsultation(consultations.get(j))) {
-                    return false;
-                }
-            }
-        }
-        return true;
-    }
 }
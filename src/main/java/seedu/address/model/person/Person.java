@@ -255,6 +255,17 @@ public class Person {
         return consultation.isPresent();
     }
 
+    /**
+     * Returns true if both persons hold the same data, including their attendance and consultation, which
+     * {@link #equals(Object)} does not compare.
+     */
+    public boolean hasSameData(Person other) {
+        return other == this
+                || equals(other)
+                && attendanceSheet.getAttendanceList().equals(other.attendanceSheet.getAttendanceList())
+                && consultation.equals(other.consultation);
+    }
+
     /**
      * Returns true if both persons have the same identity and data fields.
      * This defines a stronger notion of equality between two persons.
@@ -6,11 +6,15 @@ import static seedu.address.logic.commands.AddConsultationCommand.MESSAGE_STUDEN
 import static seedu.address.logic.commands.DeleteConsultationCommand.MESSAGE_STUDENT_DOES_NOT_HAVE_CONSULTATION;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.ChunkedSnapshotList;
 import seedu.address.model.event.Consultation;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -116,6 +120,16 @@ public class UniquePersonList implements Iterable<Person> {
         internalList.setAll(persons);
     }
 
+    /**
+     * Changes this list, which holds the persons of {@code current}, back to the persons of {@code target}, replacing
+     * only the persons that differ. {@code onRemoved} and {@code onAdded} are called with every person taken out of
+     * and put into this list.
+     */
+    public void restore(ChunkedSnapshotList<Person> target, ChunkedSnapshotList<Person> current,
+            Consumer<Person> onRemoved, Consumer<Person> onAdded) {
+        target.restoreInto(internalList, current, onRemoved, onAdded);
+    }
+
     /**
      * Adds the given {@consultation} to the person identified by the given {@nusnetid}.
      * The person must not already have an existing consultation.
@@ -198,13 +212,19 @@ public class UniquePersonList implements Iterable<Person> {
 
     /**
      * Returns true if {@code persons} contains only unique persons.
+     * Since {@link Person#isSamePerson(Person)} matches persons that share any one of their NUSNET ID, Telegram handle,
+     * phone number or email, this only needs to look each of them up once, in linear time.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Nusnetid> nusnetids = new HashSet<>();
+        Set<Telegram> telegrams = new HashSet<>();
+        Set<Phone> phones = new HashSet<>();
+        Set<Email> emails = new HashSet<>();
+        for (Person person : persons) {
+            if (!nusnetids.add(person.getNusnetid()) || !telegrams.add(person.getTelegram())
+                    || !person.getPhone().map(phones::add).orElse(true)
+                    || !person.getEmail().map(emails::add).orElse(true)) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,173 @@
+package seedu.address.model.statistics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.HomeworkTracker;
+
+/**
+ * An immutable snapshot of the attendance and homework counters of one tutorial group.
+ * Instances are produced by {@link RosterStatistics} and never change after creation.
+ */
+public class GroupStatistics {
+
+    public static final int FIRST_WEEK = 2;
+    public static final int LAST_WEEK = 13;
+    public static final int NUMBER_OF_WEEKS = LAST_WEEK - FIRST_WEEK + 1;
+
+    private final GroupId groupId;
+    private final int studentCount;
+    /** Indexed by [week - FIRST_WEEK][AttendanceStatus.ordinal()]. */
+    private final int[][] attendanceCounts;
+    /** Indexed by [assignmentId][HomeworkStatusIndex]. */
+    private final int[][] homeworkCounts;
+
+    /**
+     * Creates a snapshot from the given counters. The arrays are copied defensively.
+     */
+    GroupStatistics(GroupId groupId, int studentCount, int[][] attendanceCounts, int[][] homeworkCounts) {
+        requireNonNull(groupId);
+        this.groupId = groupId;
+        this.studentCount = studentCount;
+        this.attendanceCounts = deepCopy(attendanceCounts);
+        this.homeworkCounts = deepCopy(homeworkCounts);
+    }
+
+    /**
+     * Returns an empty snapshot for a group that has no students.
+     */
+    public static GroupStatistics empty(GroupId groupId) {
+        return new GroupStatistics(groupId, 0,
+                new int[NUMBER_OF_WEEKS][AttendanceStatus.values().length],
+                new int[HomeworkTracker.MAX_ASSIGNMENTS + 1][HomeworkStatusIndex.COUNT]);
+    }
+
+    public GroupId getGroupId() {
+        return groupId;
+    }
+
+    public int getStudentCount() {
+        return studentCount;
+    }
+
+    /**
+     * Returns the number of students in this group marked with {@code status} in {@code week}.
+     */
+    public int getAttendanceCount(int week, AttendanceStatus status) {
+        requireNonNull(status);
+        if (week < FIRST_WEEK || week > LAST_WEEK) {
+            throw new IllegalArgumentException("Week must be between 2 and 13.");
+        }
+        return attendanceCounts[week - FIRST_WEEK][status.ordinal()];
+    }
+
+    /**
+     * Returns the number of attendance records with {@code status} across all weeks.
+     */
+    public int getAttendanceCount(AttendanceStatus status) {
+        requireNonNull(status);
+        int total = 0;
+        for (int[] week : attendanceCounts) {
+            total += week[status.ordinal()];
+        }
+        return total;
+    }
+
+    /**
+     * Returns the number of attendance records (of any status) across all weeks.
+     */
+    public int getMarkedAttendanceCount() {
+        int total = 0;
+        for (AttendanceStatus status : AttendanceStatus.values()) {
+            total += getAttendanceCount(status);
+        }
+        return total;
+    }
+
+    /**
+     * Returns the percentage of marked attendance records that are {@code PRESENT},
+     * or 0 if no attendance has been marked.
+     */
+    public double getAttendanceRate() {
+        int marked = getMarkedAttendanceCount();
+        return marked == 0 ? 0 : 100.0 * getAttendanceCount(AttendanceStatus.PRESENT) / marked;
+    }
+
+    /**
+     * Returns the number of students whose homework {@code assignmentId} has the given {@code status}.
+     */
+    public int getHomeworkCount(int assignmentId, String status) {
+        if (!HomeworkTracker.isValidAssignmentId(assignmentId)) {
+            throw new IllegalArgumentException("Assignment ID must be between 1 and 3.");
+        }
+        return homeworkCounts[assignmentId][HomeworkStatusIndex.of(status)];
+    }
+
+    /**
+     * Returns the number of students who have been assigned homework {@code assignmentId}.
+     */
+    public int getAssignedHomeworkCount(int assignmentId) {
+        if (!HomeworkTracker.isValidAssignmentId(assignmentId)) {
+            throw new IllegalArgumentException("Assignment ID must be between 1 and 3.");
+        }
+        int total = 0;
+        for (int count : homeworkCounts[assignmentId]) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Returns the percentage of students assigned homework {@code assignmentId} who have completed it
+     * (on time or late), or 0 if nobody has been assigned it.
+     */
+    public double getCompletionRate(int assignmentId) {
+        int assigned = getAssignedHomeworkCount(assignmentId);
+        if (assigned == 0) {
+            return 0;
+        }
+        int done = homeworkCounts[assignmentId][HomeworkStatusIndex.COMPLETE]
+                + homeworkCounts[assignmentId][HomeworkStatusIndex.LATE];
+        return 100.0 * done / assigned;
+    }
+
+    private static int[][] deepCopy(int[][] source) {
+        int[][] copy = new int[source.length][];
+        for (int i = 0; i < source.length; i++) {
+            copy[i] = source[i].clone();
+        }
+        return copy;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof GroupStatistics otherStatistics)) {
+            return false;
+        }
+        return groupId.equals(otherStatistics.groupId)
+                && studentCount == otherStatistics.studentCount
+                && Arrays.deepEquals(attendanceCounts, otherStatistics.attendanceCounts)
+                && Arrays.deepEquals(homeworkCounts, otherStatistics.homeworkCounts);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * groupId.hashCode() + studentCount;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("groupId", groupId)
+                .add("students", studentCount)
+                .add("attendanceRate", getAttendanceRate())
+                .toString();
+    }
+}
@@ -0,0 +1,30 @@
+package seedu.address.model.statistics;
+
+import seedu.address.model.person.Homework;
+
+/**
+ * Maps homework status strings to array indices used by the statistics counters.
+ */
+final class HomeworkStatusIndex {
+    static final int COMPLETE = 0;
+    static final int INCOMPLETE = 1;
+    static final int LATE = 2;
+    static final int COUNT = 3;
+
+    private HomeworkStatusIndex() {} // prevents instantiation
+
+    /**
+     * Returns the counter index of {@code status}.
+     * @throws IllegalArgumentException if {@code status} is not a valid homework status.
+     */
+    static int of(String status) {
+        if (Homework.STATUS_COMPLETE.equalsIgnoreCase(status)) {
+            return COMPLETE;
+        } else if (Homework.STATUS_INCOMPLETE.equalsIgnoreCase(status)) {
+            return INCOMPLETE;
+        } else if (Homework.STATUS_LATE.equalsIgnoreCase(status)) {
+            return LATE;
+        }
+        throw new IllegalArgumentException("Please enter complete/incomplete/late only.");
+    }
+}
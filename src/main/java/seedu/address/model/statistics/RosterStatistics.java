@@ -0,0 +1,108 @@
+package seedu.address.model.statistics;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Attendance;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.Homework;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Person;
+
+/**
+ * Maintains attendance and homework counters per tutorial group.
+ * <p>
+ * The counters are kept up to date by listening to the observed person list: every added person's records are
+ * counted in and every removed person's records are counted out. A replaced person (e.g. after marking attendance)
+ * is reported by the list as a removal followed by an addition, so only the changed person is ever visited.
+ * Queries therefore cost O(groups) instead of O(students x weeks).
+ * </p>
+ */
+public class RosterStatistics {
+
+    private static final int ATTENDANCE_STATUS_COUNT = AttendanceStatus.values().length;
+
+    private final Map<GroupId, Counters> countersByGroup = new HashMap<>();
+
+    /**
+     * Creates a {@code RosterStatistics} that counts the persons in {@code persons} and tracks later changes to it.
+     */
+    public RosterStatistics(ObservableList<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(person -> apply(person, 1));
+        persons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(person -> apply(person, -1));
+                change.getAddedSubList().forEach(person -> apply(person, 1));
+            }
+        });
+    }
+
+    /**
+     * Returns a snapshot of the counters of {@code groupId}, or an empty {@code Optional} if no student is in it.
+     */
+    public Optional<GroupStatistics> getGroupStatistics(GroupId groupId) {
+        requireNonNull(groupId);
+        Counters counters = countersByGroup.get(groupId);
+        return counters == null ? Optional.empty() : Optional.of(counters.toStatistics(groupId));
+    }
+
+    /**
+     * Returns a snapshot of the counters of every group that has a student, ordered by group ID.
+     */
+    public List<GroupStatistics> getAllGroupStatistics() {
+        List<GroupStatistics> statistics = new ArrayList<>(countersByGroup.size());
+        countersByGroup.forEach((groupId, counters) -> statistics.add(counters.toStatistics(groupId)));
+        statistics.sort(Comparator.comparing(groupStatistics -> groupStatistics.getGroupId().value));
+        return statistics;
+    }
+
+    /**
+     * Adds ({@code sign} = 1) or removes ({@code sign} = -1) the records of {@code person} from the counters.
+     */
+    private void apply(Person person, int sign) {
+        GroupId groupId = person.getGroupId();
+        Counters counters = countersByGroup.computeIfAbsent(groupId, unused -> new Counters());
+        counters.studentCount += sign;
+
+        if (person.getAttendanceSheet() != null) {
+            for (Attendance attendance : person.getAttendanceSheet().getAttendanceList()) {
+                counters.attendance[attendance.getWeek() - GroupStatistics.FIRST_WEEK]
+                        [attendance.getAttendanceStatus().ordinal()] += sign;
+            }
+        }
+        for (Homework homework : person.getHomeworkTracker().asMap().values()) {
+            counters.homework[homework.getId()][HomeworkStatusIndex.of(homework.getStatus())] += sign;
+        }
+
+        assert counters.studentCount >= 0 : "Removed a person that was never counted.";
+        if (counters.studentCount == 0) {
+            countersByGroup.remove(groupId);
+        }
+    }
+
+    /**
+     * Mutable counters of a single group.
+     */
+    private static class Counters {
+        private int studentCount;
+        private final int[][] attendance = new int[GroupStatistics.NUMBER_OF_WEEKS][ATTENDANCE_STATUS_COUNT];
+        private final int[][] homework = new int[HomeworkTracker.MAX_ASSIGNMENTS + 1][HomeworkStatusIndex.COUNT];
+
+        GroupStatistics toStatistics(GroupId groupId) {
+            return new GroupStatistics(groupId, studentCount, attendance, homework);
+        }
+    }
+}
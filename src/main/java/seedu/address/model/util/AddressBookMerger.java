@@ -0,0 +1,398 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Group;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.Attendance;
+import seedu.address.model.person.AttendanceSheet;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.Homework;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Telegram;
+
+/**
+ * Merges the address books kept by several TAs into one, matching students by NUSNET ID.
+ * <p>
+ * Every field of a student, every week of their attendance and every assignment of their homework is merged on its
+ * own. When the common ancestor of the address books is given, a value that an address book left as it was in the
+ * ancestor does not count, so a change made by one TA is kept even if the other TAs never saw it. Without an
+ * ancestor, every value counts. When address books change the same value in different ways, the conflict is
+ * recorded and resolved as follows:
+ * </p>
+ * <ul>
+ *     <li>fields and consultations take the value of the address book that comes later in the list,</li>
+ *     <li>attendance is present over excused over absent,</li>
+ *     <li>homework is complete over late over incomplete,</li>
+ *     <li>a student removed by one address book but changed by another is kept.</li>
+ * </ul>
+ * <p>
+ * A student missing from an address book only counts as removed by it if the address book still has the student's
+ * group from the ancestor, since each TA only keeps the groups they teach. Groups and consultations are rebuilt from
+ * the merged students. The merge takes time linear in the total number of students, except that consultations are
+ * sorted to find overlapping ones.
+ * </p>
+ */
+public class AddressBookMerger {
+
+    private static final List<AttendanceStatus> ATTENDANCE_PRIORITY =
+            List.of(AttendanceStatus.ABSENT, AttendanceStatus.EXCUSED, AttendanceStatus.PRESENT);
+    private static final List<String> HOMEWORK_PRIORITY =
+            List.of(Homework.STATUS_INCOMPLETE, Homework.STATUS_LATE, Homework.STATUS_COMPLETE);
+
+    private final List<String> conflicts = new ArrayList<>();
+    /** Number of values of the student being merged that some address book changed. */
+    private int changedValues;
+
+    private AddressBookMerger() {}
+
+    /**
+     * Merges {@code addressBooks}, whose common ancestor is {@code ancestor} if present.
+     */
+    public static MergeResult merge(List<? extends ReadOnlyAddressBook> addressBooks,
+            Optional<? extends ReadOnlyAddressBook> ancestor) {
+        requireAllNonNull(addressBooks, ancestor);
+        return new AddressBookMerger().mergeAll(addressBooks, ancestor);
+    }
+
+    private MergeResult mergeAll(List<? extends ReadOnlyAddressBook> addressBooks,
+            Optional<? extends ReadOnlyAddressBook> ancestor) {
+        int count = addressBooks.size();
+        Map<Nusnetid, Person> ancestorPersons = new HashMap<>();
+        Map<Nusnetid, Person[]> versions = new LinkedHashMap<>();
+        Set<GroupId> groupIds = new LinkedHashSet<>();
+        ancestor.ifPresent(book -> {
+            for (Person person : book.getPersonList()) {
+                ancestorPersons.put(person.getNusnetid(), person);
+                versions.put(person.getNusnetid(), new Person[count]);
+            }
+        });
+
+        List<Set<GroupId>> groupsOfBooks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            ReadOnlyAddressBook book = addressBooks.get(i);
+            for (Person person : book.getPersonList()) {
+                versions.computeIfAbsent(person.getNusnetid(), nusnetid -> new Person[count])[i] = person;
+            }
+            Set<GroupId> groupsOfBook = new HashSet<>();
+            for (Group group : book.getGroupList()) {
+                groupsOfBook.add(group.getGroupId());
+                groupIds.add(group.getGroupId());
+            }
+            groupsOfBooks.add(groupsOfBook);
+        }
+
+        List<Person> mergedPersons = new ArrayList<>(versions.size());
+        Identities identities = new Identities();
+        for (Map.Entry<Nusnetid, Person[]> entry : versions.entrySet()) {
+            Person merged = mergePerson(ancestorPersons.get(entry.getKey()), entry.getValue(), groupsOfBooks);
+            if (merged == null) {
+                continue;
+            }
+            if (!identities.add(merged)) {
+                conflicts.add(merged.getNusnetid() + " was left out, as another student has the same Telegram "
+                        + "handle, phone or email");
+                continue;
+            }
+            mergedPersons.add(merged);
+        }
+
+        List<Consultation> consultations = mergeConsultations(mergedPersons);
+        Map<GroupId, List<Person>> members = new LinkedHashMap<>();
+        for (GroupId groupId : groupIds) {
+            members.put(groupId, new ArrayList<>());
+        }
+        for (Person person : mergedPersons) {
+            members.computeIfAbsent(person.getGroupId(), groupId -> new ArrayList<>()).add(person);
+        }
+        List<Group> groups = new ArrayList<>(members.size());
+        members.forEach((groupId, students) -> groups.add(new Group(groupId, students)));
+
+        AddressBook merged = new AddressBook();
+        merged.setPersons(mergedPersons);
+        merged.setConsultations(consultations);
+        merged.setGroupList(groups);
+        return new MergeResult(merged, conflicts);
+    }
+
+    /**
+     * Returns the merge of the versions of a student in each address book, which are null where an address book
+     * does not have the student, or null if the student was removed.
+     */
+    private Person mergePerson(Person ancestor, Person[] versions, List<Set<GroupId>> groupsOfBooks) {
+        List<Person> present = new ArrayList<>(versions.length);
+        boolean isRemoved = false;
+        for (int i = 0; i < versions.length; i++) {
+            if (versions[i] != null) {
+                present.add(versions[i]);
+            } else if (ancestor != null && groupsOfBooks.get(i).contains(ancestor.getGroupId())) {
+                isRemoved = true;
+            }
+        }
+        if (present.isEmpty()) {
+            return isRemoved ? null : ancestor;
+        }
+
+        // most students are kept by only one TA, or are the same in every file
+        Person first = present.get(0);
+        if (present.stream().allMatch(first::hasSameData)) {
+            return keepUnlessRemoved(first, isRemoved, ancestor == null || !first.hasSameData(ancestor));
+        }
+
+        Nusnetid nusnetid = first.getNusnetid();
+        changedValues = 0;
+        Optional<Person> base = Optional.ofNullable(ancestor);
+        Person merged = new Person(
+                mergeField(nusnetid, "name", base, present, Person::getName),
+                mergeField(nusnetid, "phone", base, present, Person::getPhone),
+                mergeField(nusnetid, "email", base, present, Person::getEmail),
+                nusnetid,
+                mergeField(nusnetid, "Telegram handle", base, present, Person::getTelegram),
+                mergeField(nusnetid, "group", base, present, Person::getGroupId),
+                mergeHomework(nusnetid, base, present),
+                mergeAttendance(nusnetid, base, present),
+                mergeField(nusnetid, "consultation", base, present, Person::getConsultation));
+
+        return keepUnlessRemoved(merged, isRemoved, changedValues > 0);
+    }
+
+    /**
+     * Returns {@code merged}, or null if it was removed by an address book and not changed by any other.
+     */
+    private Person keepUnlessRemoved(Person merged, boolean isRemoved, boolean isChanged) {
+        if (!isRemoved) {
+            return merged;
+        }
+        if (!isChanged) {
+            return null;
+        }
+        conflicts.add(merged.getNusnetid() + " was removed in one file but changed in another, and was kept");
+        return merged;
+    }
+
+    /**
+     * Returns the merge of the field of a student read by {@code getter}, where the later address book wins a conflict.
+     */
+    private <T> T mergeField(Nusnetid nusnetid, String field, Optional<Person> ancestor, List<Person> versions,
+            Function<Person, T> getter) {
+        List<T> values = new ArrayList<>(versions.size());
+        for (Person version : versions) {
+            values.add(getter.apply(version));
+        }
+        return mergeValue(() -> nusnetid + " " + field, ancestor.map(getter).orElse(null), values,
+                (earlier, latest) -> latest);
+    }
+
+    private HomeworkTracker mergeHomework(Nusnetid nusnetid, Optional<Person> ancestor, List<Person> versions) {
+        Map<Integer, Homework> ancestorHomework = ancestor.map(person -> person.getHomeworkTracker().asMap())
+                .orElse(Collections.emptyMap());
+        Set<Integer> assignmentIds = new TreeSet<>(ancestorHomework.keySet());
+        for (Person version : versions) {
+            assignmentIds.addAll(version.getHomeworkTracker().asMap().keySet());
+        }
+
+        Map<Integer, Homework> merged = new HashMap<>();
+        for (int assignmentId : assignmentIds) {
+            List<Homework> values = new ArrayList<>(versions.size());
+            for (Person version : versions) {
+                values.add(version.getHomeworkTracker().asMap().get(assignmentId));
+            }
+            Homework homework = mergeValue(() -> nusnetid + " homework " + assignmentId,
+                    ancestorHomework.get(assignmentId), values, (earlier, latest) ->
+                            HOMEWORK_PRIORITY.indexOf(latest.getStatus())
+                                    >= HOMEWORK_PRIORITY.indexOf(earlier.getStatus()) ? latest : earlier);
+            if (homework != null) {
+                merged.put(assignmentId, homework);
+            }
+        }
+        return new HomeworkTracker(merged);
+    }
+
+    private AttendanceSheet mergeAttendance(Nusnetid nusnetid, Optional<Person> ancestor, List<Person> versions) {
+        Map<Integer, AttendanceStatus> ancestorAttendance = ancestor.map(AddressBookMerger::attendanceOf)
+                .orElse(Collections.emptyMap());
+        List<Map<Integer, AttendanceStatus>> attendances = new ArrayList<>(versions.size());
+        Set<Integer> weeks = new TreeSet<>(ancestorAttendance.keySet());
+        for (Person version : versions) {
+            Map<Integer, AttendanceStatus> attendance = attendanceOf(version);
+            attendances.add(attendance);
+            weeks.addAll(attendance.keySet());
+        }
+
+        AttendanceSheet merged = new AttendanceSheet();
+        for (int week : weeks) {
+            List<AttendanceStatus> values = new ArrayList<>(versions.size());
+            for (Map<Integer, AttendanceStatus> attendance : attendances) {
+                values.add(attendance.get(week));
+            }
+            AttendanceStatus status = mergeValue(() -> nusnetid + " attendance in week " + week,
+                    ancestorAttendance.get(week), values, (earlier, latest) ->
+                            ATTENDANCE_PRIORITY.indexOf(latest) >= ATTENDANCE_PRIORITY.indexOf(earlier)
+                                    ? latest : earlier);
+            if (status != null) {
+                merged.markAttendance(week, status);
+            }
+        }
+        return merged;
+    }
+
+    private static Map<Integer, AttendanceStatus> attendanceOf(Person person) {
+        Map<Integer, AttendanceStatus> attendance = new HashMap<>();
+        if (person.getAttendanceSheet() != null) {
+            for (Attendance record : person.getAttendanceSheet().getAttendanceList()) {
+                attendance.put(record.getWeek(), record.getAttendanceStatus());
+            }
+        }
+        return attendance;
+    }
+
+    /**
+     * Returns the merge of {@code values}, the versions of one value in each address book that has the student, given
+     * its value in the ancestor. Null stands for a missing value. Versions equal to the ancestor's value are ignored,
+     * and differing changes are resolved with {@code resolveConflict}, where a change always wins over a removal.
+     */
+    private <T> T mergeValue(Supplier<String> description, T ancestorValue, List<T> values,
+            BinaryOperator<T> resolveConflict) {
+        T merged = ancestorValue;
+        boolean isChanged = false;
+        boolean isConflicting = false;
+        for (T value : values) {
+            if (Objects.equals(value, ancestorValue)) {
+                continue;
+            }
+            if (!isChanged) {
+                merged = value;
+                isChanged = true;
+            } else if (!Objects.equals(merged, value)) {
+                isConflicting = true;
+                merged = merged == null ? value : value == null ? merged : resolveConflict.apply(merged, value);
+            }
+        }
+        if (isChanged) {
+            changedValues++;
+        }
+        if (isConflicting) {
+            conflicts.add(description.get() + " was changed differently, kept " + describe(merged));
+        }
+        return merged;
+    }
+
+    private static String describe(Object value) {
+        if (value instanceof Optional) {
+            return ((Optional<?>) value).map(AddressBookMerger::describe).orElse("none");
+        }
+        if (value instanceof Homework) {
+            return ((Homework) value).getStatus();
+        }
+        if (value instanceof AttendanceStatus) {
+            return ((AttendanceStatus) value).getStatus();
+        }
+        if (value instanceof Consultation) {
+            return ((Consultation) value).showConsultationTime();
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * Returns the consultations of {@code persons}. A consultation that overlaps one that starts earlier is removed
+     * from its student, in place in {@code persons}.
+     */
+    private List<Consultation> mergeConsultations(List<Person> persons) {
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (persons.get(i).getConsultation().isPresent()) {
+                indexes.add(i);
+            }
+        }
+        indexes.sort(Comparator.comparing(i -> persons.get(i).getConsultation().get().getFrom()));
+
+        List<Consultation> consultations = new ArrayList<>(indexes.size());
+        Consultation latestEnding = null;
+        for (int i : indexes) {
+            Person person = persons.get(i);
+            Consultation consultation = person.getConsultation().get();
+            if (latestEnding != null && latestEnding.isOverlappingConsultation(consultation)) {
+                persons.set(i, person.deleteConsultation());
+                conflicts.add(person.getNusnetid() + " consultation overlaps that of "
+                        + latestEnding.getNusnetid() + " and was removed");
+                continue;
+            }
+            consultations.add(consultation);
+            if (latestEnding == null || consultation.getTo().isAfter(latestEnding.getTo())) {
+                latestEnding = consultation;
+            }
+        }
+        return consultations;
+    }
+
+    /**
+     * The Telegram handles, phones and emails of the students merged so far, which must be unique.
+     */
+    private static class Identities {
+        private final Set<Telegram> telegrams = new HashSet<>();
+        private final Set<Phone> phones = new HashSet<>();
+        private final Set<Email> emails = new HashSet<>();
+
+        /**
+         * Adds the identities of {@code person}, or returns false without adding any if one of them is taken.
+         */
+        boolean add(Person person) {
+            if (telegrams.contains(person.getTelegram())
+                    || person.getPhone().map(phones::contains).orElse(false)
+                    || person.getEmail().map(emails::contains).orElse(false)) {
+                return false;
+            }
+            telegrams.add(person.getTelegram());
+            person.getPhone().ifPresent(phones::add);
+            person.getEmail().ifPresent(emails::add);
+            return true;
+        }
+    }
+
+    /**
+     * The merged address book, along with a description of each conflict that was resolved.
+     */
+    public static class MergeResult {
+        private final AddressBook addressBook;
+        private final List<String> conflicts;
+
+        private MergeResult(AddressBook addressBook, List<String> conflicts) {
+            requireNonNull(addressBook);
+            this.addressBook = addressBook;
+            this.conflicts = List.copyOf(conflicts);
+        }
+
+        public AddressBook getAddressBook() {
+            return addressBook;
+        }
+
+        public List<String> getConflicts() {
+            return conflicts;
+        }
+    }
+}
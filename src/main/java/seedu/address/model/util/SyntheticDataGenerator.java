@@ -0,0 +1,228 @@
+package seedu.address.model.util;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.AttendanceSheet;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.Homework;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Telegram;
+
+/**
+ * Generates valid rosters of any size for benchmarks, load tests and startup measurements.
+ * <p>
+ * The same seed and size always give the same students. NUSNET IDs and phone numbers are drawn from pseudo-random
+ * permutations of all 7-digit numbers, so every identifying field is unique without keeping track of used values.
+ * </p>
+ * <p>
+ * Students are spread at random over one group per {@value #AVERAGE_GROUP_SIZE} students, up to the
+ * {@value #MAX_GROUPS} group IDs there are. Each student has attendance marked for most of weeks 2 to 13 according to
+ * how reliable they are, has some of the homework given out so far, and may have a consultation. Consultations are
+ * booked one after another into half-hour slots of office hours, so no two of them overlap. Students are generated
+ * one at a time by {@link #personIterator(int)}, so rosters larger than memory can be written straight to a data
+ * file.
+ * </p>
+ */
+public class SyntheticDataGenerator {
+
+    /** Largest roster that has a unique NUSNET ID for every student. */
+    public static final int MAX_STUDENTS = 10_000_000;
+
+    /** Average number of students per tutorial group. */
+    private static final int AVERAGE_GROUP_SIZE = 12;
+    /** Number of distinct group IDs, T00 to T99 and B00 to B99. */
+    private static final int MAX_GROUPS = 200;
+    /** Multipliers coprime to {@code MAX_STUDENTS}, so that {@code i -> i * m + c} permutes all 7-digit numbers. */
+    private static final long NUSNETID_MULTIPLIER = 7_654_321;
+    private static final long PHONE_MULTIPLIER = 3_141_593;
+
+    private static final int FIRST_WEEK = 2;
+    private static final int LAST_WEEK = 13;
+    /** Fraction of students who have booked a consultation. */
+    private static final double CONSULTATION_RATE = 0.1;
+    /** Start of the first consultation slot, on the Monday of week 2. */
+    private static final LocalDateTime FIRST_CONSULTATION_SLOT = LocalDateTime.of(2025, 8, 18, 9, 0);
+    private static final int SLOT_MINUTES = 30;
+    /** Number of consultation slots in a day, from 09:00 to 18:00. */
+    private static final int SLOTS_PER_DAY = 18;
+
+    private static final String[] FIRST_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling", "Jun Jie", "Priya", "Arjun", "Mei",
+        "Hui Min", "Siti", "Nur", "Kai", "Ethan", "Chloe", "Ravi", "Aisha", "Marcus", "Rachel", "Zhi Hao"
+    };
+    private static final String[] LAST_NAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Koh", "Teo", "Yeoh", "Balakrishnan", "Ibrahim",
+        "Kumar", "Rahman", "Oliveiro", "Yu", "Li", "Chen", "Ho"
+    };
+
+    private final long seed;
+
+    public SyntheticDataGenerator(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns {@code count} distinct students, in the order given by {@link #personIterator(int)}.
+     */
+    public List<Person> generatePersons(int count) {
+        List<Person> persons = new ArrayList<>(count);
+        personIterator(count).forEachRemaining(persons::add);
+        return persons;
+    }
+
+    /**
+     * Returns an iterator over {@code count} distinct students, each generated only when it is requested.
+     *
+     * @throws IllegalArgumentException if {@code count} is negative or larger than {@link #MAX_STUDENTS}.
+     */
+    public Iterator<Person> personIterator(int count) {
+        if (count < 0 || count > MAX_STUDENTS) {
+            throw new IllegalArgumentException("Number of students must be between 0 and " + MAX_STUDENTS + ".");
+        }
+        return new PersonIterator(count);
+    }
+
+    /**
+     * Returns an {@code AddressBook} holding the students of {@link #generatePersons(int)}.
+     */
+    public AddressBook generateAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        personIterator(count).forEachRemaining(person -> {
+            addressBook.addPerson(person);
+            person.getConsultation().ifPresent(addressBook::addConsultation);
+        });
+        return addressBook;
+    }
+
+    /**
+     * Returns the number of groups a roster of {@code studentCount} students is spread over.
+     */
+    static int getGroupCount(int studentCount) {
+        int groups = (studentCount + AVERAGE_GROUP_SIZE - 1) / AVERAGE_GROUP_SIZE;
+        return Math.max(1, Math.min(MAX_GROUPS, groups));
+    }
+
+    /**
+     * Returns the ID of group {@code index}: T01 to T99 and T00 first, then B01 to B99 and B00.
+     */
+    static GroupId toGroupId(int index) {
+        int number = (index + 1) % 100;
+        return new GroupId(String.format("%s%02d", index < 100 ? "T" : "B", number));
+    }
+
+    /**
+     * Generates students one at a time from a single random sequence.
+     */
+    private class PersonIterator implements Iterator<Person> {
+        private final int count;
+        private final Random random = new Random(seed);
+        private final long nusnetIdOffset = random.nextInt(MAX_STUDENTS);
+        private final long phoneOffset = random.nextInt(MAX_STUDENTS);
+        private final int groupCount;
+        private int index;
+        /** Index of the first consultation slot after the last consultation booked. */
+        private long nextFreeSlot;
+
+        PersonIterator(int count) {
+            this.count = count;
+            this.groupCount = getGroupCount(count);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < count;
+        }
+
+        @Override
+        public Person next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            String digits = String.format("%07d", (index * NUSNETID_MULTIPLIER + nusnetIdOffset) % MAX_STUDENTS);
+            String phoneDigits = String.format("%07d", (index * PHONE_MULTIPLIER + phoneOffset) % MAX_STUDENTS);
+            index++;
+
+            String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+            String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+            Nusnetid nusnetid = new Nusnetid("E" + digits);
+            return new Person(
+                    new Name(firstName + " " + lastName),
+                    new Phone((random.nextBoolean() ? "9" : "8") + phoneDigits),
+                    new Email("e" + digits + "@u.nus.edu"),
+                    nusnetid,
+                    new Telegram("@" + firstName.toLowerCase().replace(' ', '_') + "_" + digits),
+                    toGroupId(random.nextInt(groupCount)),
+                    generateHomeworkTracker(),
+                    generateAttendanceSheet(),
+                    random.nextDouble() < CONSULTATION_RATE ? bookConsultation(nusnetid) : null);
+        }
+
+        /**
+         * Returns attendance for most weeks, where students who attend less are also more often absent unexcused.
+         */
+        private AttendanceSheet generateAttendanceSheet() {
+            AttendanceSheet attendanceSheet = new AttendanceSheet();
+            double reliability = 0.6 + 0.4 * random.nextDouble();
+            for (int week = FIRST_WEEK; week <= LAST_WEEK; week++) {
+                if (random.nextDouble() < 0.2) {
+                    continue;
+                }
+                double roll = random.nextDouble();
+                AttendanceStatus status = roll < reliability
+                        ? AttendanceStatus.PRESENT
+                        : roll < reliability + (1 - reliability) / 3
+                        ? AttendanceStatus.EXCUSED
+                        : AttendanceStatus.ABSENT;
+                attendanceSheet.markAttendance(week, status);
+            }
+            return attendanceSheet;
+        }
+
+        /**
+         * Returns some prefix of the assignments, each mostly complete, sometimes late and sometimes not done yet.
+         */
+        private HomeworkTracker generateHomeworkTracker() {
+            Map<Integer, Homework> homework = new HashMap<>();
+            int assignmentsGiven = random.nextInt(HomeworkTracker.MAX_ASSIGNMENTS + 1);
+            for (int id = 1; id <= assignmentsGiven; id++) {
+                double roll = random.nextDouble();
+                String status = roll < 0.6
+                        ? Homework.STATUS_COMPLETE
+                        : roll < 0.75 ? Homework.STATUS_LATE : Homework.STATUS_INCOMPLETE;
+                homework.put(id, new Homework(id, status));
+            }
+            return new HomeworkTracker(homework);
+        }
+
+        /**
+         * Books one or two slots after a short random gap from the previous consultation, without spilling past the
+         * office hours of the day.
+         */
+        private Consultation bookConsultation(Nusnetid nusnetid) {
+            int slots = 1 + random.nextInt(2);
+            long start = nextFreeSlot + random.nextInt(4);
+            if (start % SLOTS_PER_DAY + slots > SLOTS_PER_DAY) {
+                start = (start / SLOTS_PER_DAY + 1) * SLOTS_PER_DAY;
+            }
+            nextFreeSlot = start + slots;
+            LocalDateTime from = FIRST_CONSULTATION_SLOT.plusDays(start / SLOTS_PER_DAY)
+                    .plusMinutes(start % SLOTS_PER_DAY * SLOT_MINUTES);
+            return new Consultation(nusnetid, from, from.plusMinutes((long) slots * SLOT_MINUTES));
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package seedu.address.model.watchlist;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Optional;
+
+import seedu.address.model.person.Attendance;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.Person;
+
+/**
+ * Flags a student who has been marked absent in at least {@code threshold} weeks.
+ */
+public class AbsenceRule implements WatchlistRule {
+
+    public static final String MESSAGE_CONSTRAINTS = "Absence threshold must be a positive integer.";
+    public static final String MESSAGE_REASON = "%1$d absences";
+
+    private final int threshold;
+
+    /**
+     * Creates an {@code AbsenceRule} that flags students with {@code threshold} or more absences.
+     */
+    public AbsenceRule(int threshold) {
+        checkArgument(threshold > 0, MESSAGE_CONSTRAINTS);
+        this.threshold = threshold;
+    }
+
+    @Override
+    public Optional<String> evaluate(Person person) {
+        requireNonNull(person);
+        if (person.getAttendanceSheet() == null) {
+            return Optional.empty();
+        }
+        long absences = person.getAttendanceSheet().getAttendanceList().stream()
+                .map(Attendance::getAttendanceStatus)
+                .filter(status -> status == AttendanceStatus.ABSENT)
+                .count();
+        return absences >= threshold ? Optional.of(String.format(MESSAGE_REASON, absences)) : Optional.empty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof AbsenceRule otherRule)) {
+            return false;
+        }
+        return threshold == otherRule.threshold;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(threshold);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("AbsenceRule{threshold=%d}", threshold);
+    }
+}
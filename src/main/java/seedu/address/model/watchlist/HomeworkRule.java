@@ -0,0 +1,60 @@
+package seedu.address.model.watchlist;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Optional;
+
+import seedu.address.model.person.Homework;
+import seedu.address.model.person.Person;
+
+/**
+ * Flags a student who has at least {@code threshold} homework that is incomplete or was handed in late.
+ */
+public class HomeworkRule implements WatchlistRule {
+
+    public static final String MESSAGE_CONSTRAINTS = "Homework threshold must be a positive integer.";
+    public static final String MESSAGE_REASON = "%1$d incomplete/late homework";
+
+    private final int threshold;
+
+    /**
+     * Creates a {@code HomeworkRule} that flags students with {@code threshold} or more incomplete or late homework.
+     */
+    public HomeworkRule(int threshold) {
+        checkArgument(threshold > 0, MESSAGE_CONSTRAINTS);
+        this.threshold = threshold;
+    }
+
+    @Override
+    public Optional<String> evaluate(Person person) {
+        requireNonNull(person);
+        long missed = person.getHomeworkTracker().asMap().values().stream()
+                .map(Homework::getStatus)
+                .filter(status -> status.equalsIgnoreCase(Homework.STATUS_INCOMPLETE)
+                        || status.equalsIgnoreCase(Homework.STATUS_LATE))
+                .count();
+        return missed >= threshold ? Optional.of(String.format(MESSAGE_REASON, missed)) : Optional.empty();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof HomeworkRule otherRule)) {
+            return false;
+        }
+        return threshold == otherRule.threshold;
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(threshold);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("HomeworkRule{threshold=%d}", threshold);
+    }
+}
@@ -0,0 +1,118 @@
+package seedu.address.model.watchlist;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
+
+/**
+ * The set of at-risk students, kept sorted by {@link WatchlistEntry#SEVERITY_ORDER}.
+ * <p>
+ * The watchlist listens to the observed person list and only evaluates the rules against the persons that were
+ * added, removed or replaced, e.g. the single student whose attendance was just marked. Entries are kept unique by
+ * NUSNET ID and inserted at their sorted position, so the UI and the {@code watchlist} command can show the current
+ * result without scanning the roster.
+ * </p>
+ */
+public class Watchlist {
+
+    private final ObservableList<WatchlistEntry> internalList = FXCollections.observableArrayList();
+    private final ObservableList<WatchlistEntry> internalUnmodifiableList =
+            FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Nusnetid, WatchlistEntry> entriesById = new HashMap<>();
+    private final ObservableList<Person> persons;
+    private List<WatchlistRule> rules;
+
+    /**
+     * Creates a {@code Watchlist} that applies {@code rules} to {@code persons} and tracks later changes to it.
+     */
+    public Watchlist(ObservableList<Person> persons, List<WatchlistRule> rules) {
+        requireAllNonNull(persons, rules);
+        this.persons = persons;
+        this.rules = List.copyOf(rules);
+        persons.forEach(this::evaluate);
+        persons.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(this::remove);
+                change.getAddedSubList().forEach(this::evaluate);
+            }
+        });
+    }
+
+    /**
+     * Replaces the rules and re-evaluates every person against them.
+     */
+    public void setRules(List<WatchlistRule> rules) {
+        requireAllNonNull(rules);
+        if (this.rules.equals(rules)) {
+            return;
+        }
+        this.rules = List.copyOf(rules);
+        entriesById.clear();
+        internalList.clear();
+        persons.forEach(this::evaluate);
+    }
+
+    public List<WatchlistRule> getRules() {
+        return rules;
+    }
+
+    /**
+     * Returns true if the student with {@code nusnetid} is on the watchlist.
+     */
+    public boolean contains(Nusnetid nusnetid) {
+        return entriesById.containsKey(nusnetid);
+    }
+
+    /**
+     * Returns the watchlist entry of the student with {@code nusnetid}, if they are at risk.
+     */
+    public Optional<WatchlistEntry> getEntry(Nusnetid nusnetid) {
+        return Optional.ofNullable(entriesById.get(nusnetid));
+    }
+
+    /**
+     * Returns the sorted entries as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<WatchlistEntry> asUnmodifiableObservableList() {
+        return internalUnmodifiableList;
+    }
+
+    private void evaluate(Person person) {
+        List<String> reasons = new ArrayList<>();
+        for (WatchlistRule rule : rules) {
+            rule.evaluate(person).ifPresent(reasons::add);
+        }
+        remove(person);
+        if (reasons.isEmpty()) {
+            return;
+        }
+        WatchlistEntry entry = new WatchlistEntry(person, reasons);
+        int index = Collections.binarySearch(internalList, entry, WatchlistEntry.SEVERITY_ORDER);
+        internalList.add(index < 0 ? -index - 1 : index, entry);
+        entriesById.put(person.getNusnetid(), entry);
+    }
+
+    private void remove(Person person) {
+        WatchlistEntry entry = entriesById.remove(person.getNusnetid());
+        if (entry == null) {
+            return;
+        }
+        int index = Collections.binarySearch(internalList, entry, WatchlistEntry.SEVERITY_ORDER);
+        assert index >= 0 : "Watchlist entry missing from the sorted list.";
+        internalList.remove(index);
+    }
+}
@@ -0,0 +1,76 @@
+package seedu.address.model.watchlist;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Person;
+
+/**
+ * An at-risk student together with the reasons they were flagged.
+ * Guarantees: immutable; has at least one reason.
+ */
+public class WatchlistEntry {
+
+    /** Orders entries by number of broken rules (most first), then by name, then by NUSNET ID. */
+    public static final Comparator<WatchlistEntry> SEVERITY_ORDER =
+            Comparator.comparingInt(WatchlistEntry::getSeverity).reversed()
+                    .thenComparing(entry -> entry.getPerson().getName().fullName)
+                    .thenComparing(entry -> entry.getPerson().getNusnetid().value);
+
+    private final Person person;
+    private final List<String> reasons;
+
+    /**
+     * Every field must be present and not null, and {@code reasons} must not be empty.
+     */
+    public WatchlistEntry(Person person, List<String> reasons) {
+        requireAllNonNull(person, reasons);
+        if (reasons.isEmpty()) {
+            throw new IllegalArgumentException("A watchlist entry needs at least one reason.");
+        }
+        this.person = person;
+        this.reasons = List.copyOf(reasons);
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public List<String> getReasons() {
+        return reasons;
+    }
+
+    /**
+     * Returns the number of rules the student breaks.
+     */
+    public int getSeverity() {
+        return reasons.size();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof WatchlistEntry otherEntry)) {
+            return false;
+        }
+        return person.equals(otherEntry.person) && reasons.equals(otherEntry.reasons);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * person.hashCode() + reasons.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("nusnetid", person.getNusnetid())
+                .add("reasons", reasons)
+                .toString();
+    }
+}
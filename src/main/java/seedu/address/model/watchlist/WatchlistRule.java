@@ -0,0 +1,17 @@
+package seedu.address.model.watchlist;
+
+import java.util.Optional;
+
+import seedu.address.model.person.Person;
+
+/**
+ * A threshold rule that flags a student as at risk.
+ * Rules only look at the given person, so they can be re-evaluated for one student at a time.
+ */
+public interface WatchlistRule {
+
+    /**
+     * Returns a short reason if {@code person} breaks this rule, or an empty {@code Optional} otherwise.
+     */
+    Optional<String> evaluate(Person person);
+}
@@ -0,0 +1,220 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Watches the address book data file for changes made outside the application, such as another TA's copy of the
+ * file being synced through a shared drive.
+ * <p>
+ * When the file changes, it is read on the watcher's own thread and passed to a callback. Changes written by this
+ * application are recognised by the size and modification time of the file, as recorded by
+ * {@link #recordOwnWrite()}, and are not read again.
+ * </p>
+ */
+public class AddressBookFileWatcher {
+
+    /** Time to wait after the last change to the file before reading it, so that a save is read as a whole. */
+    static final long SETTLE_MILLIS = 200;
+
+    /** Number of recent writes by this application that are remembered. */
+    private static final int OWN_WRITE_HISTORY = 8;
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookFileWatcher.class);
+
+    private final Path filePath;
+    private final AddressBookStorage addressBookStorage;
+    private final Consumer<ReadOnlyAddressBook> onExternalChange;
+    private final Deque<FileVersion> ownWrites = new ArrayDeque<>();
+    private FileVersion lastSeenVersion;
+    private WatchService watchService;
+
+    /**
+     * Creates a watcher that reads the file at {@code filePath} with {@code addressBookStorage} whenever it is
+     * changed outside the application, and passes the data read to {@code onExternalChange}.
+     */
+    public AddressBookFileWatcher(Path filePath, AddressBookStorage addressBookStorage,
+            Consumer<ReadOnlyAddressBook> onExternalChange) {
+        requireAllNonNull(filePath, addressBookStorage, onExternalChange);
+        this.filePath = filePath.toAbsolutePath();
+        this.addressBookStorage = addressBookStorage;
+        this.onExternalChange = onExternalChange;
+        this.lastSeenVersion = FileVersion.of(this.filePath);
+    }
+
+    /**
+     * Starts watching the file on a new daemon thread.
+     *
+     * @throws IOException if the folder of the file cannot be watched.
+     */
+    public synchronized void start() throws IOException {
+        if (watchService != null) {
+            return;
+        }
+        watchService = filePath.getFileSystem().newWatchService();
+        filePath.getParent().register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY);
+        Thread thread = new Thread(() -> watch(watchService), "address-book-file-watcher");
+        thread.setDaemon(true);
+        thread.start();
+        logger.info("Watching " + filePath + " for changes made outside the application");
+    }
+
+    /**
+     * Stops watching the file. Does nothing if the watcher was not started.
+     */
+    public synchronized void stop() {
+        if (watchService == null) {
+            return;
+        }
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warning("Failed to stop watching " + filePath + ": " + StringUtil.getDetails(e));
+        }
+        watchService = null;
+    }
+
+    /**
+     * Records that this application has just written the file, so that the change is not read back as an external
+     * change.
+     */
+    public synchronized void recordOwnWrite() {
+        FileVersion version = FileVersion.of(filePath);
+        if (version == null) {
+            return;
+        }
+        ownWrites.addFirst(version);
+        while (ownWrites.size() > OWN_WRITE_HISTORY) {
+            ownWrites.removeLast();
+        }
+    }
+
+    private synchronized boolean isOwnWrite(FileVersion version) {
+        return ownWrites.contains(version);
+    }
+
+    private void watch(WatchService service) {
+        try {
+            while (true) {
+                boolean isFileChanged = pollEvents(service.take());
+                // a save may modify the file several times, so wait until it has settled
+                WatchKey key;
+                while ((key = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    isFileChanged |= pollEvents(key);
+                }
+                if (isFileChanged) {
+                    checkForChange();
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            logger.fine("Stopped watching " + filePath);
+        }
+    }
+
+    /**
+     * Returns true if any of the events of {@code key} may concern the watched file.
+     */
+    private boolean pollEvents(WatchKey key) {
+        boolean isFileChanged = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            isFileChanged |= event.kind() == StandardWatchEventKinds.OVERFLOW
+                    || filePath.getFileName().equals(event.context());
+        }
+        key.reset();
+        return isFileChanged;
+    }
+
+    /**
+     * Reads the file and passes its data to the callback if it has changed since it was last seen, and the change
+     * was not written by this application.
+     *
+     * @return true if the data was passed to the callback.
+     */
+    boolean checkForChange() {
+        FileVersion version = FileVersion.of(filePath);
+        if (version == null || version.equals(lastSeenVersion)) {
+            return false;
+        }
+        lastSeenVersion = version;
+        if (isOwnWrite(version)) {
+            return false;
+        }
+
+        try {
+            Optional<ReadOnlyAddressBook> addressBook = addressBookStorage.readAddressBook(filePath);
+            if (addressBook.isEmpty()) {
+                return false;
+            }
+            logger.info("Data file " + filePath + " was changed outside the application");
+            onExternalChange.accept(addressBook.get());
+            return true;
+        } catch (DataLoadingException e) {
+            // the file may still be being written, in which case the next change to it is read again
+            logger.warning("Changed data file " + filePath + " could not be loaded: " + StringUtil.getDetails(e));
+            return false;
+        }
+    }
+
+    /**
+     * The size and modification time of a version of the file.
+     */
+    private static class FileVersion {
+        private final long size;
+        private final FileTime lastModifiedTime;
+
+        private FileVersion(long size, FileTime lastModifiedTime) {
+            this.size = size;
+            this.lastModifiedTime = lastModifiedTime;
+        }
+
+        /**
+         * Returns the current version of the file at {@code filePath}, or null if it cannot be read.
+         */
+        static FileVersion of(Path filePath) {
+            try {
+                return new FileVersion(Files.size(filePath), Files.getLastModifiedTime(filePath));
+            } catch (IOException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof FileVersion)) {
+                return false;
+            }
+            FileVersion otherVersion = (FileVersion) other;
+            return size == otherVersion.size && lastModifiedTime.equals(otherVersion.lastModifiedTime);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(size, lastModifiedTime);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for reading the address book from a JSON file.
+ */
+@Name("seedu.address.AddressBookRead")
+@Label("Address Book Read")
+@Category({"SoCTAssist", "Storage"})
+@Description("Deserialization of the address book from its JSON data file")
+@StackTrace(false)
+public class AddressBookReadEvent extends Event {
+
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Bytes Read")
+    @DataAmount(DataAmount.BYTES)
+    private long bytes;
+
+    @Label("Persons")
+    private int personCount;
+
+    @Label("Consultations")
+    private int consultationCount;
+
+    @Label("Found")
+    @Description("False if there was no data file to read")
+    private boolean found;
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void setPersonCount(int personCount) {
+        this.personCount = personCount;
+    }
+
+    public void setConsultationCount(int consultationCount) {
+        this.consultationCount = consultationCount;
+    }
+
+    public void setFound(boolean found) {
+        this.found = found;
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.storage;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder event for writing the address book to a JSON file.
+ */
+@Name("seedu.address.AddressBookSave")
+@Label("Address Book Save")
+@Category({"SoCTAssist", "Storage"})
+@Description("Serialization of the address book to its JSON data file")
+@StackTrace(false)
+public class AddressBookSaveEvent extends Event {
+
+    @Label("File Path")
+    private String filePath;
+
+    @Label("Bytes Written")
+    @DataAmount(DataAmount.BYTES)
+    private long bytes;
+
+    @Label("Persons")
+    private int personCount;
+
+    @Label("Consultations")
+    private int consultationCount;
+
+    public void setFilePath(String filePath) {
+        this.filePath = filePath;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public void setPersonCount(int personCount) {
+        this.personCount = personCount;
+    }
+
+    public void setConsultationCount(int consultationCount) {
+        this.consultationCount = consultationCount;
+    }
+}
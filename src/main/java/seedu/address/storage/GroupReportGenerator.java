@@ -0,0 +1,228 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.Group;
+import seedu.address.model.person.Attendance;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.Homework;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes one CSV attendance and homework report per tutorial group.
+ * <p>
+ * The roster is partitioned by group in a single pass, then every group's report is computed and streamed to its own
+ * file by a separate task on a {@link ForkJoinPool}, so generation time scales with the number of cores rather than
+ * with the size of the whole roster.
+ * </p>
+ */
+public class GroupReportGenerator {
+
+    public static final String FILE_EXTENSION = ".csv";
+
+    private static final Logger logger = LogsCenter.getLogger(GroupReportGenerator.class);
+    private static final int FIRST_WEEK = 2;
+    private static final int LAST_WEEK = 13;
+
+    private final Path outputDirectory;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a generator that writes into {@code outputDirectory} using the common fork/join pool.
+     */
+    public GroupReportGenerator(Path outputDirectory) {
+        this(outputDirectory, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a generator that writes into {@code outputDirectory} using {@code pool}.
+     */
+    public GroupReportGenerator(Path outputDirectory, ForkJoinPool pool) {
+        requireAllNonNull(outputDirectory, pool);
+        this.outputDirectory = outputDirectory;
+        this.pool = pool;
+    }
+
+    /**
+     * Writes a report for every group in {@code groups}, using the records of {@code persons}.
+     *
+     * @return the written files, ordered by group ID.
+     * @throws IOException if any report could not be written.
+     */
+    public List<Path> generate(List<Group> groups, List<Person> persons) throws IOException {
+        requireAllNonNull(groups, persons);
+        Map<GroupId, List<Person>> membersByGroup = new HashMap<>();
+        for (Group group : groups) {
+            membersByGroup.put(group.getGroupId(), new ArrayList<>());
+        }
+        for (Person person : persons) {
+            List<Person> members = membersByGroup.get(person.getGroupId());
+            if (members != null) {
+                members.add(person);
+            }
+        }
+
+        Files.createDirectories(outputDirectory);
+        List<GroupReportTask> tasks = new ArrayList<>();
+        membersByGroup.forEach((groupId, members) -> tasks.add(new GroupReportTask(groupId, members)));
+        try {
+            pool.invoke(new AllGroupsTask(tasks));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        List<Path> written = new ArrayList<>();
+        for (GroupReportTask task : tasks) {
+            written.add(task.join());
+        }
+        written.sort(Comparator.comparing(Path::toString));
+        logger.info("Wrote " + written.size() + " group reports to " + outputDirectory);
+        return written;
+    }
+
+    /**
+     * Forks one {@link GroupReportTask} per group and waits for all of them.
+     */
+    private static class AllGroupsTask extends RecursiveTask<Void> {
+        private final List<GroupReportTask> tasks;
+
+        AllGroupsTask(List<GroupReportTask> tasks) {
+            this.tasks = tasks;
+        }
+
+        @Override
+        protected Void compute() {
+            invokeAll(tasks);
+            return null;
+        }
+    }
+
+    /**
+     * Computes and streams the report of a single group.
+     */
+    private class GroupReportTask extends RecursiveTask<Path> {
+        private final GroupId groupId;
+        private final List<Person> members;
+
+        GroupReportTask(GroupId groupId, List<Person> members) {
+            this.groupId = groupId;
+            this.members = members;
+        }
+
+        @Override
+        protected Path compute() {
+            Path file = outputDirectory.resolve(groupId + FILE_EXTENSION);
+            try {
+                FileUtil.createIfMissing(file);
+                try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+                    writeReport(writer, members);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return file;
+        }
+    }
+
+    /**
+     * Writes the header, one row per student (sorted by NUSNET ID) and a summary row for the group.
+     */
+    static void writeReport(BufferedWriter writer, List<Person> members) throws IOException {
+        List<Person> sorted = new ArrayList<>(members);
+        sorted.sort(Comparator.comparing(person -> person.getNusnetid().value));
+
+        writer.write(header());
+        writer.newLine();
+        int[] statusTotals = new int[AttendanceStatus.values().length];
+        int[] homeworkDone = new int[HomeworkTracker.MAX_ASSIGNMENTS + 1];
+        for (Person person : sorted) {
+            writer.write(row(person, statusTotals, homeworkDone));
+            writer.newLine();
+        }
+
+        StringBuilder summary = new StringBuilder("Total,").append(sorted.size()).append(" students");
+        for (int total : statusTotals) {
+            summary.append(',').append(total);
+        }
+        summary.append(",".repeat(LAST_WEEK - FIRST_WEEK + 1));
+        for (int assignmentId = 1; assignmentId <= HomeworkTracker.MAX_ASSIGNMENTS; assignmentId++) {
+            summary.append(',').append(homeworkDone[assignmentId]).append(" done");
+        }
+        writer.write(summary.toString());
+        writer.newLine();
+    }
+
+    private static String header() {
+        StringBuilder header = new StringBuilder("NUSNET ID,Name,Present,Absent,Excused");
+        for (int week = FIRST_WEEK; week <= LAST_WEEK; week++) {
+            header.append(",W").append(week);
+        }
+        for (int assignmentId = 1; assignmentId <= HomeworkTracker.MAX_ASSIGNMENTS; assignmentId++) {
+            header.append(",HW").append(assignmentId);
+        }
+        return header.toString();
+    }
+
+    private static String row(Person person, int[] statusTotals, int[] homeworkDone) {
+        AttendanceStatus[] weeks = new AttendanceStatus[LAST_WEEK + 1];
+        int[] counts = new int[AttendanceStatus.values().length];
+        List<Attendance> attendances = person.getAttendanceSheet() == null
+                ? Collections.emptyList()
+                : person.getAttendanceSheet().getAttendanceList();
+        for (Attendance attendance : attendances) {
+            weeks[attendance.getWeek()] = attendance.getAttendanceStatus();
+            counts[attendance.getAttendanceStatus().ordinal()]++;
+        }
+
+        StringBuilder row = new StringBuilder(person.getNusnetid().value)
+                .append(',').append(escape(person.getName().fullName));
+        for (int i = 0; i < counts.length; i++) {
+            row.append(',').append(counts[i]);
+            statusTotals[i] += counts[i];
+        }
+        for (int week = FIRST_WEEK; week <= LAST_WEEK; week++) {
+            row.append(',');
+            if (weeks[week] != null) {
+                row.append(weeks[week].getStatus());
+            }
+        }
+        for (int assignmentId = 1; assignmentId <= HomeworkTracker.MAX_ASSIGNMENTS; assignmentId++) {
+            row.append(',');
+            Homework homework = person.getHomeworkTracker().asMap().get(assignmentId);
+            if (homework != null) {
+                String status = homework.getStatus();
+                row.append(status);
+                if (!status.equalsIgnoreCase(Homework.STATUS_INCOMPLETE)) {
+                    homeworkDone[assignmentId]++;
+                }
+            }
+        }
+        return row.toString();
+    }
+
+    private static String escape(String value) {
+        if (value.contains(",") || value.contains("\"")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly entry of the archive index, describing one archived semester.
+ */
+class JsonAdaptedArchive {
+
+    private final String semester;
+    private final String file;
+    private final String archivedOn;
+    private final int persons;
+    private final int consultations;
+    private final List<String> keywords = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedArchive} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedArchive(@JsonProperty("semester") String semester, @JsonProperty("file") String file,
+            @JsonProperty("archivedOn") String archivedOn, @JsonProperty("persons") int persons,
+            @JsonProperty("consultations") int consultations, @JsonProperty("keywords") Collection<String> keywords) {
+        this.semester = semester;
+        this.file = file;
+        this.archivedOn = archivedOn;
+        this.persons = persons;
+        this.consultations = consultations;
+        if (keywords != null) {
+            this.keywords.addAll(keywords);
+        }
+    }
+
+    public String getSemester() {
+        return semester;
+    }
+
+    public String getFile() {
+        return file;
+    }
+
+    /**
+     * Returns true if any of the archived students may have one of {@code keywords}, which are in lower case.
+     */
+    public boolean mayContainAny(Set<String> keywords) {
+        return this.keywords.stream().anyMatch(keywords::contains);
+    }
+}
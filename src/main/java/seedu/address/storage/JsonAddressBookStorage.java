@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -45,17 +46,29 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
+        AddressBookReadEvent event = new AddressBookReadEvent();
+        event.begin();
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
+                    filePath, JsonSerializableAddressBook.class);
+            if (!jsonAddressBook.isPresent()) {
+                return Optional.empty();
+            }
+
+            ReadOnlyAddressBook addressBook = jsonAddressBook.get().toModelType();
+            if (event.isEnabled()) {
+                event.setFound(true);
+                event.setBytes(getFileSize(filePath));
+                event.setPersonCount(addressBook.getPersonList().size());
+                event.setConsultationCount(addressBook.getConsultationList().size());
+            }
+            return Optional.of(addressBook);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
+        } finally {
+            event.setFilePath(filePath.toString());
+            event.commit();
         }
     }
 
@@ -73,7 +86,29 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
+        AddressBookSaveEvent event = new AddressBookSaveEvent();
+        event.begin();
         FileUtil.createIfMissing(filePath);
         JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        event.end();
+        if (event.shouldCommit()) {
+            event.setFilePath(filePath.toString());
+            event.setBytes(getFileSize(filePath));
+            event.setPersonCount(addressBook.getPersonList().size());
+            event.setConsultationCount(addressBook.getConsultationList().size());
+            event.commit();
+        }
+    }
+
+    /**
+     * Returns the size of the file at {@code filePath} in bytes, or 0 if it cannot be determined.
+     * Only used to fill in flight recorder events, so failures are not reported.
+     */
+    private static long getFileSize(Path filePath) {
+        try {
+            return Files.size(filePath);
+        } catch (IOException e) {
+            return 0;
+        }
     }
 }
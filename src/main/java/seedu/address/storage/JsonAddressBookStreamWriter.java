@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes students to a data file as they are produced, in the format read by {@link JsonAddressBookStorage}, so that
+ * rosters too large to hold in memory can still be saved.
+ * <p>
+ * Only the consultations and the NUSNET IDs of each group, which follow the students in the file, are kept until the
+ * students have all been written. The file is the same as the one {@link JsonAddressBookStorage} would save for an
+ * address book holding the same students. The students must be distinct; they are not checked for duplicates.
+ * </p>
+ */
+public class JsonAddressBookStreamWriter {
+
+    /**
+     * Writes {@code persons}, their consultations and their groups to {@code filePath}, replacing any existing file.
+     *
+     * @return the number of students written.
+     * @throws IOException if there was an error writing to the file.
+     */
+    public static int write(Iterator<Person> persons, Path filePath) throws IOException {
+        requireAllNonNull(persons, filePath);
+
+        List<JsonAdaptedConsultation> consultations = new ArrayList<>();
+        Map<String, List<String>> groupMembers = new LinkedHashMap<>();
+        int personCount = 0;
+
+        FileUtil.createIfMissing(filePath);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(filePath));
+             JsonGenerator generator = JsonUtil.createJsonGenerator(out)) {
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart("persons");
+            while (persons.hasNext()) {
+                Person person = persons.next();
+                generator.writeObject(new JsonAdaptedPerson(person));
+                person.getConsultation().ifPresent(consultation ->
+                        consultations.add(new JsonAdaptedConsultation(consultation)));
+                groupMembers.computeIfAbsent(person.getGroupId().value, groupId -> new ArrayList<>())
+                        .add(person.getNusnetid().value);
+                personCount++;
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("consultations");
+            for (JsonAdaptedConsultation consultation : consultations) {
+                generator.writeObject(consultation);
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("groups");
+            for (Map.Entry<String, List<String>> group : groupMembers.entrySet()) {
+                generator.writeObject(new JsonAdaptedGroup(group.getKey(), group.getValue()));
+            }
+            generator.writeEndArray();
+
+            generator.writeEndObject();
+        }
+        return personCount;
+    }
+}
@@ -0,0 +1,211 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.BiConsumer;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * A directory of read-only archives of past semesters, each holding the students of a semester with their
+ * attendance, homework and consultations.
+ * <p>
+ * Each archive is a GZIP compressed JSON Lines file, with one student per line, so that it can be searched one
+ * student at a time without reading the whole archive into memory. The index file in the directory lists the
+ * archives together with the lower case name words and NUSNET IDs of their students, so that a search only reads
+ * the archives that can have a match.
+ * </p>
+ */
+public class JsonArchiveStorage {
+
+    public static final String INDEX_FILE_NAME = "index.json";
+    public static final String ARCHIVE_FILE_EXTENSION = ".jsonl.gz";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonArchiveStorage.class);
+
+    private final Path directory;
+
+    public JsonArchiveStorage(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the archive directory of the address book saved in {@code addressBookFilePath}, which is next to it and
+     * named after it, so that the data files of different modules have their own archives.
+     */
+    public static Path getArchiveDirectory(Path addressBookFilePath) {
+        String fileName = addressBookFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return addressBookFilePath.resolveSibling(baseName + "-archive");
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the archive file of {@code semester}.
+     */
+    public Path getArchiveFilePath(String semester) {
+        return directory.resolve(semester + ARCHIVE_FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the name of the archive of {@code semester}, as it was given when archiving, if there is one.
+     * Semesters are matched ignoring case.
+     *
+     * @throws DataLoadingException if the index could not be read.
+     */
+    public Optional<String> findArchive(String semester) throws DataLoadingException {
+        requireNonNull(semester);
+        return readIndex().getArchives().stream()
+                .map(JsonAdaptedArchive::getSemester)
+                .filter(semester::equalsIgnoreCase)
+                .findFirst();
+    }
+
+    /**
+     * Writes {@code persons} to a new archive of {@code semester} and adds it to the index. The archive is made
+     * read-only once it is complete. No archive is left behind if this fails.
+     *
+     * @throws DataLoadingException if the index could not be read.
+     * @throws IOException if there was an error writing to the archive or the index.
+     */
+    public void archive(String semester, Collection<Person> persons) throws DataLoadingException, IOException {
+        requireAllNonNull(semester, persons);
+        JsonSerializableArchiveIndex index = readIndex();
+        Path archiveFilePath = getArchiveFilePath(semester);
+        if (Files.exists(archiveFilePath)) {
+            throw new IOException("Archive file already exists: " + archiveFilePath);
+        }
+
+        Set<String> keywords = new TreeSet<>();
+        int consultationCount = 0;
+        Path partialFilePath = directory.resolve(semester + ARCHIVE_FILE_EXTENSION + ".part");
+        FileUtil.createIfMissing(partialFilePath);
+        try {
+            try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                    new GZIPOutputStream(Files.newOutputStream(partialFilePath)), UTF_8))) {
+                for (Person person : persons) {
+                    writer.write(JsonUtil.toSingleLineJsonString(new JsonAdaptedPerson(person)));
+                    writer.write('\n');
+                    keywords.addAll(getKeywords(person));
+                    consultationCount += person.getConsultation().isPresent() ? 1 : 0;
+                }
+            }
+            Files.move(partialFilePath, archiveFilePath);
+
+            index.getArchives().add(new JsonAdaptedArchive(semester, archiveFilePath.getFileName().toString(),
+                    LocalDate.now().toString(), persons.size(), consultationCount, keywords));
+            JsonUtil.saveJsonFile(index, directory.resolve(INDEX_FILE_NAME));
+        } catch (IOException e) {
+            Files.deleteIfExists(partialFilePath);
+            Files.deleteIfExists(archiveFilePath);
+            throw e;
+        }
+
+        if (!archiveFilePath.toFile().setReadOnly()) {
+            logger.warning("Could not make archive " + archiveFilePath + " read-only");
+        }
+        logger.info("Archived " + persons.size() + " students of " + semester + " to " + archiveFilePath);
+    }
+
+    /**
+     * Passes every archived student whose name has one of {@code keywords} as a word, or whose NUSNET ID is one of
+     * {@code keywords}, ignoring case, to {@code onMatch} together with the semester of its archive. The archives
+     * are read one student at a time, in the order they were archived.
+     *
+     * @throws DataLoadingException if the index or an archive could not be read.
+     */
+    public void search(Collection<String> keywords, BiConsumer<String, Person> onMatch)
+            throws DataLoadingException {
+        requireAllNonNull(keywords, onMatch);
+        Set<String> lowerCaseKeywords = new TreeSet<>();
+        keywords.forEach(keyword -> lowerCaseKeywords.add(keyword.toLowerCase(Locale.ROOT)));
+
+        for (JsonAdaptedArchive archive : readIndex().getArchives()) {
+            if (archive.mayContainAny(lowerCaseKeywords)) {
+                search(archive, lowerCaseKeywords, onMatch);
+            }
+        }
+    }
+
+    private void search(JsonAdaptedArchive archive, Set<String> keywords, BiConsumer<String, Person> onMatch)
+            throws DataLoadingException {
+        Path archiveFilePath = directory.resolve(archive.getFile());
+        // names may have quotes, which are escaped in the lines of the archive
+        List<String> escapedKeywords = new ArrayList<>();
+        keywords.forEach(keyword -> escapedKeywords.add(keyword.replace("\\", "\\\\").replace("\"", "\\\"")));
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(archiveFilePath)), UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                // a student is only converted if its line has a keyword somewhere, which few lines do
+                if (!containsAny(line.toLowerCase(Locale.ROOT), escapedKeywords)) {
+                    continue;
+                }
+                Person person = JsonUtil.fromJsonString(line, JsonAdaptedPerson.class).toModelType();
+                if (getKeywords(person).stream().anyMatch(keywords::contains)) {
+                    onMatch.accept(archive.getSemester(), person);
+                }
+            }
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading archive " + archiveFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private JsonSerializableArchiveIndex readIndex() throws DataLoadingException {
+        return JsonUtil.readJsonFile(directory.resolve(INDEX_FILE_NAME), JsonSerializableArchiveIndex.class)
+                .orElseGet(() -> new JsonSerializableArchiveIndex(new ArrayList<>()));
+    }
+
+    /**
+     * Returns the lower case words of the name and the NUSNET ID of {@code person}, by which it can be searched.
+     */
+    private static List<String> getKeywords(Person person) {
+        List<String> keywords = new ArrayList<>();
+        for (String word : person.getName().fullName.split("\\s+")) {
+            keywords.add(word.toLowerCase(Locale.ROOT));
+        }
+        keywords.add(person.getNusnetid().value.toLowerCase(Locale.ROOT));
+        return keywords;
+    }
+
+    private static boolean containsAny(String line, List<String> keywords) {
+        for (String keyword : keywords) {
+            if (line.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -13,7 +15,9 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Group;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.event.Consultation;
+import seedu.address.model.person.GroupId;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -77,20 +81,22 @@ class JsonSerializableAddressBook {
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         // Convert and add all students so that groups can refer to existing students
+        List<Person> modelPersons = new ArrayList<>();
+        Map<GroupId, List<Person>> groupMembers = new LinkedHashMap<>();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
             Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            if (addressBook.hasGroup(person.getGroupId())) {
-                addressBook.getGroup(person.getGroupId()).addStudent(person);
-            } else {
-                Group newGroup = new Group(person.getGroupId());
-                newGroup.addStudent(person);
-                addressBook.addGroup(newGroup);
-            }
-            addressBook.addPerson(person);
+            modelPersons.add(person);
+            groupMembers.computeIfAbsent(person.getGroupId(), groupId -> new ArrayList<>()).add(person);
+        }
+        // checked all at once, as checking each student against all the others grows quadratically with the roster
+        try {
+            addressBook.setPersons(modelPersons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
         }
+        List<Group> modelGroups = new ArrayList<>();
+        groupMembers.forEach((groupId, members) -> modelGroups.add(new Group(groupId, members)));
+        addressBook.setGroupList(modelGroups);
         // Convert and add all consultations
         for (JsonAdaptedConsultation jsonAdaptedConsultation : consultations) {
             Consultation consultation = jsonAdaptedConsultation.toModelType();
@@ -0,0 +1,29 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The index of an archive directory that is serializable to JSON format.
+ */
+class JsonSerializableArchiveIndex {
+
+    private final List<JsonAdaptedArchive> archives = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableArchiveIndex} with the given archives.
+     */
+    @JsonCreator
+    public JsonSerializableArchiveIndex(@JsonProperty("archives") List<JsonAdaptedArchive> archives) {
+        if (archives != null) {
+            this.archives.addAll(archives);
+        }
+    }
+
+    public List<JsonAdaptedArchive> getArchives() {
+        return archives;
+    }
+}
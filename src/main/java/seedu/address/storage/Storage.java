@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -23,10 +24,29 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     Path getAddressBookFilePath();
 
+    /**
+     * Changes the data file that {@link #readAddressBook()} and {@link #saveAddressBook(ReadOnlyAddressBook)} use.
+     * If the data file was being watched, the new data file is watched instead, if it can be.
+     */
+    void setAddressBookFilePath(Path filePath);
+
     @Override
     Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException;
 
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Starts watching the address book data file, and passes its data to {@code onExternalChange} whenever it is
+     * changed outside the application. {@code onExternalChange} is called on a background thread.
+     *
+     * @throws IOException if the data file cannot be watched.
+     */
+    void watchAddressBookFile(Consumer<ReadOnlyAddressBook> onExternalChange) throws IOException;
+
+    /**
+     * Stops watching the address book data file. Does nothing if it is not being watched.
+     */
+    void stopWatchingAddressBookFile();
+
 }
@@ -1,12 +1,16 @@
 package seedu.address.storage;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
@@ -19,6 +23,9 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    private Path addressBookFilePath;
+    private AddressBookFileWatcher addressBookFileWatcher;
+    private Consumer<ReadOnlyAddressBook> onExternalChange;
 
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
@@ -26,6 +33,7 @@ public class StorageManager implements Storage {
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.addressBookFilePath = addressBookStorage.getAddressBookFilePath();
     }
 
     // ================ UserPrefs methods ==============================
@@ -50,12 +58,26 @@ public class StorageManager implements Storage {
 
     @Override
     public Path getAddressBookFilePath() {
-        return addressBookStorage.getAddressBookFilePath();
+        return addressBookFilePath;
+    }
+
+    @Override
+    public void setAddressBookFilePath(Path filePath) {
+        requireNonNull(filePath);
+        addressBookFilePath = filePath;
+        if (addressBookFileWatcher == null) {
+            return;
+        }
+        try {
+            watchAddressBookFile(onExternalChange);
+        } catch (IOException e) {
+            logger.warning("Failed to watch data file " + filePath + " for changes : " + StringUtil.getDetails(e));
+        }
     }
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
-        return readAddressBook(addressBookStorage.getAddressBookFilePath());
+        return readAddressBook(addressBookFilePath);
     }
 
     @Override
@@ -66,13 +88,34 @@ public class StorageManager implements Storage {
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        saveAddressBook(addressBook, addressBookFilePath);
     }
 
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
+        if (addressBookFileWatcher != null && filePath.equals(addressBookFilePath)) {
+            addressBookFileWatcher.recordOwnWrite();
+        }
+    }
+
+    @Override
+    public void watchAddressBookFile(Consumer<ReadOnlyAddressBook> onExternalChange) throws IOException {
+        stopWatchingAddressBookFile();
+        AddressBookFileWatcher watcher = new AddressBookFileWatcher(addressBookFilePath, addressBookStorage,
+                onExternalChange);
+        watcher.start();
+        addressBookFileWatcher = watcher;
+        this.onExternalChange = onExternalChange;
+    }
+
+    @Override
+    public void stopWatchingAddressBookFile() {
+        if (addressBookFileWatcher != null) {
+            addressBookFileWatcher.stop();
+            addressBookFileWatcher = null;
+        }
     }
 
 }
@@ -1,12 +1,17 @@
 package seedu.address.ui;
 
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.control.ProgressIndicator;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
+import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -16,23 +21,66 @@ public class CommandBox extends UiPart<Region> {
     public static final String ERROR_STYLE_CLASS = "error";
     private static final String FXML = "CommandBox.fxml";
 
-    private final CommandExecutor commandExecutor;
+    private final SerialCommandRunner commandRunner;
+    private final CommandCompleter commandCompleter;
 
     @FXML
     private TextField commandTextField;
 
+    @FXML
+    private ProgressIndicator busyIndicator;
+
     /**
-     * Creates a {@code CommandBox} with the given {@code CommandExecutor}.
+     * Creates a {@code CommandBox} with the given {@code CommandExecutor} and {@code CommandCompleter}.
      */
-    public CommandBox(CommandExecutor commandExecutor) {
+    public CommandBox(CommandExecutor commandExecutor, CommandCompleter commandCompleter) {
         super(FXML);
-        this.commandExecutor = commandExecutor;
+        this.commandRunner = new SerialCommandRunner(commandExecutor);
+        this.commandCompleter = commandCompleter;
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, event -> {
+            if (event.getCode() == KeyCode.TAB) {
+                completeCommandWord();
+                event.consume();
+            }
+        });
+        setBusy(false);
+    }
+
+    /**
+     * Completes the command word being typed as far as all command words starting with it agree,
+     * followed by a space if only one command word matches.
+     */
+    private void completeCommandWord() {
+        String partialCommandWord = commandTextField.getText().stripLeading();
+        if (partialCommandWord.isEmpty() || partialCommandWord.chars().anyMatch(Character::isWhitespace)) {
+            return;
+        }
+        List<String> completions = commandCompleter.complete(partialCommandWord);
+        if (completions.isEmpty()) {
+            return;
+        }
+
+        String completed = completions.get(0);
+        for (String completion : completions) {
+            int commonLength = 0;
+            while (commonLength < completed.length() && commonLength < completion.length()
+                    && completed.charAt(commonLength) == completion.charAt(commonLength)) {
+                commonLength++;
+            }
+            completed = completed.substring(0, commonLength);
+        }
+        if (completions.size() == 1) {
+            completed += " ";
+        }
+        commandTextField.setText(completed);
+        commandTextField.positionCaret(completed.length());
     }
 
     /**
-     * Handles the Enter button pressed event.
+     * Handles the Enter button pressed event. The text field still fires Enter while it is not editable, so a command
+     * entered while another is running is dropped by the {@code SerialCommandRunner}.
      */
     @FXML
     private void handleCommandEntered() {
@@ -41,12 +89,29 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
-            setStyleToIndicateCommandFailure();
+        Optional<CompletableFuture<CommandResult>> pendingResult = commandRunner.run(commandText);
+        if (pendingResult.isEmpty()) {
+            return;
         }
+        setBusy(true);
+        pendingResult.get().whenComplete((result, error) -> {
+            setBusy(false);
+            if (error == null) {
+                commandTextField.setText("");
+            } else {
+                setStyleToIndicateCommandFailure();
+            }
+            commandTextField.requestFocus();
+        });
+    }
+
+    /**
+     * Locks the command box and shows the busy indicator while a command is in flight, so that commands are entered
+     * one at a time.
+     */
+    private void setBusy(boolean isBusy) {
+        commandTextField.setEditable(!isBusy);
+        busyIndicator.setVisible(isBusy);
     }
 
     /**
@@ -75,11 +140,25 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Starts executing the command and returns the pending result.
+         * The returned future completes on the JavaFX application thread, exceptionally if the command failed.
          *
          * @see seedu.address.logic.Logic#execute(String)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        CompletableFuture<CommandResult> execute(String commandText);
+    }
+
+    /**
+     * Represents a function that lists the command words a partially typed command word can be completed to.
+     */
+    @FunctionalInterface
+    public interface CommandCompleter {
+        /**
+         * Returns the command words that start with {@code partialCommandWord}.
+         *
+         * @see seedu.address.logic.Logic#getCommandWordCompletions(String)
+         */
+        List<String> complete(String partialCommandWord);
     }
 
 }
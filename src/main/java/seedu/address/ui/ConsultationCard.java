@@ -4,7 +4,6 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
-import seedu.address.model.Model;
 import seedu.address.model.event.Consultation;
 import seedu.address.model.person.Person;
 
@@ -30,15 +29,15 @@ public class ConsultationCard extends UiPart<Region> {
     // Add other fields as needed
 
     /**
-     * Creates a {@code ConsultationCard} with the given {@code Consultation} and index to display.
+     * Creates a {@code ConsultationCard} with the given {@code Consultation} and index to display, for
+     * {@code student}, or for an unknown student if it is null.
      */
-    public ConsultationCard(Consultation consultation, int displayedIndex, Model model) {
+    public ConsultationCard(Consultation consultation, int displayedIndex, Person student) {
         super(FXML);
         this.consultation = consultation;
         id.setText(displayedIndex + ". ");
         consultationTime.setText(consultation.showConsultationTime());
 
-        Person student = model.findPerson(consultation.getNusnetid());
         if (student != null) {
             studentName.setText(student.getName().fullName);
             studentNusNetId.setText(consultation.getNusnetid().value);
@@ -1,15 +1,25 @@
 package seedu.address.ui;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
-import seedu.address.model.Model;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.event.Consultation;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
 
 /**
  * Panel containing the list of consultations.
+ * <p>
+ * The students of the consultations are looked up in the latest published snapshot of the address book rather than
+ * in the model, which is changed by the command executor while the panel is drawn.
+ * </p>
  */
 public class ConsultationListPanel extends UiPart<Region> {
     private static final String FXML = "ConsultationListPanel.fxml";
@@ -17,16 +27,40 @@ public class ConsultationListPanel extends UiPart<Region> {
     @FXML
     private ListView<Consultation> consultationListView;
 
-    private Model model;
+    private final Supplier<AddressBookSnapshot> snapshotSupplier;
+    /** Students of {@link #studentsVersion} by NUSNET ID, built again when a newer snapshot is published. */
+    private final Map<Nusnetid, Person> students = new HashMap<>();
+    private long studentsVersion = -1;
 
     /**
-     * Creates a {@code ConsultationListPanel} with the given {@code ObservableList}.
+     * Creates a {@code ConsultationListPanel} with the given {@code ObservableList}, whose students are looked up in
+     * the snapshots from {@code snapshotSupplier}.
      */
-    public ConsultationListPanel(ObservableList<Consultation> consultationList, Model model) {
+    public ConsultationListPanel(ObservableList<Consultation> consultationList,
+            Supplier<AddressBookSnapshot> snapshotSupplier) {
         super(FXML);
+        this.snapshotSupplier = snapshotSupplier;
         consultationListView.setItems(consultationList);
         consultationListView.setCellFactory(listView -> new ConsultationListViewCell());
-        this.model = model;
+    }
+
+    /**
+     * Redraws the visible consultation cards, e.g. to pick up changes to the students they refer to.
+     */
+    public void refresh() {
+        consultationListView.refresh();
+    }
+
+    private Person findStudent(Nusnetid nusnetid) {
+        AddressBookSnapshot snapshot = snapshotSupplier.get();
+        if (snapshot.getVersion() != studentsVersion) {
+            students.clear();
+            for (Person person : snapshot.getUniquePersonList()) {
+                students.put(person.getNusnetid(), person);
+            }
+            studentsVersion = snapshot.getVersion();
+        }
+        return students.get(nusnetid);
     }
 
     /**
@@ -41,7 +75,8 @@ public class ConsultationListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ConsultationCard(consultation, getIndex() + 1, model).getRoot());
+                Person student = findStudent(consultation.getNusnetid());
+                setGraphic(new ConsultationCard(consultation, getIndex() + 1, student).getRoot());
             }
         }
     }
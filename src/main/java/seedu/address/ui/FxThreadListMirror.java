@@ -0,0 +1,79 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A copy of a model list that is only ever modified on the JavaFX application thread.
+ * <p>
+ * Commands change the model's lists on the command thread. This mirror records each change of the source list on
+ * that thread and replays it on its own list through {@link Platform#runLater}, so list views can observe the mirror
+ * safely while the model stays owned by a single writer.
+ * </p>
+ */
+public class FxThreadListMirror<E> {
+
+    private final ObservableList<E> mirror = FXCollections.observableArrayList();
+    private final ObservableList<E> unmodifiableMirror = FXCollections.unmodifiableObservableList(mirror);
+
+    /**
+     * Creates a mirror of {@code source}. Must be called on the JavaFX application thread while no command is running.
+     */
+    public FxThreadListMirror(ObservableList<? extends E> source) {
+        requireNonNull(source);
+        mirror.setAll(source);
+        source.addListener((ListChangeListener<E>) change -> runOnFxThread(recordChange(change)));
+    }
+
+    /**
+     * Returns the mirrored list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<E> asUnmodifiableObservableList() {
+        return unmodifiableMirror;
+    }
+
+    /**
+     * Copies the data of {@code change} and returns an action that applies the same change to the mirror.
+     */
+    private Runnable recordChange(ListChangeListener.Change<? extends E> change) {
+        List<Runnable> steps = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<E> snapshot = new ArrayList<>(change.getList());
+                return () -> mirror.setAll(snapshot);
+            }
+            int from = change.getFrom();
+            if (change.wasUpdated()) {
+                List<E> updated = new ArrayList<>(change.getList().subList(from, change.getTo()));
+                steps.add(() -> {
+                    for (int i = 0; i < updated.size(); i++) {
+                        mirror.set(from + i, updated.get(i));
+                    }
+                });
+            } else {
+                int removedSize = change.getRemovedSize();
+                List<E> added = new ArrayList<>(change.getAddedSubList());
+                steps.add(() -> {
+                    mirror.remove(from, from + removedSize);
+                    mirror.addAll(from, added);
+                });
+            }
+        }
+        return () -> steps.forEach(Runnable::run);
+    }
+
+    private static void runOnFxThread(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+        } else {
+            Platform.runLater(action);
+        }
+    }
+}
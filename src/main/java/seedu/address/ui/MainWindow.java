@@ -1,21 +1,30 @@
 package seedu.address.ui;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
+import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.TextInputControl;
 import javafx.scene.input.KeyCombination;
 import javafx.scene.input.KeyEvent;
+import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ViewCommand.ViewMode;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.Person;
 
 /**
  * The Main Window. Provides the basic application layout containing
@@ -24,15 +33,24 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final String MESSAGE_UNEXPECTED_ERROR = "An unexpected error occurred: ";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
 
+    /**
+     * The only thread that changes the model, shared with everything else that changes it. The window only reads
+     * the model through the mirrors of its lists and the published snapshots.
+     */
+    private final Executor commandExecutor;
+
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
+    private PersonTablePanel personTablePanel;
     private ConsultationListPanel consultationListPanel;
+    private ViewMode personViewMode = ViewMode.CARDS;
     private ResultDisplay resultDisplay;
     private HelpWindow helpWindow;
 
@@ -52,14 +70,16 @@ public class MainWindow extends UiPart<Stage> {
     private StackPane statusbarPlaceholder;
 
     /**
-     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}, whose commands are run on
+     * {@code commandExecutor}.
      */
-    public MainWindow(Stage primaryStage, Logic logic) {
+    public MainWindow(Stage primaryStage, Logic logic, Executor commandExecutor) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.commandExecutor = commandExecutor;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -111,8 +131,16 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
-        personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
+        ObservableList<Person> persons =
+                new FxThreadListMirror<>(logic.getFilteredPersonList()).asUnmodifiableObservableList();
+        ObservableList<Consultation> consultations =
+                new FxThreadListMirror<>(logic.getFilteredConsultationList()).asUnmodifiableObservableList();
+        personListPanel = new PersonListPanel(persons);
+        personTablePanel = new PersonTablePanel(persons);
+        consultationListPanel = new ConsultationListPanel(consultations, logic::getAddressBookSnapshot);
+        personListPanelPlaceholder.getChildren().addAll(personListPanel.getRoot(), personTablePanel.getRoot(),
+                consultationListPanel.getRoot());
+        showPersonList();
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
@@ -120,7 +148,7 @@ public class MainWindow extends UiPart<Stage> {
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
-        CommandBox commandBox = new CommandBox(this::executeCommand);
+        CommandBox commandBox = new CommandBox(this::executeCommand, logic::getCommandWordCompletions);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
     }
 
@@ -159,7 +187,7 @@ public class MainWindow extends UiPart<Stage> {
     private void handleExit() {
         GuiSettings guiSettings = new GuiSettings(primaryStage.getWidth(), primaryStage.getHeight(),
                 (int) primaryStage.getX(), (int) primaryStage.getY());
-        logic.setGuiSettings(guiSettings);
+        commandExecutor.execute(() -> logic.setGuiSettings(guiSettings));
         helpWindow.hide();
         primaryStage.hide();
     }
@@ -170,53 +198,84 @@ public class MainWindow extends UiPart<Stage> {
 
     /**
      * Switches to person list view.
+     * Both list panels are created once in {@link #fillInnerParts()} and stay bound to the model's lists,
+     * so switching only changes which one is visible and keeps their scroll positions.
      */
     public void showPersonList() {
-        personListPanelPlaceholder.getChildren().clear();
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
-        personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
+        setShown(personListPanel.getRoot(), personViewMode == ViewMode.CARDS);
+        setShown(personTablePanel.getRoot(), personViewMode == ViewMode.TABLE);
+        setShown(consultationListPanel.getRoot(), false);
     }
 
     /**
      * Switches to consultation list view.
      */
     public void showConsultationList() {
-        personListPanelPlaceholder.getChildren().clear();
-        consultationListPanel = new ConsultationListPanel(logic.getFilteredConsultationList(), logic.getModel());
-        personListPanelPlaceholder.getChildren().add(consultationListPanel.getRoot());
+        consultationListPanel.refresh();
+        setShown(consultationListPanel.getRoot(), true);
+        setShown(personListPanel.getRoot(), false);
+        setShown(personTablePanel.getRoot(), false);
+    }
+
+    private static void setShown(Region panel, boolean isShown) {
+        panel.setVisible(isShown);
+        panel.setManaged(isShown);
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command on the command executor and returns the pending result.
+     * The result is shown, and the returned future completed, on the JavaFX application thread.
      *
      * @see seedu.address.logic.Logic#execute(String)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
-            logger.info("Result: " + commandResult.getFeedbackToUser());
-            resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
-
-            if (commandResult.isShowHelp()) {
-                handleHelp();
+    private CompletableFuture<CommandResult> executeCommand(String commandText) {
+        CompletableFuture<CommandResult> pendingResult = new CompletableFuture<>();
+        commandExecutor.execute(() -> {
+            try {
+                CommandResult commandResult = logic.execute(commandText);
+                Platform.runLater(() -> {
+                    handleCommandResult(commandResult);
+                    pendingResult.complete(commandResult);
+                });
+            } catch (CommandException | ParseException e) {
+                logger.info("An error occurred while executing command: " + commandText);
+                Platform.runLater(() -> {
+                    resultDisplay.setFeedbackToUser(e.getMessage());
+                    pendingResult.completeExceptionally(e);
+                });
+            } catch (RuntimeException e) {
+                logger.log(Level.SEVERE, "Unexpected error while executing command: " + commandText, e);
+                Platform.runLater(() -> {
+                    resultDisplay.setFeedbackToUser(MESSAGE_UNEXPECTED_ERROR + e.getMessage());
+                    pendingResult.completeExceptionally(e);
+                });
             }
+        });
+        return pendingResult;
+    }
 
-            if (commandResult.isExit()) {
-                handleExit();
-            }
+    /**
+     * Shows the result of a successful command and applies the window changes it asks for.
+     */
+    private void handleCommandResult(CommandResult commandResult) {
+        logger.info("Result: " + commandResult.getFeedbackToUser());
+        resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
 
-            // Switch view based on command result
-            if (commandResult.isShowConsultations()) {
-                showConsultationList();
-            } else {
-                showPersonList();
-            }
+        if (commandResult.isShowHelp()) {
+            handleHelp();
+        }
 
-            return commandResult;
-        } catch (CommandException | ParseException e) {
-            logger.info("An error occurred while executing command: " + commandText);
-            resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+        if (commandResult.isExit()) {
+            handleExit();
+        }
+
+        commandResult.getViewMode().ifPresent(viewMode -> personViewMode = viewMode);
+
+        // Switch view based on command result
+        if (commandResult.isShowConsultations()) {
+            showConsultationList();
+        } else {
+            showPersonList();
         }
     }
 }
@@ -1,15 +1,27 @@
 package seedu.address.ui;
 
-import java.util.Optional;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Map;
 
 import javafx.fxml.FXML;
+import javafx.geometry.VPos;
+import javafx.scene.Node;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.control.Label;
-import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
 import seedu.address.model.event.Consultation;
 import seedu.address.model.person.Attendance;
 import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.Homework;
+import seedu.address.model.person.HomeworkTracker;
 import seedu.address.model.person.Person;
 
 /**
@@ -18,6 +30,32 @@ import seedu.address.model.person.Person;
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
+    private static final int FIRST_WEEK = 2;
+    private static final int LAST_WEEK = 13;
+
+    private static final double WEEK_BOX_SIZE = 35;
+    private static final double WEEK_BOX_GAP = 3;
+    private static final double BADGE_WIDTH = 40;
+    private static final double BADGE_HEIGHT = 20;
+    private static final double BADGE_GAP = 6;
+    private static final double NO_HOMEWORK_WIDTH = 80;
+    private static final double CORNER_ARC = 10;
+    private static final Font WEEK_FONT = Font.font("System", FontWeight.BOLD, 12);
+    private static final Font BADGE_FONT = Font.font(11);
+
+    private static final Color WEEK_BORDER = Color.web("#cccccc");
+    private static final Color UNMARKED_FILL = Color.GREY;
+    private static final Color PRESENT_FILL = Color.web("#4CAF50");
+    private static final Color ABSENT_FILL = Color.web("#F44336");
+    private static final Color EXCUSED_FILL = Color.web("#FFC107");
+    private static final Color EXCUSED_TEXT = Color.web("#333333");
+    private static final Color COMPLETE_FILL = Color.web("#b2fab4");
+    private static final Color COMPLETE_TEXT = Color.web("#2e7d32");
+    private static final Color LATE_FILL = Color.web("#fff59d");
+    private static final Color LATE_TEXT = Color.web("#996c00");
+    private static final Color INCOMPLETE_FILL = Color.web("#ffcccb");
+    private static final Color INCOMPLETE_TEXT = Color.web("#b71c1c");
+    private static final Color NO_HOMEWORK_FILL = Color.web("#d3d3d3");
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -27,7 +65,12 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
+
+    /** Statuses last drawn on {@code attendanceStrip}, indexed by week; null entries are unmarked weeks. */
+    private AttendanceStatus[] drawnAttendance;
+    /** Statuses last drawn on {@code homeworkStrip}, indexed by assignment id - 1; null entries are not assigned. */
+    private String[] drawnHomework;
 
     @FXML
     private HBox cardPane;
@@ -56,136 +99,184 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private HBox groupIdBox;
     @FXML
-    private HBox attendanceContainer;
+    private Canvas attendanceStrip;
     @FXML
-    private FlowPane homeworkContainer;
+    private Canvas homeworkStrip;
     @FXML
     private Label consultation;
     @FXML
     private HBox consultationBox;
 
+    /**
+     * Creates an empty {@code PersonCard}. The attendance weeks and the homework badges are each drawn on a single
+     * canvas rather than one label per week or assignment, which keeps the card small for the list cells that
+     * reuse it; {@link #bind(Person, int)} only redraws a canvas when what it shows has changed.
+     */
+    public PersonCard() {
+        super(FXML);
+        int weeks = LAST_WEEK - FIRST_WEEK + 1;
+        attendanceStrip.setWidth(weeks * WEEK_BOX_SIZE + (weeks - 1) * WEEK_BOX_GAP);
+        attendanceStrip.setHeight(WEEK_BOX_SIZE);
+        homeworkStrip.setWidth(HomeworkTracker.MAX_ASSIGNMENTS * (BADGE_WIDTH + BADGE_GAP) - BADGE_GAP);
+        homeworkStrip.setHeight(BADGE_HEIGHT);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex) {
-        super(FXML);
+        this();
+        bind(person, displayedIndex);
+    }
+
+    /**
+     * Shows {@code person} with the given index to display on this card.
+     */
+    public void bind(Person person, int displayedIndex) {
+        requireNonNull(person);
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         if (person.getPhone().isPresent()) {
             phone.setText(person.getPhone().get().value);
-            phoneBox.setVisible(true);
-            phoneBox.setManaged(true);
-        } else {
-            phoneBox.setVisible(false);
-            phoneBox.setManaged(false);
         }
+        setShown(phoneBox, person.getPhone().isPresent());
         if (person.getEmail().isPresent()) {
             email.setText(person.getEmail().get().value);
-            emailBox.setVisible(true);
-            emailBox.setManaged(true);
-        } else {
-            emailBox.setVisible(false);
-            emailBox.setManaged(false);
         }
+        setShown(emailBox, person.getEmail().isPresent());
         nusnetid.setText(person.getNusnetid().value);
         telegram.setText(person.getTelegram().value);
         groupId.setText(person.getGroupId().value);
         showAttendance();
-        groupId.setText(person.getGroupId().value);
         showHomework();
         if (person.getConsultation().isPresent()) {
             consultation.setText(person.getConsultation()
                     .map(Consultation::showConsultationTime).get());
-            consultationBox.setVisible(true);
-            consultationBox.setManaged(true);
-        } else {
-            consultationBox.setVisible(false);
-            consultationBox.setManaged(false);
         }
+        setShown(consultationBox, person.getConsultation().isPresent());
     }
 
-    private void showAttendance() {
-        attendanceContainer.getChildren().clear();
+    public Person getPerson() {
+        return person;
+    }
+
+    private static void setShown(Node node, boolean isShown) {
+        node.setVisible(isShown);
+        node.setManaged(isShown);
+    }
 
-        if (person.getAttendanceSheet() == null) {
+    private void showAttendance() {
+        boolean hasSheet = person.getAttendanceSheet() != null;
+        setShown(attendanceStrip, hasSheet);
+        if (!hasSheet) {
             return;
         }
-        for (int week = 2; week <= 13; week++) {
-            Label weekBox = new Label(String.valueOf(week));
-            weekBox.setMinWidth(35);
-            weekBox.setMinHeight(35);
-            weekBox.setMaxWidth(35);
-            weekBox.setMaxHeight(35);
-            weekBox.setAlignment(javafx.geometry.Pos.CENTER);
-            String baseStyle = "-fx-text-fill: white; -fx-font-weight: bold; "
-                    + "-fx-background-radius: 5; -fx-border-radius: 5; "
-                    + "-fx-border-color: #cccccc; -fx-border-width: 1;";
-            Optional<Attendance> attendanceOpt = person.getAttendanceSheet().getAttendanceForWeek(week);
-            if (attendanceOpt.isPresent()) {
-                Attendance attendance = attendanceOpt.get();
-                AttendanceStatus status = attendance.getAttendanceStatus();
-                String backgroundColor;
-                switch (status) {
-                case PRESENT:
-                    backgroundColor = "-fx-background-color: #4CAF50;";
-                    break;
-                case ABSENT:
-                    backgroundColor = "-fx-background-color: #F44336;";
-                    break;
-                case EXCUSED:
-                    backgroundColor = "-fx-background-color: #FFC107; -fx-text-fill: #333333;";
-                    break;
-                default:
-                    backgroundColor = "-fx-background-color: #9E9E9E;";
-                }
-                weekBox.setStyle(baseStyle + backgroundColor);
-            } else {
-                weekBox.setStyle(baseStyle + "-fx-background-color: grey;");
-            }
-            attendanceContainer.getChildren().add(weekBox);
+        AttendanceStatus[] statuses = new AttendanceStatus[LAST_WEEK + 1];
+        for (Attendance attendance : person.getAttendanceSheet().getAttendanceList()) {
+            statuses[attendance.getWeek()] = attendance.getAttendanceStatus();
+        }
+        if (Arrays.equals(statuses, drawnAttendance)) {
+            return;
+        }
+        drawnAttendance = statuses;
+
+        GraphicsContext gc = attendanceStrip.getGraphicsContext2D();
+        gc.clearRect(0, 0, attendanceStrip.getWidth(), attendanceStrip.getHeight());
+        gc.setFont(WEEK_FONT);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        gc.setStroke(WEEK_BORDER);
+        for (int week = FIRST_WEEK; week <= LAST_WEEK; week++) {
+            double x = (week - FIRST_WEEK) * (WEEK_BOX_SIZE + WEEK_BOX_GAP);
+            gc.setFill(getWeekFill(statuses[week]));
+            gc.fillRoundRect(x, 0, WEEK_BOX_SIZE, WEEK_BOX_SIZE, CORNER_ARC, CORNER_ARC);
+            gc.strokeRoundRect(x + 0.5, 0.5, WEEK_BOX_SIZE - 1, WEEK_BOX_SIZE - 1, CORNER_ARC, CORNER_ARC);
+            gc.setFill(statuses[week] == AttendanceStatus.EXCUSED ? EXCUSED_TEXT : Color.WHITE);
+            gc.fillText(String.valueOf(week), x + WEEK_BOX_SIZE / 2, WEEK_BOX_SIZE / 2);
         }
     }
 
     private void showHomework() {
-        if (person.getHomeworkTracker() == null) {
+        boolean hasTracker = person.getHomeworkTracker() != null;
+        setShown(homeworkStrip, hasTracker);
+        if (!hasTracker) {
             return;
         }
-
-        if (person.getHomeworkTracker().asMap().isEmpty()) {
-            Label placeholder = new Label("No homework");
-            placeholder.setStyle("-fx-background-color: #d3d3d3; -fx-text-fill: black; "
-                    + "-fx-padding: 3 6; -fx-background-radius: 6; -fx-font-size: 11px;");
-            homeworkContainer.getChildren().add(placeholder);
+        Map<Integer, Homework> homeworks = person.getHomeworkTracker().asMap();
+        String[] statuses = new String[HomeworkTracker.MAX_ASSIGNMENTS];
+        for (int assignmentId = 1; assignmentId <= HomeworkTracker.MAX_ASSIGNMENTS; assignmentId++) {
+            Homework hw = homeworks.get(assignmentId);
+            statuses[assignmentId - 1] = hw == null ? null : hw.getStatus().toLowerCase();
+        }
+        if (Arrays.equals(statuses, drawnHomework)) {
             return;
         }
+        drawnHomework = statuses;
 
-        person.getHomeworkTracker().asMap().forEach((id, hw) -> {
-            Label hwLabel = new Label("HW" + hw.getId());
-            hwLabel.setStyle("-fx-padding: 3 8; -fx-background-radius: 6; -fx-font-size: 11px;");
-
-            switch (hw.getStatus().toLowerCase()) {
-            case "complete":
-                hwLabel.setStyle(hwLabel.getStyle()
-                        + "-fx-background-color: #b2fab4; -fx-text-fill: #2e7d32;");
-                break;
-            case "late":
-                hwLabel.setStyle(hwLabel.getStyle()
-                        + "-fx-background-color: #fff59d; -fx-text-fill: #996c00;");
-                break;
-            default: // incomplete
-                hwLabel.setStyle(hwLabel.getStyle()
-                        + "-fx-background-color: #ffcccb; -fx-text-fill: #b71c1c;");
-                break;
+        GraphicsContext gc = homeworkStrip.getGraphicsContext2D();
+        gc.clearRect(0, 0, homeworkStrip.getWidth(), homeworkStrip.getHeight());
+        gc.setFont(BADGE_FONT);
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        if (homeworks.isEmpty()) {
+            drawBadge(gc, 0, NO_HOMEWORK_WIDTH, "No homework", NO_HOMEWORK_FILL, Color.BLACK);
+            return;
+        }
+        double x = 0;
+        for (int i = 0; i < statuses.length; i++) {
+            if (statuses[i] == null) {
+                continue;
             }
+            drawBadge(gc, x, BADGE_WIDTH, "HW" + (i + 1), getHomeworkFill(statuses[i]),
+                    getHomeworkText(statuses[i]));
+            x += BADGE_WIDTH + BADGE_GAP;
+        }
+    }
 
-            homeworkContainer.getChildren().add(hwLabel);
-        });
+    private static void drawBadge(GraphicsContext gc, double x, double width, String text, Color fill, Color textFill) {
+        gc.setFill(fill);
+        gc.fillRoundRect(x, 0, width, BADGE_HEIGHT, CORNER_ARC, CORNER_ARC);
+        gc.setFill(textFill);
+        gc.fillText(text, x + width / 2, BADGE_HEIGHT / 2);
+    }
+
+    private static Color getWeekFill(AttendanceStatus status) {
+        if (status == null) {
+            return UNMARKED_FILL;
+        } else if (status == AttendanceStatus.PRESENT) {
+            return PRESENT_FILL;
+        } else if (status == AttendanceStatus.ABSENT) {
+            return ABSENT_FILL;
+        }
+        return EXCUSED_FILL;
+    }
+
+    private static Color getHomeworkFill(String status) {
+        if (status.equals(Homework.STATUS_COMPLETE)) {
+            return COMPLETE_FILL;
+        } else if (status.equals(Homework.STATUS_LATE)) {
+            return LATE_FILL;
+        }
+        return INCOMPLETE_FILL;
+    }
+
+    private static Color getHomeworkText(String status) {
+        if (status.equals(Homework.STATUS_COMPLETE)) {
+            return COMPLETE_TEXT;
+        } else if (status.equals(Homework.STATUS_LATE)) {
+            return LATE_TEXT;
+        }
+        return INCOMPLETE_TEXT;
     }
 
     // Only for testing
-    public FlowPane getHomeworkContainer() {
-        return homeworkContainer;
+    public Canvas getAttendanceStrip() {
+        return attendanceStrip;
+    }
+
+    public Canvas getHomeworkStrip() {
+        return homeworkStrip;
     }
 
     public Label getNameLabel() {
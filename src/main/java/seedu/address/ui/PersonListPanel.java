@@ -31,8 +31,21 @@ public class PersonListPanel extends UiPart<Region> {
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Each cell owns a single card that is created on first use and re-bound afterwards, so scrolling
+     * does not load any FXML.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
+        /**
+         * Treats every replaced {@code Person} as changed. {@code Person#equals} ignores attendance, so the
+         * default equality check would leave the card showing stale attendance after it is marked.
+         */
+        @Override
+        protected boolean isItemChanged(Person oldItem, Person newItem) {
+            return oldItem != newItem;
+        }
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -41,7 +54,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard();
+                }
+                personCard.bind(person, getIndex() + 1);
+                setGraphic(personCard.getRoot());
             }
         }
     }
@@ -0,0 +1,134 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.ToIntFunction;
+
+import seedu.address.model.person.Attendance;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.Homework;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Person;
+
+/**
+ * A row of the roster table.
+ * <p>
+ * The displayed values and the keys the table sorts by are computed once when the row is created, so sorting
+ * compares plain strings and ints instead of reading cell values through the columns for every comparison.
+ * Rows are rebuilt whenever their {@code Person} is replaced, which keeps the keys current.
+ * </p>
+ */
+public class PersonRow {
+
+    public static final int FIRST_WEEK = 2;
+    public static final int LAST_WEEK = 13;
+
+    /** Sort key of an unmarked week or an unassigned homework, which sort after every status in either direction. */
+    public static final int NO_STATUS_KEY = Integer.MAX_VALUE;
+
+    private final Person person;
+    private final String name;
+    private final String nameKey;
+    private final String nusnetid;
+    private final String groupId;
+    private final AttendanceStatus[] attendance = new AttendanceStatus[LAST_WEEK - FIRST_WEEK + 1];
+    private final int[] attendanceKeys = new int[LAST_WEEK - FIRST_WEEK + 1];
+    private final String[] homework = new String[HomeworkTracker.MAX_ASSIGNMENTS];
+    private final int[] homeworkKeys = new int[HomeworkTracker.MAX_ASSIGNMENTS];
+
+    /**
+     * Creates a row showing {@code person}.
+     */
+    public PersonRow(Person person) {
+        requireNonNull(person);
+        this.person = person;
+        this.name = person.getName().fullName;
+        this.nameKey = name.toLowerCase();
+        this.nusnetid = person.getNusnetid().value;
+        this.groupId = person.getGroupId().value;
+
+        Arrays.fill(attendanceKeys, NO_STATUS_KEY);
+        if (person.getAttendanceSheet() != null) {
+            for (Attendance record : person.getAttendanceSheet().getAttendanceList()) {
+                int index = record.getWeek() - FIRST_WEEK;
+                attendance[index] = record.getAttendanceStatus();
+                attendanceKeys[index] = record.getAttendanceStatus().ordinal();
+            }
+        }
+
+        Arrays.fill(homeworkKeys, NO_STATUS_KEY);
+        for (Homework hw : person.getHomeworkTracker().asMap().values()) {
+            homework[hw.getId() - 1] = hw.getStatus();
+            homeworkKeys[hw.getId() - 1] = homeworkRank(hw.getStatus());
+        }
+    }
+
+    /**
+     * Returns a comparator ordering rows by the status key {@code statusKey}, reversed if {@code isDescending}.
+     * Rows whose key is {@link #NO_STATUS_KEY} come last in both directions.
+     */
+    public static Comparator<PersonRow> compareStatusKeys(ToIntFunction<PersonRow> statusKey, boolean isDescending) {
+        requireNonNull(statusKey);
+        Comparator<PersonRow> byKey = Comparator.comparingInt(statusKey);
+        if (isDescending) {
+            byKey = byKey.reversed();
+        }
+        Comparator<PersonRow> missingLast = Comparator.comparing(row -> statusKey.applyAsInt(row) == NO_STATUS_KEY);
+        return missingLast.thenComparing(byKey);
+    }
+
+    private static int homeworkRank(String status) {
+        switch (status.toLowerCase()) {
+        case Homework.STATUS_COMPLETE:
+            return 0;
+        case Homework.STATUS_LATE:
+            return 1;
+        default:
+            return 2;
+        }
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getNameKey() {
+        return nameKey;
+    }
+
+    public String getNusnetid() {
+        return nusnetid;
+    }
+
+    public String getGroupId() {
+        return groupId;
+    }
+
+    /**
+     * Returns the attendance status of {@code week}, or null if it has not been marked.
+     */
+    public AttendanceStatus getAttendance(int week) {
+        return attendance[week - FIRST_WEEK];
+    }
+
+    public int getAttendanceKey(int week) {
+        return attendanceKeys[week - FIRST_WEEK];
+    }
+
+    /**
+     * Returns the status of homework {@code assignmentId}, or null if it has not been assigned.
+     */
+    public String getHomework(int assignmentId) {
+        return homework[assignmentId - 1];
+    }
+
+    public int getHomeworkKey(int assignmentId) {
+        return homeworkKeys[assignmentId - 1];
+    }
+}
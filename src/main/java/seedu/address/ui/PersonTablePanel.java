@@ -0,0 +1,163 @@
+package seedu.address.ui;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+import javafx.beans.property.ReadOnlyObjectWrapper;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.SortedList;
+import javafx.fxml.FXML;
+import javafx.scene.control.TableCell;
+import javafx.scene.control.TableColumn;
+import javafx.scene.control.TableView;
+import javafx.scene.layout.Region;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Person;
+
+/**
+ * Panel showing the persons as a compact, sortable table with one column per week and per homework.
+ * <p>
+ * The table is backed by the same filtered list as {@link PersonListPanel}. Each person is wrapped in a
+ * {@link PersonRow} holding precomputed sort keys, and the rows are sorted by a {@link SortedList} whose comparator
+ * reads those keys directly. The {@code TableView} only virtualizes the visible rows.
+ * </p>
+ */
+public class PersonTablePanel extends UiPart<Region> {
+    private static final String FXML = "PersonTablePanel.fxml";
+    private static final String STATUS_STYLE_CLASS_PREFIX = "roster-";
+
+    @FXML
+    private TableView<PersonRow> personTableView;
+
+    private final ObservableList<PersonRow> rows = FXCollections.observableArrayList();
+    private final SortedList<PersonRow> sortedRows = new SortedList<>(rows);
+    private final Map<TableColumn<PersonRow, ?>, Comparator<PersonRow>> sortKeys = new HashMap<>();
+    private final Map<TableColumn<PersonRow, ?>, Comparator<PersonRow>> descendingSortKeys = new HashMap<>();
+
+    /**
+     * Creates a {@code PersonTablePanel} showing the persons in {@code personList}.
+     */
+    public PersonTablePanel(ObservableList<Person> personList) {
+        super(FXML);
+        rows.setAll(toRows(personList));
+        personList.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated()) {
+                    rows.setAll(toRows(personList));
+                    return;
+                } else if (change.wasUpdated()) {
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        rows.set(i, new PersonRow(personList.get(i)));
+                    }
+                } else {
+                    rows.remove(change.getFrom(), change.getFrom() + change.getRemovedSize());
+                    rows.addAll(change.getFrom(), toRows(change.getAddedSubList()));
+                }
+            }
+        });
+
+        addColumn("Name", PersonRow::getName, Comparator.comparing(PersonRow::getNameKey));
+        addColumn("NUSNET ID", PersonRow::getNusnetid, Comparator.comparing(PersonRow::getNusnetid));
+        addColumn("Group", PersonRow::getGroupId, Comparator.comparing(PersonRow::getGroupId));
+        for (int week = PersonRow.FIRST_WEEK; week <= PersonRow.LAST_WEEK; week++) {
+            int columnWeek = week;
+            addStatusColumn("W" + week, row -> statusText(row.getAttendance(columnWeek)),
+                    row -> row.getAttendanceKey(columnWeek));
+        }
+        for (int assignmentId = 1; assignmentId <= HomeworkTracker.MAX_ASSIGNMENTS; assignmentId++) {
+            int columnAssignment = assignmentId;
+            addStatusColumn("HW" + assignmentId, row -> row.getHomework(columnAssignment),
+                    row -> row.getHomeworkKey(columnAssignment));
+        }
+
+        // Sort with the precomputed keys instead of letting the table compare cell values.
+        personTableView.setSortPolicy(table -> {
+            sortedRows.setComparator(createComparator());
+            return true;
+        });
+        personTableView.setItems(sortedRows);
+    }
+
+    private static List<PersonRow> toRows(List<? extends Person> persons) {
+        List<PersonRow> result = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            result.add(new PersonRow(person));
+        }
+        return result;
+    }
+
+    private TableColumn<PersonRow, String> addColumn(String title, Function<PersonRow, String> value,
+                                                      Comparator<PersonRow> sortKey) {
+        return addColumn(title, value, sortKey, sortKey.reversed());
+    }
+
+    private TableColumn<PersonRow, String> addColumn(String title, Function<PersonRow, String> value,
+                                                      Comparator<PersonRow> sortKey,
+                                                      Comparator<PersonRow> descendingSortKey) {
+        TableColumn<PersonRow, String> column = new TableColumn<>(title);
+        column.setCellValueFactory(features -> new ReadOnlyObjectWrapper<>(value.apply(features.getValue())));
+        personTableView.getColumns().add(column);
+        sortKeys.put(column, sortKey);
+        descendingSortKeys.put(column, descendingSortKey);
+        return column;
+    }
+
+    /**
+     * Adds a column of attendance or homework statuses. Rows without a status stay last in both sort directions.
+     */
+    private void addStatusColumn(String title, Function<PersonRow, String> value, ToIntFunction<PersonRow> statusKey) {
+        TableColumn<PersonRow, String> column = addColumn(title, value,
+                PersonRow.compareStatusKeys(statusKey, false), PersonRow.compareStatusKeys(statusKey, true));
+        column.getStyleClass().add("roster-status-column");
+        column.setCellFactory(unused -> new StatusCell());
+    }
+
+    /**
+     * Combines the sort keys of the columns in the table's sort order, most significant first.
+     */
+    private Comparator<PersonRow> createComparator() {
+        Comparator<PersonRow> comparator = null;
+        for (TableColumn<PersonRow, ?> column : personTableView.getSortOrder()) {
+            Comparator<PersonRow> key = column.getSortType() == TableColumn.SortType.DESCENDING
+                    ? descendingSortKeys.get(column)
+                    : sortKeys.get(column);
+            comparator = comparator == null ? key : comparator.thenComparing(key);
+        }
+        return comparator;
+    }
+
+    private static String statusText(AttendanceStatus status) {
+        return status == null ? null : status.getStatus();
+    }
+
+    /**
+     * Cell showing an attendance or homework status, coloured through a style class named after the status.
+     */
+    private static class StatusCell extends TableCell<PersonRow, String> {
+        private String statusStyleClass;
+
+        @Override
+        protected void updateItem(String status, boolean empty) {
+            super.updateItem(status, empty);
+            if (statusStyleClass != null) {
+                getStyleClass().remove(statusStyleClass);
+                statusStyleClass = null;
+            }
+            if (empty || status == null) {
+                setText(null);
+                return;
+            }
+            setText(status.substring(0, 1).toUpperCase());
+            statusStyleClass = STATUS_STYLE_CLASS_PREFIX + status.toLowerCase();
+            getStyleClass().add(statusStyleClass);
+        }
+    }
+}
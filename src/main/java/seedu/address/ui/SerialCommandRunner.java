@@ -0,0 +1,59 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.ui.CommandBox.CommandExecutor;
+
+/**
+ * Passes entered commands on to a {@code CommandExecutor} one at a time.
+ * <p>
+ * A command entered while the previous one is still running is dropped rather than queued, so pressing Enter twice
+ * on {@code delete 1} deletes one student, not two. Commands are entered and completed on the JavaFX application
+ * thread, so the running flag needs no synchronization.
+ * </p>
+ */
+public class SerialCommandRunner {
+
+    private final CommandExecutor commandExecutor;
+    private boolean isRunning;
+
+    /**
+     * Creates a {@code SerialCommandRunner} that runs commands with {@code commandExecutor}.
+     */
+    public SerialCommandRunner(CommandExecutor commandExecutor) {
+        requireNonNull(commandExecutor);
+        this.commandExecutor = commandExecutor;
+    }
+
+    /**
+     * Starts executing {@code commandText} unless another command is still running.
+     *
+     * @return the pending result, which completes after this runner accepts commands again, or an empty
+     *         {@code Optional} if the command was dropped
+     */
+    public Optional<CompletableFuture<CommandResult>> run(String commandText) {
+        if (isRunning) {
+            return Optional.empty();
+        }
+        isRunning = true;
+        CompletableFuture<CommandResult> result;
+        try {
+            result = commandExecutor.execute(commandText);
+        } catch (RuntimeException e) {
+            isRunning = false;
+            throw e;
+        }
+        return Optional.of(result.whenComplete((unusedResult, unusedError) -> isRunning = false));
+    }
+
+    /**
+     * Returns true if a command is still running.
+     */
+    public boolean isRunning() {
+        return isRunning;
+    }
+}
@@ -0,0 +1,259 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.GROUPID_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NUSNETID_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.TELEGRAM_DESC_AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class ApiServerTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String TOKEN = "test-token";
+    private static final String COMMAND_BODY = "{\"command\": \"list\"}";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    public void listPersons_pagedAndFiltered_returnsPage() throws Exception {
+        runWithServer(baseUri -> {
+            JsonNode page = assertResponse(200, get(baseUri, "/api/persons?offset=1&limit=2"));
+            assertEquals(7, page.get("total").asInt());
+            assertEquals(2, page.get("items").size());
+            assertEquals("Benson Meier", page.get("items").get(0).get("name").asText());
+
+            page = assertResponse(200, get(baseUri, "/api/persons?group=t01"));
+            assertEquals(2, page.get("total").asInt());
+
+            page = assertResponse(200, get(baseUri, "/api/persons?name=meier%20kurz"));
+            assertEquals(3, page.get("total").asInt());
+        });
+    }
+
+    @Test
+    public void listPersons_invalidParameters_returnsBadRequest() throws Exception {
+        runWithServer(baseUri -> {
+            assertResponse(400, get(baseUri, "/api/persons?limit=0"));
+            assertResponse(400, get(baseUri, "/api/persons?offset=abc"));
+            assertResponse(400, get(baseUri, "/api/persons?group=X01"));
+        });
+    }
+
+    @Test
+    public void executeCommand_validCommand_changesVisibleToReads() throws Exception {
+        runWithServer(baseUri -> {
+            String command = AddCommand.COMMAND_WORD + NAME_DESC_AMY + NUSNETID_DESC_AMY + TELEGRAM_DESC_AMY
+                    + GROUPID_DESC_AMY;
+            JsonNode result = assertResponse(200, post(baseUri, "/api/commands",
+                    MAPPER.writeValueAsString(Map.of("command", command))));
+            assertTrue(result.get("feedback").asText().startsWith("New person added"));
+
+            JsonNode page = assertResponse(200, get(baseUri, "/api/persons"));
+            assertEquals(8, page.get("total").asInt());
+        });
+    }
+
+    @Test
+    public void executeCommand_invalidCommand_returnsBadRequest() throws Exception {
+        runWithServer(baseUri -> {
+            JsonNode error = assertResponse(400, post(baseUri, "/api/commands", "{\"command\": \"unknown\"}"));
+            assertTrue(error.has("error"));
+            assertResponse(400, post(baseUri, "/api/commands", "{}"));
+            assertResponse(400, post(baseUri, "/api/commands", "not json"));
+        });
+    }
+
+    @Test
+    public void executeCommand_missingOrWrongToken_returnsUnauthorized() throws Exception {
+        runWithServer(baseUri -> {
+            assertResponse(401, send(commandRequest(baseUri, COMMAND_BODY)
+                    .header("Content-Type", "application/json").build()));
+            assertResponse(401, send(commandRequest(baseUri, COMMAND_BODY)
+                    .header("Content-Type", "application/json")
+                    .header("Authorization", "Bearer wrong-token").build()));
+        });
+    }
+
+    @Test
+    public void executeCommand_notJsonContentType_returnsUnsupportedMediaType() throws Exception {
+        runWithServer(baseUri -> {
+            assertResponse(415, send(commandRequest(baseUri, COMMAND_BODY)
+                    .header("Authorization", "Bearer " + TOKEN).build()));
+            assertResponse(415, send(commandRequest(baseUri, COMMAND_BODY)
+                    .header("Authorization", "Bearer " + TOKEN)
+                    .header("Content-Type", "text/plain").build()));
+            assertResponse(200, send(commandRequest(baseUri, COMMAND_BODY)
+                    .header("Authorization", "Bearer " + TOKEN)
+                    .header("Content-Type", "application/json; charset=utf-8").build()));
+        });
+    }
+
+    @Test
+    public void request_fromWebPage_returnsForbidden() throws Exception {
+        runWithServer(baseUri -> {
+            assertResponse(403, send(authorizedCommandRequest(baseUri, "{\"command\": \"clear\"}")
+                    .header("Origin", "https://example.com").build()));
+            assertResponse(403, send(HttpRequest.newBuilder(URI.create(baseUri + "/api/persons"))
+                    .header("Origin", "https://example.com").GET().build()));
+
+            JsonNode page = assertResponse(200, get(baseUri, "/api/persons"));
+            assertEquals(7, page.get("total").asInt());
+        });
+    }
+
+    @Test
+    public void listPersons_commandsWaiting_answeredWithoutWaiting() throws Exception {
+        ExecutorService commandExecutor = Executors.newSingleThreadExecutor();
+        CountDownLatch release = new CountDownLatch(1);
+        commandExecutor.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        runWithServer(commandExecutor, baseUri -> {
+            List<CompletableFuture<HttpResponse<String>>> commandResponses = new ArrayList<>();
+            for (int i = 0; i < ApiServer.REQUEST_THREADS + ApiServer.COMMAND_REQUEST_THREADS; i++) {
+                commandResponses.add(client.sendAsync(authorizedCommandRequest(baseUri, COMMAND_BODY).build(),
+                        HttpResponse.BodyHandlers.ofString()));
+            }
+            try {
+                JsonNode page = assertResponse(200, send(HttpRequest.newBuilder(URI.create(baseUri + "/api/persons"))
+                        .timeout(Duration.ofSeconds(5)).GET().build()));
+                assertEquals(7, page.get("total").asInt());
+            } finally {
+                release.countDown();
+            }
+            for (CompletableFuture<HttpResponse<String>> response : commandResponses) {
+                int status = response.get().statusCode();
+                assertTrue(status == 200 || status == 503, response.get().body());
+            }
+        });
+    }
+
+    @Test
+    public void getStatistics_group_returnsStatisticsOfGroup() throws Exception {
+        runWithServer(baseUri -> {
+            JsonNode statistics = assertResponse(200, get(baseUri, "/api/stats"));
+            assertEquals(6, statistics.get("groups").size());
+
+            statistics = assertResponse(200, get(baseUri, "/api/stats?group=T01"));
+            assertEquals(1, statistics.get("groups").size());
+            assertEquals(2, statistics.get("groups").get(0).get("students").asInt());
+        });
+    }
+
+    @Test
+    public void request_unknownEndpointOrMethod_returnsError() throws Exception {
+        runWithServer(baseUri -> {
+            assertResponse(404, get(baseUri, "/api/unknown"));
+            assertResponse(404, get(baseUri, "/api/persons/extra"));
+            assertResponse(405, get(baseUri, "/api/commands"));
+            assertResponse(405, post(baseUri, "/api/persons", "{}"));
+        });
+    }
+
+    @Test
+    public void parseQuery_encodedQuery_decoded() throws Exception {
+        Map<String, String> parameters = ApiServer.parseQuery(URI.create("/api/persons?name=Alex%20Yeoh&group=&x"));
+        assertEquals(Map.of("name", "Alex Yeoh", "group", "", "x", ""), parameters);
+    }
+
+    /**
+     * Runs {@code test} against a server over the typical address book, which runs commands on its own thread.
+     */
+    private void runWithServer(ServerTest test) throws Exception {
+        runWithServer(Executors.newSingleThreadExecutor(), test);
+    }
+
+    /**
+     * Runs {@code test} against a server over the typical address book, which runs commands on
+     * {@code commandExecutor} and shuts it down afterwards.
+     */
+    private void runWithServer(ExecutorService commandExecutor, ServerTest test) throws Exception {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        LogicManager logic = new LogicManager(new ModelManager(getTypicalAddressBook(), new UserPrefs()), storage);
+        ApiServer server = ApiServer.start(logic, commandExecutor, 0, TOKEN);
+        try {
+            test.run("http://127.0.0.1:" + server.getPort());
+        } finally {
+            server.stop();
+            commandExecutor.shutdownNow();
+        }
+    }
+
+    private HttpResponse<String> get(String baseUri, String path) throws IOException, InterruptedException {
+        return client.send(HttpRequest.newBuilder(URI.create(baseUri + path)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String baseUri, String path, String body)
+            throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUri + path))
+                .header("Authorization", "Bearer " + TOKEN)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body)).build());
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static HttpRequest.Builder commandRequest(String baseUri, String body) {
+        return HttpRequest.newBuilder(URI.create(baseUri + "/api/commands"))
+                .POST(HttpRequest.BodyPublishers.ofString(body));
+    }
+
+    private static HttpRequest.Builder authorizedCommandRequest(String baseUri, String body) {
+        return commandRequest(baseUri, body)
+                .header("Authorization", "Bearer " + TOKEN)
+                .header("Content-Type", "application/json");
+    }
+
+    private static JsonNode assertResponse(int expectedStatus, HttpResponse<String> response) throws IOException {
+        assertEquals(expectedStatus, response.statusCode(), response.body());
+        return MAPPER.readTree(response.body());
+    }
+
+    @FunctionalInterface
+    private interface ServerTest {
+        void run(String baseUri) throws Exception;
+    }
+}
@@ -0,0 +1,163 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AsyncLogHandler.OverflowPolicy;
+
+public class AsyncLogHandlerTest {
+
+    @Test
+    public void constructor_invalidCapacity_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AsyncLogHandler(0, OverflowPolicy.DROP));
+    }
+
+    @Test
+    public void constructor_capacityNotPowerOfTwo_roundedUp() {
+        AsyncLogHandler handler = new AsyncLogHandler(100, OverflowPolicy.DROP);
+        assertEquals(128, handler.getCapacity());
+        handler.close();
+    }
+
+    @Test
+    public void flush_recordsPublished_delegateReceivesAllInOrder() {
+        RecordingHandler delegate = new RecordingHandler();
+        delegate.release();
+        AsyncLogHandler handler = new AsyncLogHandler(16, OverflowPolicy.BLOCK, delegate);
+        for (int i = 0; i < 100; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.flush();
+
+        assertEquals(100, delegate.getMessages().size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals("message " + i, delegate.getMessages().get(i));
+        }
+        assertEquals(100, handler.getPublishedCount());
+        assertEquals(0, handler.getDroppedCount());
+        handler.close();
+    }
+
+    @Test
+    public void publish_bufferFullWithDropPolicy_recordsDroppedAndCounted() throws InterruptedException {
+        RecordingHandler delegate = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(4, OverflowPolicy.DROP, delegate);
+        // the first record holds up the drain thread, so the next 4 records fill the buffer
+        handler.publish(new LogRecord(Level.INFO, "first"));
+        delegate.awaitFirstRecord();
+        for (int i = 0; i < 10; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        assertEquals(6, handler.getDroppedCount());
+        assertEquals(5, handler.getPublishedCount());
+
+        delegate.release();
+        handler.flush();
+        assertEquals(List.of("first", "message 0", "message 1", "message 2", "message 3"), delegate.getMessages());
+        handler.close();
+    }
+
+    @Test
+    public void publish_bufferFullWithBlockPolicy_noRecordLost() throws InterruptedException {
+        RecordingHandler delegate = new RecordingHandler();
+        AsyncLogHandler handler = new AsyncLogHandler(2, OverflowPolicy.BLOCK, delegate);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 250; i++) {
+                    handler.publish(new LogRecord(Level.INFO, "message"));
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        delegate.release();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        handler.flush();
+
+        assertEquals(1000, delegate.getMessages().size());
+        assertEquals(1000, handler.getPublishedCount());
+        assertEquals(0, handler.getDroppedCount());
+        handler.close();
+    }
+
+    @Test
+    public void close_recordsQueued_recordsPublishedAndDelegateClosed() {
+        RecordingHandler delegate = new RecordingHandler();
+        delegate.release();
+        AsyncLogHandler handler = new AsyncLogHandler(64, OverflowPolicy.DROP, delegate);
+        for (int i = 0; i < 50; i++) {
+            handler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        handler.close();
+
+        assertEquals(50, delegate.getMessages().size());
+        assertTrue(delegate.isClosed());
+
+        // records published after closing are ignored
+        handler.publish(new LogRecord(Level.INFO, "late"));
+        assertEquals(50, delegate.getMessages().size());
+    }
+
+    /**
+     * A handler that records the messages it receives, and holds up the first record until it is released.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<String> messages = new ArrayList<>();
+        private final CountDownLatch firstRecord = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+        private volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            firstRecord.countDown();
+            try {
+                released.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            synchronized (messages) {
+                messages.add(record.getMessage());
+            }
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+
+        void awaitFirstRecord() throws InterruptedException {
+            firstRecord.await();
+        }
+
+        void release() {
+            released.countDown();
+        }
+
+        List<String> getMessages() {
+            synchronized (messages) {
+                return new ArrayList<>(messages);
+            }
+        }
+
+        boolean isClosed() {
+            return isClosed;
+        }
+    }
+}
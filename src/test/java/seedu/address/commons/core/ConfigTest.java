@@ -12,7 +12,12 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", jmxEnabled=" + config.isJmxEnabled()
+                + ", logBufferCapacity=" + config.getLogBufferCapacity()
+                + ", logOverflowPolicy=" + config.getLogOverflowPolicy()
+                + ", apiEnabled=" + config.isApiEnabled()
+                + ", apiPort=" + config.getApiPort() + "}";
         assertEquals(expected, config.toString());
     }
 
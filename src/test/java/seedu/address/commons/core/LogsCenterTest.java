@@ -0,0 +1,41 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+public class LogsCenterTest {
+
+    @Test
+    public void init_validLogBufferCapacity_used() {
+        Config config = new Config();
+        config.setLogBufferCapacity(1024);
+        try {
+            LogsCenter.init(config);
+            assertEquals(1024, LogsCenter.getLogBufferCapacity());
+        } finally {
+            LogsCenter.init(new Config());
+        }
+    }
+
+    @Test
+    public void init_invalidLogBufferCapacity_defaultCapacityUsed() {
+        Config config = new Config();
+        try {
+            config.setLogBufferCapacity(1024);
+            LogsCenter.init(config);
+            config.setLogBufferCapacity(0);
+            LogsCenter.init(config);
+            assertEquals(AsyncLogHandler.DEFAULT_CAPACITY, LogsCenter.getLogBufferCapacity());
+
+            config.setLogBufferCapacity(1024);
+            LogsCenter.init(config);
+            config.setLogBufferCapacity(-5);
+            config.setLogOverflowPolicy(null);
+            LogsCenter.init(config);
+            assertEquals(AsyncLogHandler.DEFAULT_CAPACITY, LogsCenter.getLogBufferCapacity());
+        } finally {
+            LogsCenter.init(new Config());
+        }
+    }
+}
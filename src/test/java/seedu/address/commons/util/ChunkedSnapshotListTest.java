@@ -0,0 +1,134 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.util.ChunkedSnapshotList.CHUNK_SIZE;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class ChunkedSnapshotListTest {
+
+    @Test
+    public void copyOf_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> ChunkedSnapshotList.copyOf(null, ChunkedSnapshotList.empty()));
+        assertThrows(NullPointerException.class, () -> ChunkedSnapshotList.copyOf(List.of(), null));
+    }
+
+    @Test
+    public void copyOf_source_equalsSource() {
+        List<String> source = createSource(CHUNK_SIZE * 3 + 5);
+        ChunkedSnapshotList<String> copy = ChunkedSnapshotList.copyOf(source, ChunkedSnapshotList.empty());
+        assertEquals(source, copy);
+        assertThrows(IndexOutOfBoundsException.class, () -> copy.get(source.size()));
+        assertThrows(UnsupportedOperationException.class, () -> copy.set(0, "changed"));
+    }
+
+    @Test
+    public void copyOf_sourceChangedAfterCopy_copyUnchanged() {
+        List<String> source = createSource(10);
+        ChunkedSnapshotList<String> copy = ChunkedSnapshotList.copyOf(source, ChunkedSnapshotList.empty());
+        source.set(0, "changed");
+        source.add("added");
+        assertEquals(createSource(10), copy);
+    }
+
+    @Test
+    public void copyOf_sourceUnchanged_returnsPrevious() {
+        List<String> source = createSource(CHUNK_SIZE * 2);
+        ChunkedSnapshotList<String> first = ChunkedSnapshotList.copyOf(source, ChunkedSnapshotList.empty());
+        assertSame(first, ChunkedSnapshotList.copyOf(source, first));
+    }
+
+    @Test
+    public void copyOf_oneElementReplaced_sharesOtherChunks() {
+        List<String> source = createSource(CHUNK_SIZE * 3);
+        ChunkedSnapshotList<String> first = ChunkedSnapshotList.copyOf(source, ChunkedSnapshotList.empty());
+        source.set(CHUNK_SIZE + 1, "changed");
+        ChunkedSnapshotList<String> second = ChunkedSnapshotList.copyOf(source, first);
+
+        assertEquals(source, second);
+        assertTrue(second.isSharingChunk(first, 0));
+        assertFalse(second.isSharingChunk(first, 1));
+        assertTrue(second.isSharingChunk(first, 2));
+        assertEquals(createSource(CHUNK_SIZE * 3), first);
+    }
+
+    @Test
+    public void copyOf_elementAppended_sharesFullChunks() {
+        List<String> source = createSource(CHUNK_SIZE + 1);
+        ChunkedSnapshotList<String> first = ChunkedSnapshotList.copyOf(source, ChunkedSnapshotList.empty());
+        source.add("added");
+        ChunkedSnapshotList<String> second = ChunkedSnapshotList.copyOf(source, first);
+
+        assertEquals(source, second);
+        assertTrue(second.isSharingChunk(first, 0));
+        assertFalse(second.isSharingChunk(first, 1));
+        assertEquals(CHUNK_SIZE + 1, first.size());
+    }
+
+    @Test
+    public void restoreInto_elementReplaced_replacesOnlyThatElement() {
+        List<String> source = createSource(CHUNK_SIZE * 3);
+        ChunkedSnapshotList<String> earlier = ChunkedSnapshotList.copyOf(source, ChunkedSnapshotList.empty());
+        source.set(CHUNK_SIZE + 1, "changed");
+        ChunkedSnapshotList<String> current = ChunkedSnapshotList.copyOf(source, earlier);
+
+        List<String> removed = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        earlier.restoreInto(source, current, removed::add, added::add);
+        assertEquals(earlier, source);
+        assertEquals(List.of("changed"), removed);
+        assertEquals(List.of("element " + (CHUNK_SIZE + 1)), added);
+    }
+
+    @Test
+    public void restoreInto_sizeChanged_replacesFromFirstDifference() {
+        List<String> source = createSource(CHUNK_SIZE + 2);
+        ChunkedSnapshotList<String> earlier = ChunkedSnapshotList.copyOf(source, ChunkedSnapshotList.empty());
+        source.remove(CHUNK_SIZE);
+        source.add("added");
+        source.add("added again");
+        ChunkedSnapshotList<String> current = ChunkedSnapshotList.copyOf(source, earlier);
+
+        List<String> removed = new ArrayList<>();
+        List<String> added = new ArrayList<>();
+        earlier.restoreInto(source, current, removed::add, added::add);
+        assertEquals(earlier, source);
+        assertEquals(List.of("element " + (CHUNK_SIZE + 1), "added", "added again"), removed);
+        assertEquals(List.of("element " + CHUNK_SIZE, "element " + (CHUNK_SIZE + 1)), added);
+
+        // restoring the later copy again undoes the restore
+        current.restoreInto(source, earlier, removed::add, added::add);
+        assertEquals(current, source);
+    }
+
+    @Test
+    public void restoreInto_callbacks_calledBeforeTargetChanges() {
+        List<String> source = createSource(3);
+        ChunkedSnapshotList<String> earlier = ChunkedSnapshotList.copyOf(source, ChunkedSnapshotList.empty());
+        source.set(1, "changed");
+        source.add("added");
+        ChunkedSnapshotList<String> current = ChunkedSnapshotList.copyOf(source, earlier);
+
+        // every callback sees the source as it was before the restore
+        List<String> calls = new ArrayList<>();
+        earlier.restoreInto(source, current, removed -> calls.add("-" + removed + " " + source.size()),
+                added -> calls.add("+" + added + " " + source.size()));
+        assertEquals(List.of("-changed 4", "-element 2 4", "-added 4", "+element 1 4", "+element 2 4"), calls);
+        assertEquals(earlier, source);
+    }
+
+    private static List<String> createSource(int size) {
+        List<String> source = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            source.add("element " + i);
+        }
+        return source;
+    }
+}
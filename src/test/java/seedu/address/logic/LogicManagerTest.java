@@ -1,30 +1,47 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.GROUPID_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.GROUPID_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.NUSNETID_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.NUSNETID_DESC_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.TELEGRAM_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.TELEGRAM_DESC_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.SwitchCommand;
+import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.performance.CommandLatencyRecorder;
+import seedu.address.logic.performance.CommandPhase;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Group;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -39,6 +56,9 @@ import seedu.address.testutil.PersonBuilder;
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
     private static final IOException DUMMY_AD_EXCEPTION = new AccessDeniedException("dummy access denied exception");
+    private static final String COMMAND_EVENT = "seedu.address.CommandExecution";
+    private static final String SAVE_EVENT = "seedu.address.AddressBookSave";
+    private static final String FILTER_EVENT = "seedu.address.FilterChange";
 
     @TempDir
     public Path temporaryFolder;
@@ -73,6 +93,49 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_validCommand_recordsLatencyOfEveryPhase() throws Exception {
+        CommandLatencyRecorder recorder = new CommandLatencyRecorder();
+        logic = new LogicManager(model, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))), recorder);
+
+        logic.execute(ListCommand.COMMAND_WORD + " ");
+        logic.execute(" " + ListCommand.COMMAND_WORD);
+
+        for (CommandPhase phase : CommandPhase.values()) {
+            assertEquals(2, recorder.getHistogram(ListCommand.COMMAND_WORD, phase).get().getCount());
+        }
+    }
+
+    @Test
+    public void execute_duringFlightRecording_emitsCommandSaveAndFilterEvents() throws Exception {
+        Path recordingFile = temporaryFolder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(COMMAND_EVENT);
+            recording.enable(SAVE_EVENT);
+            recording.enable(FILTER_EVENT);
+            recording.start();
+            logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                    + NUSNETID_DESC_AMY + TELEGRAM_DESC_AMY + GROUPID_DESC_AMY);
+            logic.execute(ListCommand.COMMAND_WORD);
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile);
+        RecordedEvent addEvent = events.stream()
+                .filter(event -> event.getEventType().getName().equals(COMMAND_EVENT)
+                        && event.getString("commandWord").equals(AddCommand.COMMAND_WORD))
+                .findFirst().get();
+        assertEquals(1, addEvent.getLong("personsTouched"));
+        assertTrue(addEvent.getBoolean("succeeded"));
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals(SAVE_EVENT)
+                && event.getInt("personCount") == 1 && event.getLong("bytes") > 0));
+        assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals(FILTER_EVENT)
+                && event.getString("list").equals("persons") && event.getInt("matchedCount") == 1));
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -85,6 +148,70 @@ public class LogicManagerTest {
                 String.format(LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void execute_switchModule_savesToFileOfNewModule() throws Exception {
+        model.setAddressBookFilePath(temporaryFolder.resolve("addressBook.json"));
+
+        logic.execute(SwitchCommand.COMMAND_WORD + " CS2040S");
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + NUSNETID_DESC_AMY + TELEGRAM_DESC_AMY
+                + GROUPID_DESC_AMY);
+
+        Path moduleFile = temporaryFolder.resolve("CS2040S.json");
+        assertEquals(moduleFile, logic.getAddressBookFilePath());
+        assertEquals(1, new JsonAddressBookStorage(moduleFile).readAddressBook().get().getPersonList().size());
+        assertEquals("CS2040S", new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))
+                .readUserPrefs().get().getActiveModule());
+    }
+
+    @Test
+    public void reloadAddressBook_undoAfterReload_keepsExternalChanges() throws Exception {
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + NUSNETID_DESC_AMY + TELEGRAM_DESC_AMY
+                + GROUPID_DESC_AMY);
+        Person amy = model.getAddressBook().getPersonList().get(0);
+        AddressBook external = new AddressBook();
+        external.addPerson(amy);
+        external.addPerson(BOB);
+
+        logic.reloadAddressBook(external);
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+        assertEquals(List.of(amy, BOB), logic.getFilteredPersonList());
+        assertEquals(logic.getAddressBookSnapshot().getPersonList(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_commandFailsAfterChangingModel_changeDiscarded() throws Exception {
+        boolean[] failNextFilter = {false};
+        model = new ModelManager() {
+            @Override
+            public void updateFilteredPersonList(Predicate<Person> predicate) {
+                if (failNextFilter[0]) {
+                    failNextFilter[0] = false;
+                    throw new IllegalStateException("Failed after changing the model");
+                }
+                super.updateFilteredPersonList(predicate);
+            }
+        };
+        setUp();
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + NUSNETID_DESC_AMY + TELEGRAM_DESC_AMY
+                + GROUPID_DESC_AMY);
+        List<Person> beforeFailure = List.copyOf(model.getAddressBook().getPersonList());
+        long versionBeforeFailure = model.getAddressBookSnapshot().getVersion();
+
+        // edit replaces the person before it resets the filter, which fails
+        failNextFilter[0] = true;
+        assertThrows(IllegalStateException.class, () -> logic.execute(EditCommand.COMMAND_WORD + " 1"
+                + NAME_DESC_BOB));
+        assertEquals(beforeFailure, model.getAddressBook().getPersonList());
+        assertEquals(versionBeforeFailure, model.getAddressBookSnapshot().getVersion());
+
+        // undoing the next command only undoes that command
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_BOB + NUSNETID_DESC_BOB + TELEGRAM_DESC_BOB
+                + GROUPID_DESC_BOB);
+        logic.execute(UndoCommand.COMMAND_WORD);
+        assertEquals(beforeFailure, model.getAddressBook().getPersonList());
+        assertEquals(beforeFailure.get(0).getName(), model.getAddressBook().getPersonList().get(0).getName());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -8,8 +8,10 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Group;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,6 +32,8 @@ import seedu.address.model.person.GroupId;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.statistics.GroupStatistics;
+import seedu.address.model.watchlist.WatchlistEntry;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddCommandTest {
@@ -139,6 +144,61 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public int applyAddressBookDifferences(ReadOnlyAddressBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> getLoadedModule(String module) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void switchModule(String module, Path filePath, ReadOnlyAddressBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void clearAddressBookHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void discardAddressBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -252,6 +312,16 @@ public class AddCommandTest {
         public void updateFilteredConsultationList(Predicate<Consultation> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredConsultationList(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Consultation> getConsultationsBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public Group getGroup(GroupId groupId) {
             throw new AssertionError("This method should not be called.");
@@ -262,6 +332,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<GroupStatistics> getGroupStatistics(GroupId groupId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasGroup(GroupId groupId) {
             throw new AssertionError("This method should not be called.");
@@ -278,6 +353,11 @@ public class AddCommandTest {
         public Person getPersonByNusnetIdFullList(Nusnetid nusnetid) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public ObservableList<WatchlistEntry> getWatchlist() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -7,7 +7,9 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -17,6 +19,7 @@ import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.Group;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -25,6 +28,8 @@ import seedu.address.model.event.Consultation;
 import seedu.address.model.person.GroupId;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
+import seedu.address.model.statistics.GroupStatistics;
+import seedu.address.model.watchlist.WatchlistEntry;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddToGroupCommandTest {
@@ -113,6 +118,55 @@ public class AddToGroupCommandTest {
         public ReadOnlyAddressBook getAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public int applyAddressBookDifferences(ReadOnlyAddressBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyAddressBook> getLoadedModule(String module) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void switchModule(String module, Path filePath, ReadOnlyAddressBook addressBook) {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override
+        public void commitAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override
+        public AddressBookSnapshot getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override
+        public void clearAddressBookHistory() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void discardAddressBookChanges() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean canUndoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override
+        public boolean canRedoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override
+        public void undoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
+        @Override
+        public void redoAddressBook() {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
@@ -213,6 +267,16 @@ public class AddToGroupCommandTest {
         public void updateFilteredConsultationList(Predicate<Consultation> predicate) {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public void updateFilteredConsultationList(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Consultation> getConsultationsBetween(LocalDateTime from, LocalDateTime to) {
+            throw new AssertionError("This method should not be called.");
+        }
         @Override
         public Group getGroup(GroupId groupId) {
             throw new AssertionError("This method should not be called.");
@@ -223,6 +287,11 @@ public class AddToGroupCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<GroupStatistics> getGroupStatistics(GroupId groupId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasGroup(GroupId groupId) {
             throw new AssertionError("This method should not be called.");
@@ -239,6 +308,11 @@ public class AddToGroupCommandTest {
         public void moveStudentToNewGroup(Person student, GroupId newGroupId) throws CommandException {
             throw new AssertionError("This method should not be called.");
         }
+
+        @Override
+        public ObservableList<WatchlistEntry> getWatchlist() {
+            throw new AssertionError("This method should not be called.");
+        }
     }
     private class ModelStubWithGroup extends ModelStub {
         private static final String MESSAGE_STUDENT_NOT_FOUND = "Student not found.";
@@ -0,0 +1,111 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonArchiveStorage;
+
+public class ArchiveCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_allStudents_addressBookEmptied() throws Exception {
+        Model model = createModel();
+        Path archiveFile = archiveStorage(model).getArchiveFilePath("AY2425S1");
+
+        CommandResult result = new ArchiveCommand("AY2425S1", Set.of()).execute(model);
+
+        assertEquals(String.format(ArchiveCommand.MESSAGE_SUCCESS, 7, 0, "AY2425S1", archiveFile, 0),
+                result.getFeedbackToUser());
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertTrue(model.getAddressBook().getGroupList().isEmpty());
+        assertEquals(String.format(FindArchiveCommand.MESSAGE_FOUND, 1) + "\n  "
+                + String.format(FindArchiveCommand.MESSAGE_STUDENT, "AY2425S1", ALICE.getName(), ALICE.getNusnetid(),
+                        ALICE.getGroupId()),
+                new FindArchiveCommand(List.of("alice")).execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_groups_onlyGroupsArchived() throws Exception {
+        Model model = createModel();
+        GroupId groupId = new GroupId("T01");
+
+        new ArchiveCommand("AY2425S1", Set.of(groupId)).execute(model);
+
+        assertEquals(5, model.getAddressBook().getPersonList().size());
+        assertFalse(model.hasPerson(ALICE));
+        assertFalse(model.hasPerson(BENSON));
+        assertFalse(model.hasGroup(groupId));
+        assertTrue(model.hasGroup(new GroupId("T15")));
+        List<Person> archived = new ArrayList<>();
+        archiveStorage(model).search(List.of("alice", "benson", "carl"), (semester, person) -> archived.add(person));
+        assertEquals(List.of(ALICE, BENSON), archived);
+    }
+
+    @Test
+    public void execute_undoAfterArchive_nothingToUndo() throws Exception {
+        Model model = createModel();
+        model.deletePerson(ALICE);
+        model.commitAddressBook();
+
+        new ArchiveCommand("AY2425S1", Set.of(new GroupId("T15"))).execute(model);
+
+        assertFalse(model.canUndoAddressBook());
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+        assertEquals(5, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void execute_invalidArchive_throwsCommandException() throws Exception {
+        Model model = createModel();
+        assertCommandFailure(new ArchiveCommand("AY2425S1", Set.of(new GroupId("T99"))), model,
+                String.format(ArchiveCommand.MESSAGE_GROUP_NOT_FOUND, "T99"));
+
+        new ArchiveCommand("AY2425S1", Set.of(new GroupId("T01"))).execute(model);
+        assertCommandFailure(new ArchiveCommand("ay2425s1", Set.of()), model,
+                String.format(ArchiveCommand.MESSAGE_ALREADY_ARCHIVED, "AY2425S1"));
+
+        new ArchiveCommand("AY2425S2", Set.of()).execute(model);
+        assertCommandFailure(new ArchiveCommand("AY2526S1", Set.of()), model, ArchiveCommand.MESSAGE_NO_STUDENTS);
+    }
+
+    @Test
+    public void equals() {
+        ArchiveCommand archiveCommand = new ArchiveCommand("AY2425S1", Set.of(new GroupId("T01")));
+
+        assertTrue(archiveCommand.equals(new ArchiveCommand("AY2425S1", Set.of(new GroupId("T01")))));
+        assertFalse(archiveCommand.equals(new ArchiveCommand("AY2425S1", Set.of())));
+        assertFalse(archiveCommand.equals(new ArchiveCommand("AY2425S2", Set.of(new GroupId("T01")))));
+        assertFalse(archiveCommand.equals(null));
+    }
+
+    private Model createModel() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(testFolder.resolve("addressbook.json"));
+        return new ModelManager(getTypicalAddressBook(), userPrefs);
+    }
+
+    private static JsonArchiveStorage archiveStorage(Model model) {
+        return new JsonArchiveStorage(JsonArchiveStorage.getArchiveDirectory(model.getAddressBookFilePath()));
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonArchiveStorage;
+import seedu.address.testutil.PersonBuilder;
+
+public class FindArchiveCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_noArchives_noneFound() throws Exception {
+        assertEquals(String.format(FindArchiveCommand.MESSAGE_FOUND, 0),
+                new FindArchiveCommand(List.of("alice")).execute(createModel()).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_manyMatches_firstFewListed() throws Exception {
+        Model model = createModel();
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < FindArchiveCommand.MAX_STUDENTS_SHOWN + 5; i++) {
+            persons.add(new PersonBuilder().withName("Alex Tan " + (char) ('A' + i))
+                    .withNusnetid(String.format("E%07d", i)).withPhone(String.format("9%07d", i))
+                    .withEmail("alex" + i + "@u.nus.edu").withTelegram("@alex" + i).build());
+        }
+        new JsonArchiveStorage(JsonArchiveStorage.getArchiveDirectory(model.getAddressBookFilePath()))
+                .archive("AY2425S1", persons);
+
+        String[] lines = new FindArchiveCommand(List.of("tan")).execute(model).getFeedbackToUser().split("\n");
+
+        assertEquals(String.format(FindArchiveCommand.MESSAGE_FOUND, persons.size()), lines[0]);
+        assertEquals(FindArchiveCommand.MAX_STUDENTS_SHOWN + 2, lines.length);
+        assertEquals("  ...", lines[lines.length - 1]);
+    }
+
+    @Test
+    public void equals() {
+        FindArchiveCommand findArchiveCommand = new FindArchiveCommand(List.of("alice"));
+
+        assertTrue(findArchiveCommand.equals(new FindArchiveCommand(List.of("alice"))));
+        assertFalse(findArchiveCommand.equals(new FindArchiveCommand(List.of("bob"))));
+        assertFalse(findArchiveCommand.equals(null));
+    }
+
+    private Model createModel() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(testFolder.resolve("addressbook.json"));
+        return new ModelManager(new AddressBook(), userPrefs);
+    }
+}
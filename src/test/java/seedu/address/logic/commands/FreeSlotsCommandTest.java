@@ -0,0 +1,120 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.Nusnetid;
+
+public class FreeSlotsCommandTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 10, 6);
+    private static final LocalTime NINE = LocalTime.of(9, 0);
+    private static final LocalTime SIX = LocalTime.of(18, 0);
+
+    @Test
+    public void execute_consultationsDuringDay_listsGapsBetweenThem() {
+        Model model = new ModelManager();
+        addConsultation(model, MONDAY.atTime(10, 0), MONDAY.atTime(11, 30));
+        addConsultation(model, MONDAY.atTime(12, 0), MONDAY.atTime(13, 0));
+        addConsultation(model, MONDAY.atTime(17, 30), MONDAY.atTime(19, 0));
+
+        CommandResult result = new FreeSlotsCommand(MONDAY, MONDAY, Duration.ofMinutes(60), NINE, SIX, 5)
+                .execute(model);
+
+        assertEquals(String.format(FreeSlotsCommand.MESSAGE_SUCCESS, 2, 60) + "\n"
+                + "Mon 2025-10-06 09:00-10:00 (60 min)\n"
+                + "Mon 2025-10-06 13:00-17:30 (270 min)", result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_consultationFromPreviousDay_notFree() {
+        Model model = new ModelManager();
+        addConsultation(model, MONDAY.minusDays(1).atTime(23, 0), MONDAY.atTime(9, 30));
+
+        CommandResult result = new FreeSlotsCommand(MONDAY, MONDAY, Duration.ofMinutes(30), NINE,
+                LocalTime.of(11, 0), 5).execute(model);
+
+        assertEquals(String.format(FreeSlotsCommand.MESSAGE_SUCCESS, 1, 30) + "\n"
+                + "Mon 2025-10-06 09:30-11:00 (90 min)", result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_overlappingConsultations_freeAfterLatestEnd() {
+        Model model = new ModelManager();
+        addConsultation(model, MONDAY.atTime(8, 0), MONDAY.atTime(9, 30));
+        addConsultation(model, MONDAY.atTime(9, 15), MONDAY.atTime(10, 0));
+
+        CommandResult result = new FreeSlotsCommand(MONDAY, MONDAY, Duration.ofMinutes(30), NINE,
+                LocalTime.of(11, 0), 5).execute(model);
+
+        assertEquals(String.format(FreeSlotsCommand.MESSAGE_SUCCESS, 1, 30) + "\n"
+                + "Mon 2025-10-06 10:00-11:00 (60 min)", result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_manyDays_stopsAtCount() {
+        Model model = new ModelManager();
+        addConsultation(model, MONDAY.atTime(9, 0), MONDAY.atTime(18, 0));
+        addConsultation(model, MONDAY.plusDays(1).atTime(12, 0), MONDAY.plusDays(1).atTime(13, 0));
+
+        CommandResult result = new FreeSlotsCommand(MONDAY, MONDAY.plusDays(30), Duration.ofMinutes(60), NINE, SIX,
+                2).execute(model);
+
+        assertEquals(String.format(FreeSlotsCommand.MESSAGE_SUCCESS, 2, 60) + "\n"
+                + "Tue 2025-10-07 09:00-12:00 (180 min)\n"
+                + "Tue 2025-10-07 13:00-18:00 (300 min)", result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_fullyBooked_noSlots() {
+        Model model = new ModelManager();
+        addConsultation(model, MONDAY.atTime(9, 0), MONDAY.atTime(13, 0));
+        addConsultation(model, MONDAY.atTime(13, 30), MONDAY.atTime(18, 0));
+
+        CommandResult result = new FreeSlotsCommand(MONDAY, MONDAY, Duration.ofMinutes(60), NINE, SIX, 5)
+                .execute(model);
+
+        assertEquals(String.format(FreeSlotsCommand.MESSAGE_NO_SLOTS, 60, MONDAY, MONDAY),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void constructor_invalidArguments_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new FreeSlotsCommand(MONDAY, MONDAY.minusDays(1),
+                Duration.ofMinutes(60), NINE, SIX, 5));
+        assertThrows(IllegalArgumentException.class, () -> new FreeSlotsCommand(MONDAY, MONDAY,
+                Duration.ZERO, NINE, SIX, 5));
+        assertThrows(IllegalArgumentException.class, () -> new FreeSlotsCommand(MONDAY, MONDAY,
+                Duration.ofMinutes(60), SIX, NINE, 5));
+        assertThrows(IllegalArgumentException.class, () -> new FreeSlotsCommand(MONDAY,
+                MONDAY.plusDays(FreeSlotsCommand.MAX_DAYS), Duration.ofMinutes(60), NINE, SIX, 5));
+    }
+
+    @Test
+    public void equals() {
+        FreeSlotsCommand command = new FreeSlotsCommand(MONDAY, MONDAY, Duration.ofMinutes(60), NINE, SIX, 5);
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new FreeSlotsCommand(MONDAY, MONDAY, Duration.ofMinutes(60), NINE, SIX, 5)));
+        assertFalse(command.equals(new FreeSlotsCommand(MONDAY, MONDAY, Duration.ofMinutes(30), NINE, SIX, 5)));
+        assertFalse(command.equals(new FreeSlotsCommand(MONDAY, MONDAY, Duration.ofMinutes(60), NINE, SIX, 3)));
+        assertFalse(command.equals(null));
+    }
+
+    private static void addConsultation(Model model, LocalDateTime from, LocalDateTime to) {
+        String nusnetid = String.format("E%07d", model.getConsultationsBetween(LocalDateTime.MIN,
+                LocalDateTime.MAX).size());
+        model.addConsultation(new Consultation(new Nusnetid(nusnetid), from, to));
+    }
+}
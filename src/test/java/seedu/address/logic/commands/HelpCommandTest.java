@@ -17,4 +17,11 @@ public class HelpCommandTest {
         CommandResult expectedCommandResult = new CommandResult(SHOWING_HELP_MESSAGE, true, false);
         assertCommandSuccess(new HelpCommand(), model, expectedCommandResult, expectedModel);
     }
+
+    @Test
+    public void execute_commandUsage_showsUsage() {
+        CommandResult expectedCommandResult = new CommandResult(ListCommand.MESSAGE_USAGE);
+        assertCommandSuccess(new HelpCommand(ListCommand.MESSAGE_USAGE), model, expectedCommandResult,
+                expectedModel);
+    }
 }
@@ -71,6 +71,17 @@ public class MarkAllAttendanceCommandTest {
                 .get().getAttendanceStatus().getStatus());
     }
 
+    @Test
+    public void execute_studentUpdatedOutsideGroup_success() throws Exception {
+        // adding homework replaces the students in the roster but not in their group
+        model.addHomework(null, 1);
+        new MarkAllAttendanceCommand(new GroupId("T01"), 3, AttendanceStatus.fromString("absent")).execute(model);
+
+        Person updatedAlice = model.findPerson(new Nusnetid("E1234567"));
+        assertEquals(true, updatedAlice.getHomeworkTracker().contains(1));
+        assertEquals("absent", updatedAlice.getAttendanceSheet().getAttendanceForWeek(3)
+                .get().getAttendanceStatus().getStatus());
+    }
 
     @Test
     public void execute_groupNotFound_throwsCommandException() {
@@ -0,0 +1,63 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class MergeCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_fileWithNewStudent_studentAddedAndUndoable() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Path file = testFolder.resolve("ta2.json");
+        AddressBook other = getTypicalAddressBook();
+        other.addPerson(AMY);
+        new JsonAddressBookStorage(file).saveAddressBook(other);
+
+        CommandResult result = new MergeCommand(List.of(file), Optional.empty()).execute(model);
+
+        assertEquals(String.format(MergeCommand.MESSAGE_SUCCESS, 1, 8, 1, 0), result.getFeedbackToUser());
+        assertTrue(model.hasPerson(AMY));
+        model.commitAddressBook();
+        model.undoAddressBook();
+        assertFalse(model.hasPerson(AMY));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Path file = testFolder.resolve("missing.json");
+
+        assertCommandFailure(new MergeCommand(List.of(file), Optional.empty()), model,
+                String.format(MergeCommand.MESSAGE_FILE_NOT_FOUND, file));
+    }
+
+    @Test
+    public void equals() {
+        MergeCommand mergeCommand = new MergeCommand(List.of(Path.of("a.json")), Optional.empty());
+
+        assertTrue(mergeCommand.equals(mergeCommand));
+        assertTrue(mergeCommand.equals(new MergeCommand(List.of(Path.of("a.json")), Optional.empty())));
+        assertFalse(mergeCommand.equals(new MergeCommand(List.of(Path.of("a.json")), Optional.of(Path.of("b.json")))));
+        assertFalse(mergeCommand.equals(null));
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.performance.CommandLatencyRecorder;
+import seedu.address.logic.performance.CommandPhase;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class PerfCommandTest {
+
+    private final Model model = new ModelManager();
+    private final Model expectedModel = new ModelManager();
+
+    @Test
+    public void execute_nothingTimed_showsEmptyMessage() {
+        assertCommandSuccess(new PerfCommand(new CommandLatencyRecorder()), model, PerfCommand.MESSAGE_EMPTY,
+                expectedModel);
+    }
+
+    @Test
+    public void execute_timedCommands_showsSummary() {
+        CommandLatencyRecorder recorder = new CommandLatencyRecorder();
+        recorder.record(ListCommand.COMMAND_WORD, CommandPhase.EXECUTE, 1_000_000);
+        String expectedMessage = PerfCommand.MESSAGE_SUCCESS + "\n" + String.format(
+                CommandLatencyRecorder.SUMMARY_FORMAT, ListCommand.COMMAND_WORD, CommandPhase.EXECUTE, 1, 1.0, 1.0,
+                1.0);
+        assertCommandSuccess(new PerfCommand(recorder), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        CommandLatencyRecorder recorder = new CommandLatencyRecorder();
+        PerfCommand perfCommand = new PerfCommand(recorder);
+        assertTrue(perfCommand.equals(perfCommand));
+        assertTrue(perfCommand.equals(new PerfCommand(recorder)));
+        assertFalse(perfCommand.equals(new PerfCommand(new CommandLatencyRecorder())));
+        assertFalse(perfCommand.equals(null));
+    }
+}
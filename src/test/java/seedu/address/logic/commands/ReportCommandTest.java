@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class ReportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_typicalAddressBook_reportsWritten() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setAddressBookFilePath(testFolder.resolve("addressbook.json"));
+
+        CommandResult result = new ReportCommand().execute(model);
+
+        Path reportsFolder = testFolder.resolve(ReportCommand.REPORTS_DIRECTORY);
+        assertEquals(String.format(ReportCommand.MESSAGE_SUCCESS, model.getGroupList().size(),
+                reportsFolder.toAbsolutePath()), result.getFeedbackToUser());
+        assertTrue(Files.exists(reportsFolder.resolve("T01.csv")));
+    }
+
+    @Test
+    public void execute_noGroups_nothingWritten() throws Exception {
+        Model model = new ModelManager();
+        model.setAddressBookFilePath(testFolder.resolve("addressbook.json"));
+
+        assertEquals(ReportCommand.MESSAGE_NO_GROUPS, new ReportCommand().execute(model).getFeedbackToUser());
+        assertTrue(Files.notExists(testFolder.resolve(ReportCommand.REPORTS_DIRECTORY)));
+    }
+}
@@ -0,0 +1,82 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.Person;
+
+public class StatsCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void equals() {
+        StatsCommand allGroupsCommand = new StatsCommand();
+        StatsCommand groupCommand = new StatsCommand(new GroupId("T01"));
+
+        // same object -> returns true
+        assertEquals(allGroupsCommand, allGroupsCommand);
+
+        // same values -> returns true
+        assertEquals(allGroupsCommand, new StatsCommand());
+        assertEquals(groupCommand, new StatsCommand(new GroupId("T01")));
+
+        // different values -> returns false
+        assertNotEquals(allGroupsCommand, groupCommand);
+        assertNotEquals(groupCommand, new StatsCommand(new GroupId("T02")));
+
+        // different types -> returns false
+        assertNotEquals(1, allGroupsCommand);
+
+        // null -> returns false
+        assertNotEquals(null, allGroupsCommand);
+    }
+
+    @Test
+    public void execute_allGroups_listsEveryGroup() throws Exception {
+        String feedback = new StatsCommand().execute(model).getFeedbackToUser();
+        assertTrue(feedback.startsWith(String.format(StatsCommand.MESSAGE_HEADER, model.getGroupList().size())));
+        assertTrue(feedback.contains("T01 (2 students): attendance 0.0% present (0/0 marked)"));
+    }
+
+    @Test
+    public void execute_singleGroup_showsWeeklyBreakdown() throws Exception {
+        Person alice = model.markAttendance(ALICE.getNusnetid(), 4, AttendanceStatus.EXCUSED);
+        model.setPerson(alice, alice.withAddedHomework(2).withUpdatedHomework(2, "complete"));
+
+        String feedback = new StatsCommand(new GroupId("T01")).execute(model).getFeedbackToUser();
+        String expected = String.format(StatsCommand.MESSAGE_GROUP_SUMMARY, "T01", 2, 0.0, 0, 1)
+                + String.format(StatsCommand.MESSAGE_HOMEWORK_SUMMARY, 2, 100.0, 1, 1) + "\n"
+                + String.format(StatsCommand.MESSAGE_WEEK_SUMMARY, 4, 0, 0, 1);
+        assertEquals(expected, feedback);
+    }
+
+    @Test
+    public void execute_noGroups_showsEmptyMessage() throws Exception {
+        assertEquals(StatsCommand.MESSAGE_NO_GROUPS,
+                new StatsCommand().execute(new ModelManager()).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_nonExistentGroup_throwsCommandException() {
+        StatsCommand command = new StatsCommand(new GroupId("T99"));
+        assertThrows(CommandException.class, StatsCommand.MESSAGE_GROUP_NOT_FOUND, () -> command.execute(model));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("StatsCommand{groupId=T01}", new StatsCommand(new GroupId("T01")).toString());
+    }
+}
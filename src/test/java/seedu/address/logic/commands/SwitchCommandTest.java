@@ -0,0 +1,130 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+
+public class SwitchCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void execute_newModule_switchesToEmptyModule() throws Exception {
+        Model model = createModel(new UserPrefs());
+
+        CommandResult result = new SwitchCommand("CS2040S", Optional.empty()).execute(model);
+
+        assertEquals(String.format(SwitchCommand.MESSAGE_SUCCESS, "CS2040S", 0), result.getFeedbackToUser());
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertEquals(testFolder.resolve("CS2040S.json"), model.getAddressBookFilePath());
+        assertEquals(List.of(UserPrefs.DEFAULT_MODULE, "CS2040S"),
+                List.copyOf(model.getUserPrefs().getModules().keySet()));
+        // the undo history belongs to the module that was active
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_switchBack_usesLoadedAddressBook() throws Exception {
+        Model model = createModel(new UserPrefs());
+        new SwitchCommand("CS2040S", Optional.empty()).execute(model);
+
+        // the data file of the first module was never written, so its data can only come from memory
+        CommandResult result = new SwitchCommand("MAIN", Optional.empty()).execute(model);
+
+        assertEquals(String.format(SwitchCommand.MESSAGE_SUCCESS, UserPrefs.DEFAULT_MODULE, 7),
+                result.getFeedbackToUser());
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_dataFileChangedWhileLoaded_readsDataFile() throws Exception {
+        Model model = createModel(new UserPrefs());
+        new SwitchCommand("CS2040S", Optional.empty()).execute(model);
+        AddressBook edited = new AddressBook();
+        edited.addPerson(AMY);
+        new JsonAddressBookStorage(testFolder.resolve("addressbook.json")).saveAddressBook(edited);
+
+        new SwitchCommand(UserPrefs.DEFAULT_MODULE, Optional.empty()).execute(model);
+
+        assertEquals(List.of(AMY), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void execute_switchBackAfterEviction_readsDataFile() throws Exception {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMaxLoadedModules(1);
+        Model model = createModel(userPrefs);
+        new SwitchCommand("CS2040S", Optional.empty()).execute(model);
+
+        new SwitchCommand(UserPrefs.DEFAULT_MODULE, Optional.empty()).execute(model);
+
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void execute_existingDataFile_loadsFile() throws Exception {
+        Model model = createModel(new UserPrefs());
+        Path file = testFolder.resolve("other.json");
+        AddressBook other = new AddressBook();
+        other.addPerson(AMY);
+        new JsonAddressBookStorage(file).saveAddressBook(other);
+
+        new SwitchCommand("CS2103T", Optional.of(file)).execute(model);
+
+        assertEquals(List.of(AMY), model.getAddressBook().getPersonList());
+        assertEquals(file, model.getUserPrefs().getModules().get("CS2103T"));
+    }
+
+    @Test
+    public void execute_invalidSwitch_throwsCommandException() {
+        Model model = createModel(new UserPrefs());
+        assertCommandFailure(new SwitchCommand(UserPrefs.DEFAULT_MODULE, Optional.empty()), model,
+                String.format(SwitchCommand.MESSAGE_ALREADY_ACTIVE, UserPrefs.DEFAULT_MODULE));
+
+        Path file = testFolder.resolve("addressbook.json");
+        assertCommandFailure(new SwitchCommand("CS2040S", Optional.of(file)), model,
+                String.format(SwitchCommand.MESSAGE_FILE_IN_USE, file, UserPrefs.DEFAULT_MODULE));
+    }
+
+    @Test
+    public void execute_noModule_listsModules() throws Exception {
+        Model model = createModel(new UserPrefs());
+        new SwitchCommand("CS2040S", Optional.empty()).execute(model);
+
+        assertEquals(String.format(SwitchCommand.MESSAGE_MODULES, "main, CS2040S (in use)"),
+                new SwitchCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void equals() {
+        SwitchCommand switchCommand = new SwitchCommand("CS2040S", Optional.empty());
+
+        assertTrue(switchCommand.equals(new SwitchCommand("CS2040S", Optional.empty())));
+        assertFalse(switchCommand.equals(new SwitchCommand("CS2103T", Optional.empty())));
+        assertFalse(switchCommand.equals(new SwitchCommand()));
+        assertTrue(new SwitchCommand().equals(new SwitchCommand()));
+        assertFalse(switchCommand.equals(null));
+    }
+
+    private Model createModel(UserPrefs userPrefs) {
+        userPrefs.setAddressBookFilePath(testFolder.resolve("addressbook.json"));
+        return new ModelManager(getTypicalAddressBook(), userPrefs);
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.event.Consultation;
+
+public class TodayCommandTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 10, 6, 11, 30);
+    private static final Clock CLOCK = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+
+    @Test
+    public void execute_consultationsOnSeveralDays_listsTodayOnly() {
+        Model model = new ModelManager();
+        Consultation yesterday = new Consultation(ALICE.getNusnetid(), NOW.minusDays(1), NOW.minusDays(1).plusHours(1));
+        Consultation today = new Consultation(BENSON.getNusnetid(), NOW.plusHours(3), NOW.plusHours(4));
+        model.addConsultation(yesterday);
+        model.addConsultation(today);
+
+        CommandResult result = new TodayCommand(CLOCK).execute(model);
+
+        assertEquals(String.format(TodayCommand.MESSAGE_SUCCESS, 1, "2025-10-06"), result.getFeedbackToUser());
+        assertEquals(List.of(today), model.getFilteredConsultationList());
+        assertTrue(result.isShowConsultations());
+    }
+
+    @Test
+    public void equals() {
+        TodayCommand todayCommand = new TodayCommand(CLOCK);
+        assertTrue(todayCommand.equals(todayCommand));
+        assertTrue(todayCommand.equals(new TodayCommand(CLOCK)));
+        assertFalse(todayCommand.equals(new TodayCommand(Clock.offset(CLOCK, Duration.ofDays(1)))));
+        assertFalse(todayCommand.equals(null));
+    }
+}
@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ViewCommand.ViewMode;
+import seedu.address.model.ModelManager;
+
+public class ViewCommandTest {
+
+    @Test
+    public void execute_table_resultSwitchesToTable() {
+        CommandResult result = new ViewCommand(ViewMode.TABLE).execute(new ModelManager());
+        assertEquals(String.format(ViewCommand.MESSAGE_SUCCESS, "table"), result.getFeedbackToUser());
+        assertEquals(Optional.of(ViewMode.TABLE), result.getViewMode());
+    }
+
+    @Test
+    public void execute_cards_resultSwitchesToCards() {
+        CommandResult result = new ViewCommand(ViewMode.CARDS).execute(new ModelManager());
+        assertEquals(Optional.of(ViewMode.CARDS), result.getViewMode());
+        assertEquals(Optional.empty(), new CommandResult("feedback").getViewMode());
+    }
+
+    @Test
+    public void equals() {
+        ViewCommand tableCommand = new ViewCommand(ViewMode.TABLE);
+
+        // same object -> returns true
+        assertEquals(tableCommand, tableCommand);
+
+        // same values -> returns true
+        assertEquals(tableCommand, new ViewCommand(ViewMode.TABLE));
+
+        // different values -> returns false
+        assertNotEquals(tableCommand, new ViewCommand(ViewMode.CARDS));
+
+        // null -> returns false
+        assertNotEquals(null, tableCommand);
+    }
+}
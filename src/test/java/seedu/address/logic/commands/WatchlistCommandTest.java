@@ -0,0 +1,37 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.watchlist.HomeworkRule;
+
+public class WatchlistCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_noStudentsAtRisk_showsEmptyMessage() {
+        CommandResult result = new WatchlistCommand().execute(model);
+        assertEquals(WatchlistCommand.MESSAGE_EMPTY, result.getFeedbackToUser());
+        assertEquals(0, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_studentAtRisk_listsAndFiltersStudent() {
+        model.setPerson(BENSON, BENSON.withAddedHomework(1).withAddedHomework(3));
+
+        CommandResult result = new WatchlistCommand().execute(model);
+        String expected = String.format(WatchlistCommand.MESSAGE_SUCCESS, 1) + "\n"
+                + String.format(WatchlistCommand.MESSAGE_ENTRY, 1, BENSON.getName(), BENSON.getNusnetid(),
+                        String.format(HomeworkRule.MESSAGE_REASON, 2));
+        assertEquals(expected, result.getFeedbackToUser());
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertEquals(BENSON.getNusnetid(), model.getFilteredPersonList().get(0).getNusnetid());
+    }
+}
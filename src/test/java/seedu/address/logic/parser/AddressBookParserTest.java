@@ -7,22 +7,41 @@ import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ArchiveCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
 import seedu.address.logic.commands.EditCommand.EditPersonDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindArchiveCommand;
 import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.FreeSlotsCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListConsultationCommand;
+import seedu.address.logic.commands.MergeCommand;
+import seedu.address.logic.commands.PerfCommand;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.ReportCommand;
+import seedu.address.logic.commands.SwitchCommand;
+import seedu.address.logic.commands.TodayCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.WatchlistCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.GroupId;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
@@ -80,6 +99,50 @@ public class AddressBookParserTest {
     public void parseCommand_help() throws Exception {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD) instanceof HelpCommand);
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
+        assertEquals(new HelpCommand(AddCommand.MESSAGE_USAGE),
+                parser.parseCommand(HelpCommand.COMMAND_WORD + " " + AddCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_undoRedo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
+    @Test
+    public void parseCommand_merge() throws Exception {
+        assertEquals(new MergeCommand(List.of(Paths.get("ta2.json")), Optional.of(Paths.get("start.json"))),
+                parser.parseCommand(MergeCommand.COMMAND_WORD + " f/ta2.json base/start.json"));
+    }
+
+    @Test
+    public void parseCommand_switch() throws Exception {
+        assertEquals(new SwitchCommand("CS2040S", Optional.empty()),
+                parser.parseCommand(SwitchCommand.COMMAND_WORD + " CS2040S"));
+    }
+
+    @Test
+    public void parseCommand_archive() throws Exception {
+        assertEquals(new ArchiveCommand("AY2425S1", Set.of(new GroupId("T01"))),
+                parser.parseCommand(ArchiveCommand.COMMAND_WORD + " AY2425S1 g/T01"));
+        assertEquals(new FindArchiveCommand(List.of("alice", "E1234567")),
+                parser.parseCommand(FindArchiveCommand.COMMAND_WORD + " alice E1234567"));
+    }
+
+    @Test
+    public void parseCommand_listConsultationRange() throws Exception {
+        assertEquals(new ListConsultationCommand(LocalDateTime.of(2025, 10, 6, 0, 0),
+                LocalDateTime.of(2025, 10, 13, 0, 0)),
+                parser.parseCommand(ListConsultationCommand.COMMAND_WORD + " from/20251006 to/20251012"));
+        assertEquals(new TodayCommand(), parser.parseCommand(TodayCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parseCommand_freeSlots() throws Exception {
+        LocalDate monday = LocalDate.of(2025, 10, 6);
+        assertEquals(new FreeSlotsCommand(monday, monday.plusDays(4), Duration.ofMinutes(60),
+                FreeSlotsCommand.DEFAULT_DAY_START, FreeSlotsCommand.DEFAULT_DAY_END, 3),
+                parser.parseCommand(FreeSlotsCommand.COMMAND_WORD + " from/20251006 to/20251010 d/60 k/3"));
     }
 
     @Test
@@ -88,6 +151,42 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + " 3") instanceof ListCommand);
     }
 
+    @Test
+    public void parseCommand_report() throws Exception {
+        assertTrue(parser.parseCommand(ReportCommand.COMMAND_WORD) instanceof ReportCommand);
+    }
+
+    @Test
+    public void parseCommand_watchlist() throws Exception {
+        assertTrue(parser.parseCommand(WatchlistCommand.COMMAND_WORD) instanceof WatchlistCommand);
+        assertTrue(parser.parseCommand(WatchlistCommand.COMMAND_WORD + " 3") instanceof WatchlistCommand);
+    }
+
+    @Test
+    public void parseCommand_commandWordFollowedByTab() throws Exception {
+        assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD + "\t3") instanceof ListCommand);
+    }
+
+    @Test
+    public void parseCommand_perf() throws Exception {
+        assertTrue(parser.parseCommand(PerfCommand.COMMAND_WORD) instanceof PerfCommand);
+    }
+
+    @Test
+    public void getCommandWord() {
+        assertEquals(ListCommand.COMMAND_WORD, AddressBookParser.getCommandWord("  list 3"));
+        assertEquals(ListCommand.COMMAND_WORD, AddressBookParser.getCommandWord("list"));
+        assertEquals("", AddressBookParser.getCommandWord("   "));
+    }
+
+    @Test
+    public void getCommandWordCompletions() {
+        assertEquals(List.of(ListCommand.COMMAND_WORD, ListConsultationCommand.COMMAND_WORD),
+                parser.getCommandWordCompletions("lis"));
+        assertEquals(List.of(WatchlistCommand.COMMAND_WORD), parser.getCommandWordCompletions("wa"));
+        assertTrue(parser.getCommandWordCompletions("zzz").isEmpty());
+    }
+
     @Test
     public void parseCommand_unrecognisedInput_throwsParseException() {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
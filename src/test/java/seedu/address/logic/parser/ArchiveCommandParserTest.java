@@ -0,0 +1,33 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ArchiveCommand;
+import seedu.address.model.person.GroupId;
+
+public class ArchiveCommandParserTest {
+
+    private final ArchiveCommandParser parser = new ArchiveCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsArchiveCommand() {
+        assertParseSuccess(parser, " AY2425S1", new ArchiveCommand("AY2425S1", Set.of()));
+        assertParseSuccess(parser, " AY2425S1 g/T01 g/T02",
+                new ArchiveCommand("AY2425S1", Set.of(new GroupId("T01"), new GroupId("T02"))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, ArchiveCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " g/T01",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ArchiveCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " AY 2425", ArchiveCommand.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " AY2425S1 g/", GroupId.MESSAGE_CONSTRAINTS);
+    }
+}
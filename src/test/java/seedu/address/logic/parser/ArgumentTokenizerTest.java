@@ -136,6 +136,41 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixesSharingFirstCharacter() {
+        Prefix tSlash = new Prefix("t/");
+        Prefix toSlash = new Prefix("to/");
+        String argsString = "preamble to/ 10:00 t/ tag to/11:00 tt/ not a prefix";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, tSlash, toSlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, tSlash, "tag");
+        assertArgumentPresent(argMultimap, toSlash, "10:00", "11:00 tt/ not a prefix");
+    }
+
+    @Test
+    public void tokenize_nonAsciiPrefix() {
+        Prefix section = new Prefix("§");
+        String argsString = "preamble §first §second";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, section, pSlash);
+        assertPreamblePresent(argMultimap, "preamble");
+        assertArgumentPresent(argMultimap, section, "first", "second");
+        assertArgumentAbsent(argMultimap, pSlash);
+    }
+
+    @Test
+    public void extractArguments_reusedTokenizer_independentResults() {
+        ArgumentTokenizer tokenizer = ArgumentTokenizer.of(pSlash, dashT);
+        ArgumentMultimap first = tokenizer.extractArguments("first p/ one -t two");
+        ArgumentMultimap second = tokenizer.extractArguments("second p/ three");
+
+        assertPreamblePresent(first, "first");
+        assertArgumentPresent(first, pSlash, "one");
+        assertArgumentPresent(first, dashT, "two");
+        assertPreamblePresent(second, "second");
+        assertArgumentPresent(second, pSlash, "three");
+        assertArgumentAbsent(second, dashT);
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListConsultationCommand;
+
+public class CommandParserRegistryTest {
+
+    private final Parser<ListCommand> listParser = args -> new ListCommand();
+
+    private CommandParserRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        registry = new CommandParserRegistry();
+        registry.register(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_USAGE, listParser);
+        registry.register(ListConsultationCommand.COMMAND_WORD, ListConsultationCommand.MESSAGE_USAGE,
+                args -> new ListConsultationCommand());
+        registry.register(ClearCommand.COMMAND_WORD, ClearCommand.MESSAGE_USAGE, args -> new ClearCommand());
+    }
+
+    @Test
+    public void register_duplicateCommandWord_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                registry.register(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_USAGE, listParser));
+    }
+
+    @Test
+    public void getParser_registeredCommandWord_returnsSameParser() {
+        assertSame(listParser, registry.getParser(ListCommand.COMMAND_WORD).get());
+        assertSame(listParser, registry.getParser(ListCommand.COMMAND_WORD).get());
+    }
+
+    @Test
+    public void getParser_unknownCommandWord_returnsEmpty() {
+        assertTrue(registry.getParser("lis").isEmpty());
+        assertTrue(registry.getUsage("lis").isEmpty());
+    }
+
+    @Test
+    public void getUsage_registeredCommandWord_returnsUsage() {
+        assertEquals(ClearCommand.MESSAGE_USAGE, registry.getUsage(ClearCommand.COMMAND_WORD).get());
+    }
+
+    @Test
+    public void getCommandWordsStartingWith() {
+        assertEquals(List.of(ListCommand.COMMAND_WORD, ListConsultationCommand.COMMAND_WORD),
+                registry.getCommandWordsStartingWith("l"));
+        assertEquals(List.of(ListConsultationCommand.COMMAND_WORD),
+                registry.getCommandWordsStartingWith("list_"));
+        assertEquals(List.of(ClearCommand.COMMAND_WORD, ListCommand.COMMAND_WORD,
+                ListConsultationCommand.COMMAND_WORD), registry.getCommandWordsStartingWith(""));
+        assertTrue(registry.getCommandWordsStartingWith("x").isEmpty());
+    }
+}
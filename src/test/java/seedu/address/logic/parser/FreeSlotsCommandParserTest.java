@@ -0,0 +1,60 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FreeSlotsCommand;
+
+public class FreeSlotsCommandParserTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 10, 6);
+
+    private final FreeSlotsCommandParser parser = new FreeSlotsCommandParser();
+
+    @Test
+    public void parse_requiredArgs_usesDefaults() {
+        assertParseSuccess(parser, " from/20251006 d/60", new FreeSlotsCommand(MONDAY, MONDAY, Duration.ofMinutes(60),
+                FreeSlotsCommand.DEFAULT_DAY_START, FreeSlotsCommand.DEFAULT_DAY_END, FreeSlotsCommand.DEFAULT_COUNT));
+    }
+
+    @Test
+    public void parse_allArgs_returnsFreeSlotsCommand() {
+        assertParseSuccess(parser, " from/20251006 to/20251010 d/45 hours/1000-1630 k/3",
+                new FreeSlotsCommand(MONDAY, MONDAY.plusDays(4), Duration.ofMinutes(45), LocalTime.of(10, 0),
+                        LocalTime.of(16, 30), 3));
+    }
+
+    @Test
+    public void parse_yearLongRange_returnsFreeSlotsCommand() {
+        assertParseSuccess(parser, " from/20251006 to/20261006 d/60", new FreeSlotsCommand(MONDAY,
+                LocalDate.of(2026, 10, 6), Duration.ofMinutes(60), FreeSlotsCommand.DEFAULT_DAY_START,
+                FreeSlotsCommand.DEFAULT_DAY_END, FreeSlotsCommand.DEFAULT_COUNT));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " d/60", invalidFormat);
+        assertParseFailure(parser, " from/20251006", invalidFormat);
+        assertParseFailure(parser, " week from/20251006 d/60", invalidFormat);
+        assertParseFailure(parser, " from/20251010 to/20251006 d/60", FreeSlotsCommandParser.MESSAGE_INVALID_DATES);
+        assertParseFailure(parser, " from/20250101 to/99991231 d/60", FreeSlotsCommandParser.MESSAGE_RANGE_TOO_LONG);
+        assertParseFailure(parser, " from/20251006 to/20261007 d/60", FreeSlotsCommandParser.MESSAGE_RANGE_TOO_LONG);
+        assertParseFailure(parser, " from/20251006 d/0", FreeSlotsCommandParser.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, " from/20251006 d/1h", FreeSlotsCommandParser.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, " from/20251006 d/60 hours/1800-0900", FreeSlotsCommandParser.MESSAGE_INVALID_HOURS);
+        assertParseFailure(parser, " from/20251006 d/60 hours/0900", FreeSlotsCommandParser.MESSAGE_INVALID_HOURS);
+        assertParseFailure(parser, " from/20251006 d/60 hours/0900-2500", FreeSlotsCommandParser.MESSAGE_INVALID_HOURS);
+        assertParseFailure(parser, " from/20251006 d/120 hours/0900-1000",
+                FreeSlotsCommandParser.MESSAGE_DURATION_TOO_LONG);
+        assertParseFailure(parser, " from/20251006 d/60 k/0", FreeSlotsCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, " from/20251006 d/60 k/51", FreeSlotsCommandParser.MESSAGE_INVALID_COUNT);
+    }
+}
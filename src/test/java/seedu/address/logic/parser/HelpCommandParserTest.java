@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ListCommand;
+
+public class HelpCommandParserTest {
+
+    private final HelpCommandParser parser = new HelpCommandParser(createRegistry());
+
+    private static CommandParserRegistry createRegistry() {
+        CommandParserRegistry registry = new CommandParserRegistry();
+        registry.register(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_USAGE, args -> new ListCommand());
+        return registry;
+    }
+
+    @Test
+    public void parse_noArgs_returnsHelpWindowCommand() {
+        assertParseSuccess(parser, "", new HelpCommand());
+        assertParseSuccess(parser, "   ", new HelpCommand());
+    }
+
+    @Test
+    public void parse_registeredCommandWord_returnsUsageCommand() {
+        assertParseSuccess(parser, " " + ListCommand.COMMAND_WORD + " ", new HelpCommand(ListCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unknownCommandWord_returnsHelpWindowCommand() {
+        assertParseSuccess(parser, " unknown", new HelpCommand());
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ListConsultationCommand;
+
+public class ListConsultationCommandParserTest {
+
+    private final ListConsultationCommandParser parser = new ListConsultationCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListAllCommand() {
+        assertParseSuccess(parser, "  ", new ListConsultationCommand());
+    }
+
+    @Test
+    public void parse_dates_coversWholeDays() {
+        assertParseSuccess(parser, " from/20251006 to/20251012", new ListConsultationCommand(
+                LocalDateTime.of(2025, 10, 6, 0, 0), LocalDateTime.of(2025, 10, 13, 0, 0)));
+        assertParseSuccess(parser, " to/20251012",
+                new ListConsultationCommand(LocalDateTime.MIN, LocalDateTime.of(2025, 10, 13, 0, 0)));
+    }
+
+    @Test
+    public void parse_dateTimes_returnsListConsultationCommand() {
+        assertParseSuccess(parser, " from/20251006 1400 to/20251006 1600", new ListConsultationCommand(
+                LocalDateTime.of(2025, 10, 6, 14, 0), LocalDateTime.of(2025, 10, 6, 16, 0)));
+        assertParseSuccess(parser, " from/20251006 1400",
+                new ListConsultationCommand(LocalDateTime.of(2025, 10, 6, 14, 0), LocalDateTime.MAX));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " week",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ListConsultationCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " from/20251012 to/20251006", ListConsultationCommandParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " from/20251006 1400 to/20251006 1400",
+                ListConsultationCommandParser.MESSAGE_INVALID_RANGE);
+        assertParseFailure(parser, " from/20250231", "Invalid date. Please ensure the date exists!");
+    }
+}
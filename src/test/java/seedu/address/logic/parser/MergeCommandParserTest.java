@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.MergeCommand;
+
+public class MergeCommandParserTest {
+
+    private final MergeCommandParser parser = new MergeCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsMergeCommand() {
+        assertParseSuccess(parser, " f/ta2.json", new MergeCommand(List.of(Path.of("ta2.json")), Optional.empty()));
+        assertParseSuccess(parser, " f/ta2.json f/data/ta3.json base/start.json",
+                new MergeCommand(List.of(Path.of("ta2.json"), Path.of("data/ta3.json")),
+                        Optional.of(Path.of("start.json"))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MergeCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", invalidFormat);
+        assertParseFailure(parser, " base/start.json", invalidFormat);
+        assertParseFailure(parser, "ta2.json", invalidFormat);
+        assertParseFailure(parser, " f/ ", String.format(ParserUtil.MESSAGE_INVALID_FILE_PATH, ""));
+        assertParseFailure(parser, " f/ta2.json base/a.json base/b.json",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_BASE));
+    }
+}
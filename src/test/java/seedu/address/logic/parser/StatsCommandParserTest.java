@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.model.person.GroupId;
+
+public class StatsCommandParserTest {
+
+    private final StatsCommandParser parser = new StatsCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsAllGroupsCommand() {
+        assertParseSuccess(parser, "", new StatsCommand());
+        assertParseSuccess(parser, "   ", new StatsCommand());
+    }
+
+    @Test
+    public void parse_validGroup_returnsGroupCommand() {
+        assertParseSuccess(parser, " g/T01", new StatsCommand(new GroupId("T01")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "T01",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " g/X01", GroupId.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " g/T01 g/T02",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_GROUP));
+    }
+}
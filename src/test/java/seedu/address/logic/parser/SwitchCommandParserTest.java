@@ -0,0 +1,37 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SwitchCommand;
+
+public class SwitchCommandParserTest {
+
+    private final SwitchCommandParser parser = new SwitchCommandParser();
+
+    @Test
+    public void parse_noArgs_returnsListCommand() {
+        assertParseSuccess(parser, "  ", new SwitchCommand());
+    }
+
+    @Test
+    public void parse_validArgs_returnsSwitchCommand() {
+        assertParseSuccess(parser, " CS2040S", new SwitchCommand("CS2040S", Optional.empty()));
+        assertParseSuccess(parser, " CS2040S f/data/algo.json",
+                new SwitchCommand("CS2040S", Optional.of(Path.of("data/algo.json"))));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " CS 2040S", SwitchCommand.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " CS2040S!", SwitchCommand.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " f/data/algo.json",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, SwitchCommand.MESSAGE_USAGE));
+    }
+}
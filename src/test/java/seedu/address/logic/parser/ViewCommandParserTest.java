@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.ViewCommand;
+import seedu.address.logic.commands.ViewCommand.ViewMode;
+
+public class ViewCommandParserTest {
+
+    private final ViewCommandParser parser = new ViewCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsViewCommand() {
+        assertParseSuccess(parser, " table", new ViewCommand(ViewMode.TABLE));
+        assertParseSuccess(parser, " CARDS ", new ViewCommand(ViewMode.CARDS));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, ViewCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, " grid", expectedMessage);
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.performance;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class CommandLatencyRecorderTest {
+
+    private final CommandLatencyRecorder recorder = new CommandLatencyRecorder();
+
+    @Test
+    public void record_newCommandWord_createsHistograms() {
+        recorder.record("list", CommandPhase.EXECUTE, 2_000_000);
+        assertEquals(1, recorder.getHistogram("list", CommandPhase.EXECUTE).get().getCount());
+        assertEquals(0, recorder.getHistogram("list", CommandPhase.PARSE).get().getCount());
+        assertTrue(recorder.getHistogram("add", CommandPhase.EXECUTE).isEmpty());
+    }
+
+    @Test
+    public void getSummary_onlyTimedPhases() {
+        recorder.record("list", CommandPhase.EXECUTE, 2_000_000);
+        recorder.record("add", CommandPhase.SAVE, 1_000_000);
+        assertArrayEquals(new String[] {"add", "list"}, recorder.getCommandWords());
+        assertArrayEquals(new String[] {
+            String.format(CommandLatencyRecorder.SUMMARY_FORMAT, "add", CommandPhase.SAVE, 1, 1.0, 1.0, 1.0),
+            String.format(CommandLatencyRecorder.SUMMARY_FORMAT, "list", CommandPhase.EXECUTE, 1, 2.0, 2.0, 2.0)
+        }, recorder.getSummary());
+    }
+
+    @Test
+    public void getMillisAtPercentile() {
+        recorder.record("list", CommandPhase.PARSE, 3_000_000);
+        assertEquals(3.0, recorder.getMillisAtPercentile("list", "parse", 50));
+        assertEquals(0.0, recorder.getMillisAtPercentile("add", "parse", 50));
+        assertThrows(IllegalArgumentException.class, () -> recorder.getMillisAtPercentile("list", "render", 50));
+    }
+
+    @Test
+    public void reset_forgetsCommandWords() {
+        recorder.record("list", CommandPhase.PARSE, 1);
+        recorder.reset();
+        assertEquals(0, recorder.getCommandWords().length);
+        assertEquals(0, recorder.getSummary().length);
+    }
+
+    @Test
+    public void getSummary_concurrentReset_doesNotThrow() throws InterruptedException {
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 10_000; i++) {
+                recorder.record("list", CommandPhase.PARSE, i);
+                recorder.reset();
+            }
+        });
+        writer.start();
+        while (writer.isAlive()) {
+            for (String line : recorder.getSummary()) {
+                assertTrue(line.startsWith("list"));
+            }
+        }
+        writer.join();
+    }
+}
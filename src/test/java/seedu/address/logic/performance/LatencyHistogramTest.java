@@ -0,0 +1,102 @@
+package seedu.address.logic.performance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void getValueAtPercentile_empty_returnsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMaxNanos());
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 10; i++) {
+            histogram.record(i);
+        }
+        assertEquals(5, histogram.getValueAtPercentile(50));
+        assertEquals(10, histogram.getValueAtPercentile(99));
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(10, histogram.getMaxNanos());
+    }
+
+    @Test
+    public void getValueAtPercentile_largeValues_withinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000_000);
+        }
+        assertWithinRelativeError(500_000_000, histogram.getValueAtPercentile(50));
+        assertWithinRelativeError(990_000_000, histogram.getValueAtPercentile(99));
+        assertEquals(1_000_000_000, histogram.getMaxNanos());
+        assertEquals(1000.0, histogram.getMaxMillis());
+    }
+
+    @Test
+    public void record_negativeValue_recordedAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void record_concurrentThreads_countsEverySample() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(40_000, histogram.getCount());
+        assertEquals(9_999, histogram.getMaxNanos());
+    }
+
+    @Test
+    public void reset_clearsSamples() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(100);
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+    }
+
+    @Test
+    public void getValueAtPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(-1));
+    }
+
+    @Test
+    public void bucketIndex_upperBoundOfEveryBucketMapsBack() {
+        for (long value : new long[] {0, 1, 31, 32, 33, 63, 64, 65, 1000, 123_456_789, 1L << 40}) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(LatencyHistogram.bucketUpperBound(index) >= value);
+            assertEquals(index, LatencyHistogram.bucketIndex(LatencyHistogram.bucketUpperBound(index)));
+        }
+    }
+
+    private static void assertWithinRelativeError(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 32, "expected ~" + expected + " but was " + actual);
+    }
+}
@@ -8,19 +8,26 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NUSNETID_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.event.Consultation;
+import seedu.address.model.person.AttendanceSheet;
+import seedu.address.model.person.AttendanceStatus;
 import seedu.address.model.person.GroupId;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
@@ -131,6 +138,53 @@ public class AddressBookTest {
         assertEquals("E2222222", stored.getConsultation().get().getNusnetid().value);
     }
 
+    @Test
+    public void applyDifferences_changedData_changesOnlyDifferentEntries() {
+        // a new person, as the attendance sheets of the typical persons are shared between tests
+        Person unmarkedPerson = new PersonBuilder().withName("Zoe Tan").withNusnetid("E7654321")
+                .withTelegram("@zoetan").withPhone("81234567").withEmail("zoe@u.nus.edu").withGroup("T01").build();
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.addPerson(unmarkedPerson);
+        addressBook.updateGroupWhenAddPerson(unmarkedPerson);
+        AddressBook newData = getTypicalAddressBook();
+        newData.addPerson(unmarkedPerson);
+        newData.updateGroupWhenAddPerson(unmarkedPerson);
+        Person movedAlice = new PersonBuilder(ALICE).withGroup("T09").build();
+        newData.removePersonFromExistingGroup(ALICE);
+        newData.setPerson(ALICE, movedAlice);
+        newData.updateGroupWhenAddPerson(movedAlice);
+        newData.removePersonFromExistingGroup(BENSON);
+        newData.removePerson(BENSON);
+        AttendanceSheet attendanceSheet = new AttendanceSheet();
+        attendanceSheet.markAttendance(3, AttendanceStatus.PRESENT);
+        Person markedPerson = new PersonBuilder(unmarkedPerson).withAttendanceSheet(attendanceSheet).build();
+        newData.setPerson(unmarkedPerson, markedPerson);
+        newData.addPerson(AMY);
+        newData.updateGroupWhenAddPerson(AMY);
+        Consultation consultation = new Consultation(AMY.getNusnetid(), LocalDateTime.of(2025, 1, 1, 10, 0),
+                LocalDateTime.of(2025, 1, 1, 11, 0));
+        newData.addConsultation(consultation);
+
+        List<Person> replacedPersons = new ArrayList<>();
+        addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                replacedPersons.addAll(change.getRemoved());
+            }
+        });
+        // Alice, Benson, the marked person, Amy, the consultation and group T09
+        assertEquals(6, addressBook.applyDifferences(newData));
+
+        assertEquals(new HashSet<>(newData.getPersonList()), new HashSet<>(addressBook.getPersonList()));
+        assertEquals(List.of(ALICE, BENSON, unmarkedPerson), replacedPersons);
+        assertEquals(List.of(consultation), addressBook.getConsultationList());
+        assertTrue(addressBook.getGroup(new GroupId("T09")).hasStudent(ALICE.getNusnetid()));
+        assertFalse(addressBook.getGroup(BENSON.getGroupId()).hasStudent(BENSON.getNusnetid()));
+        assertTrue(addressBook.getGroup(AMY.getGroupId()).hasStudent(AMY.getNusnetid()));
+
+        // nothing differs any more
+        assertEquals(0, addressBook.applyDifferences(newData));
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
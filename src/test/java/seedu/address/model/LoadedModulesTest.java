@@ -0,0 +1,103 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class LoadedModulesTest {
+
+    private final AddressBook first = new AddressBook();
+    private final AddressBook second = new AddressBook();
+    private final AddressBook third = new AddressBook();
+
+    @TempDir
+    public Path testFolder;
+
+    private Path firstFile;
+    private Path secondFile;
+    private Path thirdFile;
+
+    @BeforeEach
+    public void setUp() {
+        firstFile = testFolder.resolve("CS1231S.json");
+        secondFile = testFolder.resolve("CS2040S.json");
+        thirdFile = testFolder.resolve("CS2103T.json");
+    }
+
+    @Test
+    public void put_overCapacity_leastRecentlyUsedEvicted() {
+        LoadedModules loadedModules = new LoadedModules(2);
+        loadedModules.put("CS1231S", first, firstFile);
+        loadedModules.put("CS2040S", second, secondFile);
+        // using CS1231S makes CS2040S the least recently used
+        assertEquals(Optional.of(first), loadedModules.get("CS1231S"));
+        loadedModules.put("CS2103T", third, thirdFile);
+
+        assertEquals(List.of("CS1231S", "CS2103T"), loadedModules.getModules());
+        assertTrue(loadedModules.get("CS2040S").isEmpty());
+    }
+
+    @Test
+    public void setCapacity_smallerCapacity_evictsExcess() {
+        LoadedModules loadedModules = new LoadedModules(3);
+        loadedModules.put("CS1231S", first, firstFile);
+        loadedModules.put("CS2040S", second, secondFile);
+        loadedModules.put("CS2103T", third, thirdFile);
+
+        loadedModules.setCapacity(1);
+        assertEquals(List.of("CS2103T"), loadedModules.getModules());
+        loadedModules.setCapacity(0);
+        assertEquals(List.of(), loadedModules.getModules());
+        assertThrows(IllegalArgumentException.class, () -> loadedModules.setCapacity(-1));
+    }
+
+    @Test
+    public void get_dataFileChanged_notReturned() throws Exception {
+        Files.writeString(firstFile, "{}");
+        Files.writeString(secondFile, "{}");
+        LoadedModules loadedModules = new LoadedModules(3);
+        loadedModules.put("CS1231S", first, firstFile);
+        loadedModules.put("CS2040S", second, secondFile);
+        loadedModules.put("CS2103T", third, thirdFile);
+
+        // written with a different size, touched to a different time, and created
+        Files.writeString(firstFile, "{\"persons\": []}");
+        Files.setLastModifiedTime(secondFile, FileTime.fromMillis(0));
+        Files.writeString(thirdFile, "{}");
+
+        assertTrue(loadedModules.get("CS1231S").isEmpty());
+        assertTrue(loadedModules.get("CS2040S").isEmpty());
+        assertTrue(loadedModules.get("CS2103T").isEmpty());
+        assertEquals(List.of(), loadedModules.getModules());
+    }
+
+    @Test
+    public void get_dataFileUnchanged_returned() throws Exception {
+        Files.writeString(firstFile, "{}");
+        LoadedModules loadedModules = new LoadedModules(2);
+        loadedModules.put("CS1231S", first, firstFile);
+        loadedModules.put("CS2040S", second, secondFile);
+
+        assertEquals(Optional.of(first), loadedModules.get("CS1231S"));
+        assertEquals(Optional.of(second), loadedModules.get("CS2040S"));
+    }
+
+    @Test
+    public void remove_loadedModule_removed() {
+        LoadedModules loadedModules = new LoadedModules(2);
+        loadedModules.put("CS1231S", first, firstFile);
+        loadedModules.remove("CS1231S");
+        loadedModules.remove("CS2040S");
+        assertTrue(loadedModules.getModules().isEmpty());
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -10,15 +11,22 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.GroupId;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Nusnetid;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
 
 public class ModelManagerTest {
 
@@ -96,6 +104,156 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void commitAddressBook_personAdded_publishesNewSnapshot() {
+        AddressBookSnapshot initial = modelManager.getAddressBookSnapshot();
+        modelManager.addPerson(ALICE);
+        // changes are not visible until they are committed
+        assertSame(initial, modelManager.getAddressBookSnapshot());
+
+        modelManager.commitAddressBook();
+        AddressBookSnapshot committed = modelManager.getAddressBookSnapshot();
+        assertEquals(initial.getVersion() + 1, committed.getVersion());
+        assertEquals(List.of(ALICE), committed.getPersonList());
+        assertEquals(List.of(), initial.getPersonList());
+    }
+
+    @Test
+    public void commitAddressBook_noChanges_keepsSnapshot() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        AddressBookSnapshot committed = modelManager.getAddressBookSnapshot();
+        modelManager.commitAddressBook();
+        assertSame(committed, modelManager.getAddressBookSnapshot());
+    }
+
+    @Test
+    public void getAddressBookSnapshot_personEditedAfterCommit_snapshotUnchanged() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+        AddressBookSnapshot committed = modelManager.getAddressBookSnapshot();
+
+        Person editedAlice = new PersonBuilder(ALICE).withName("Alice Tan").build();
+        modelManager.setPerson(ALICE, editedAlice);
+        modelManager.deletePerson(BENSON);
+        assertEquals(List.of(ALICE, BENSON), committed.getPersonList());
+
+        modelManager.commitAddressBook();
+        assertEquals(List.of(editedAlice), modelManager.getAddressBookSnapshot().getPersonList());
+    }
+
+    @Test
+    public void undoAddressBook_nothingCommitted_throwsIllegalStateException() {
+        assertFalse(modelManager.canUndoAddressBook());
+        assertFalse(modelManager.canRedoAddressBook());
+        assertThrows(IllegalStateException.class, () -> modelManager.undoAddressBook());
+        assertThrows(IllegalStateException.class, () -> modelManager.redoAddressBook());
+    }
+
+    @Test
+    public void undoRedoAddressBook_studentMovedAndDeleted_restoresPersonsAndGroups() throws Exception {
+        modelManager.addPerson(ALICE);
+        modelManager.updateGroupWhenAddPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.updateGroupWhenAddPerson(BENSON);
+        modelManager.commitAddressBook();
+        AddressBookSnapshot beforeChange = modelManager.getAddressBookSnapshot();
+
+        modelManager.moveStudentToNewGroup(ALICE, new GroupId("T02"));
+        modelManager.deletePerson(BENSON);
+        modelManager.getGroup(BENSON.getGroupId()).removeStudent(BENSON.getNusnetid());
+        modelManager.commitAddressBook();
+        List<Person> changedPersons = List.copyOf(modelManager.getAddressBook().getPersonList());
+        AddressBookSnapshot afterChange = modelManager.getAddressBookSnapshot();
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+        assertEquals(List.of(ALICE, BENSON), modelManager.getGroup(new GroupId("T01")).getAllPersons());
+        assertFalse(modelManager.hasGroup(new GroupId("T02")));
+        assertTrue(modelManager.getAddressBookSnapshot().getVersion() > afterChange.getVersion());
+        assertEquals(beforeChange.getPersonList(), modelManager.getAddressBookSnapshot().getPersonList());
+        assertTrue(modelManager.canRedoAddressBook());
+
+        modelManager.redoAddressBook();
+        assertEquals(changedPersons, modelManager.getAddressBook().getPersonList());
+        assertEquals(changedPersons, modelManager.getGroup(new GroupId("T02")).getAllPersons());
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void commitAddressBook_afterUndo_clearsRedoHistory() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.undoAddressBook();
+        assertEquals(List.of(), modelManager.getAddressBook().getPersonList());
+
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+        assertFalse(modelManager.canRedoAddressBook());
+    }
+
+    @Test
+    public void undoAddressBook_historyDeeperThanLimit_keepsLatestVersions() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setUndoHistoryDepth(1);
+        modelManager.setUserPrefs(userPrefs);
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+        assertFalse(modelManager.canUndoAddressBook());
+    }
+
+    @Test
+    public void updateFilteredConsultationList_timeRange_followsChanges() {
+        LocalDateTime monday = LocalDateTime.of(2025, 10, 6, 0, 0);
+        Consultation inRange = new Consultation(ALICE.getNusnetid(), monday.plusHours(14), monday.plusHours(15));
+        Consultation earlier = new Consultation(BENSON.getNusnetid(), monday.plusHours(9), monday.plusHours(10));
+        Consultation outOfRange = new Consultation(BENSON.getNusnetid(), monday.plusDays(1), monday.plusDays(1)
+                .plusHours(1));
+        modelManager.addConsultation(inRange);
+        modelManager.addConsultation(outOfRange);
+        modelManager.commitAddressBook();
+        modelManager.addConsultation(earlier);
+        modelManager.commitAddressBook();
+        modelManager.updateFilteredConsultationList(monday, monday.plusDays(1));
+        assertEquals(List.of(earlier, inRange), modelManager.getFilteredConsultationList());
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(inRange), modelManager.getFilteredConsultationList());
+        modelManager.redoAddressBook();
+        assertEquals(List.of(earlier, inRange), modelManager.getFilteredConsultationList());
+
+        modelManager.updateFilteredConsultationList(Model.PREDICATE_SHOW_ALL_CONSULTATIONS);
+        assertEquals(List.of(earlier, inRange, outOfRange), modelManager.getFilteredConsultationList());
+    }
+
+    @Test
+    public void getFilteredConsultationList_consultationAddedOrDeleted_singleChange() {
+        LocalDateTime monday = LocalDateTime.of(2025, 10, 6, 9, 0);
+        Consultation first = new Consultation(ALICE.getNusnetid(), monday, monday.plusHours(1));
+        Consultation last = new Consultation(ALICE.getNusnetid(), monday.plusHours(5), monday.plusHours(6));
+        Consultation middle = new Consultation(BENSON.getNusnetid(), monday.plusHours(2), monday.plusHours(3));
+        modelManager.addConsultation(first);
+        modelManager.addConsultation(last);
+        List<String> changes = new ArrayList<>();
+        modelManager.getFilteredConsultationList().addListener((ListChangeListener<Consultation>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + " +" + change.getAddedSize() + " -" + change.getRemovedSize());
+            }
+        });
+
+        modelManager.addConsultation(middle);
+        modelManager.deleteConsultation(first);
+
+        assertEquals(List.of("1 +1 -0", "0 +0 -1"), changes);
+        assertEquals(List.of(middle, last), modelManager.getFilteredConsultationList());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -137,4 +295,5 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookFilePath(Paths.get("differentFilePath"));
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
 }
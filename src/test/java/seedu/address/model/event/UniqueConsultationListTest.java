@@ -0,0 +1,82 @@
+package seedu.address.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.util.ChunkedSnapshotList;
+import seedu.address.model.event.exceptions.DuplicateConsultationException;
+import seedu.address.model.person.Nusnetid;
+
+public class UniqueConsultationListTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2025, 10, 6, 0, 0);
+
+    private static final Consultation MORNING = consultation("E1234567", MONDAY.plusHours(9), MONDAY.plusHours(10));
+    private static final Consultation AFTERNOON =
+            consultation("E1234568", MONDAY.plusHours(14), MONDAY.plusHours(15));
+    private static final Consultation OVERNIGHT =
+            consultation("E1234569", MONDAY.plusHours(23), MONDAY.plusDays(1).plusHours(1));
+    private static final Consultation NEXT_WEEK = consultation("E1234560", MONDAY.plusDays(7).plusHours(9),
+            MONDAY.plusDays(7).plusHours(10));
+
+    private final UniqueConsultationList list = new UniqueConsultationList();
+
+    @Test
+    public void contains_sameTimesDifferentStudent_returnsTrue() {
+        list.add(MORNING);
+        assertTrue(list.contains(consultation("E7654321", MORNING.getFrom(), MORNING.getTo())));
+        assertFalse(list.contains(consultation("E1234567", MORNING.getFrom(), MORNING.getTo().plusMinutes(1))));
+        assertThrows(DuplicateConsultationException.class, () -> list.add(
+                consultation("E7654321", MORNING.getFrom(), MORNING.getTo())));
+    }
+
+    @Test
+    public void hasOverlappingConsultation_consultationStartedEarlier_returnsTrue() {
+        list.setConsultations(List.of(OVERNIGHT, MORNING));
+        Consultation earlyTuesday =
+                consultation("E7654321", MONDAY.plusDays(1), MONDAY.plusDays(1).plusMinutes(30));
+        assertTrue(list.hasOverlappingConsultation(earlyTuesday));
+        assertFalse(list.hasOverlappingConsultation(consultation("E7654321", MORNING.getTo(), AFTERNOON.getFrom())));
+    }
+
+    @Test
+    public void getConsultationsBetween_range_consultationsInTimeOrder() {
+        list.setConsultations(List.of(NEXT_WEEK, OVERNIGHT, AFTERNOON, MORNING));
+
+        assertEquals(List.of(MORNING, AFTERNOON, OVERNIGHT), list.getConsultationsBetween(MONDAY, MONDAY.plusDays(1)));
+        // a consultation that started the day before is still part of the next day
+        assertEquals(List.of(OVERNIGHT), list.getConsultationsBetween(MONDAY.plusDays(1), MONDAY.plusDays(2)));
+        assertEquals(List.of(MORNING, AFTERNOON, OVERNIGHT, NEXT_WEEK),
+                list.getConsultationsBetween(LocalDateTime.MIN, LocalDateTime.MAX));
+        assertEquals(List.of(), list.getConsultationsBetween(MORNING.getTo(), AFTERNOON.getFrom()));
+        assertEquals(List.of(), list.getConsultationsBetween(MONDAY.plusDays(1), MONDAY));
+    }
+
+    @Test
+    public void getConsultationsBetween_afterChanges_indexFollowsList() {
+        list.add(MORNING);
+        list.add(AFTERNOON);
+        ChunkedSnapshotList<Consultation> earlier =
+                ChunkedSnapshotList.copyOf(list.asUnmodifiableObservableList(), ChunkedSnapshotList.empty());
+        list.remove(MORNING);
+        list.setConsultation(AFTERNOON, NEXT_WEEK);
+        assertEquals(List.of(), list.getConsultationsBetween(MONDAY, MONDAY.plusDays(1)));
+
+        ChunkedSnapshotList<Consultation> current =
+                ChunkedSnapshotList.copyOf(list.asUnmodifiableObservableList(), earlier);
+        list.restore(earlier, current);
+        assertEquals(List.of(MORNING, AFTERNOON), list.getConsultationsBetween(MONDAY, MONDAY.plusDays(1)));
+        assertEquals(List.of(), list.getConsultationsBetween(NEXT_WEEK.getFrom(), NEXT_WEEK.getTo()));
+    }
+
+    private static Consultation consultation(String nusnetid, LocalDateTime from, LocalDateTime to) {
+        return new Consultation(new Nusnetid(nusnetid), from, to);
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model.statistics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.Person;
+
+public class RosterStatisticsTest {
+
+    private static final GroupId T01 = new GroupId("T01");
+
+    @Test
+    public void getGroupStatistics_typicalAddressBook_countsStudents() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        GroupStatistics statistics = model.getGroupStatistics(T01).get();
+        assertEquals(2, statistics.getStudentCount());
+        assertEquals(0, statistics.getMarkedAttendanceCount());
+        assertFalse(model.getGroupStatistics(new GroupId("T99")).isPresent());
+    }
+
+    @Test
+    public void markAttendance_updatesCountersIncrementally() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.markAttendance(ALICE.getNusnetid(), 3, AttendanceStatus.PRESENT);
+        model.markAttendance(BENSON.getNusnetid(), 3, AttendanceStatus.ABSENT);
+
+        GroupStatistics statistics = model.getGroupStatistics(T01).get();
+        assertEquals(1, statistics.getAttendanceCount(3, AttendanceStatus.PRESENT));
+        assertEquals(1, statistics.getAttendanceCount(3, AttendanceStatus.ABSENT));
+        assertEquals(50.0, statistics.getAttendanceRate());
+
+        // re-marking the same week replaces the old record instead of adding another
+        model.markAttendance(BENSON.getNusnetid(), 3, AttendanceStatus.PRESENT);
+        statistics = model.getGroupStatistics(T01).get();
+        assertEquals(2, statistics.getAttendanceCount(3, AttendanceStatus.PRESENT));
+        assertEquals(0, statistics.getAttendanceCount(3, AttendanceStatus.ABSENT));
+        assertEquals(100.0, statistics.getAttendanceRate());
+    }
+
+    @Test
+    public void setPerson_homeworkChanged_updatesCompletionRate() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setPerson(ALICE, ALICE.withAddedHomework(1).withUpdatedHomework(1, "late"));
+        model.setPerson(BENSON, BENSON.withAddedHomework(1));
+
+        GroupStatistics statistics = model.getGroupStatistics(T01).get();
+        assertEquals(2, statistics.getAssignedHomeworkCount(1));
+        assertEquals(1, statistics.getHomeworkCount(1, "incomplete"));
+        assertEquals(50.0, statistics.getCompletionRate(1));
+        assertEquals(0, statistics.getAssignedHomeworkCount(2));
+    }
+
+    @Test
+    public void deletePerson_removesCounters() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.deletePerson(ALICE);
+        assertEquals(1, model.getGroupStatistics(T01).get().getStudentCount());
+
+        model.deletePerson(BENSON);
+        assertFalse(model.getGroupStatistics(T01).isPresent());
+    }
+
+    @Test
+    public void setAddressBook_recountsEverything() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setAddressBook(new AddressBook());
+        assertFalse(model.getGroupStatistics(T01).isPresent());
+
+        model.setAddressBook(getTypicalAddressBook());
+        assertTrue(model.getGroupStatistics(T01).isPresent());
+        Person alice = model.findPerson(ALICE.getNusnetid());
+        assertEquals(T01, alice.getGroupId());
+    }
+}
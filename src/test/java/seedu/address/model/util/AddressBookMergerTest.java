@@ -0,0 +1,152 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.AttendanceSheet;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.GroupId;
+import seedu.address.model.person.Homework;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Nusnetid;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.util.AddressBookMerger.MergeResult;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookMergerTest {
+
+    private static final String ALICE_ID = "E1234567";
+    private static final String BENSON_ID = "E1234568";
+
+    @Test
+    public void merge_noAncestor_unionOfStudentsAndAttendance() {
+        AddressBook first = addressBookOf(alice().withAttendanceSheet(attendance(2, AttendanceStatus.PRESENT)).build());
+        AddressBook second = addressBookOf(
+                alice().withName("Alicia Pauline").withAttendanceSheet(attendance(3, AttendanceStatus.ABSENT)).build(),
+                benson().build());
+
+        MergeResult result = AddressBookMerger.merge(List.of(first, second), Optional.empty());
+
+        AddressBook merged = result.getAddressBook();
+        assertEquals(2, merged.getPersonList().size());
+        Person alice = merged.getPerson(new Nusnetid(ALICE_ID));
+        assertEquals("Alicia Pauline", alice.getName().fullName);
+        assertEquals(AttendanceStatus.PRESENT,
+                alice.getAttendanceSheet().getAttendanceForWeek(2).get().getAttendanceStatus());
+        assertEquals(AttendanceStatus.ABSENT,
+                alice.getAttendanceSheet().getAttendanceForWeek(3).get().getAttendanceStatus());
+        assertEquals(1, result.getConflicts().size());
+        assertEquals(2, merged.getGroup(new GroupId("T01")).getAllPersons().size());
+    }
+
+    @Test
+    public void merge_withAncestor_onlyChangesMerged() {
+        AddressBook ancestor = addressBookOf(alice().withAddedHomework(1).build(), benson().build());
+        AddressBook first = addressBookOf(alice().withHomeworkTracker(homework(1, Homework.STATUS_COMPLETE)).build(),
+                benson().build());
+        AddressBook second = addressBookOf(alice().withName("Alicia Pauline").withAddedHomework(1).build());
+
+        MergeResult result = AddressBookMerger.merge(List.of(first, second), Optional.of(ancestor));
+
+        AddressBook merged = result.getAddressBook();
+        assertEquals(1, merged.getPersonList().size());
+        Person alice = merged.getPerson(new Nusnetid(ALICE_ID));
+        assertEquals("Alicia Pauline", alice.getName().fullName);
+        assertEquals(Homework.STATUS_COMPLETE, alice.getHomeworkTracker().getStatus(1));
+        assertTrue(result.getConflicts().isEmpty());
+    }
+
+    @Test
+    public void merge_conflictingChanges_resolvedByPriority() {
+        AddressBook ancestor = addressBookOf(alice().build());
+        AddressBook first = addressBookOf(alice().withAttendanceSheet(attendance(2, AttendanceStatus.ABSENT))
+                .withHomeworkTracker(homework(1, Homework.STATUS_COMPLETE)).build());
+        AddressBook second = addressBookOf(alice().withAttendanceSheet(attendance(2, AttendanceStatus.PRESENT))
+                .withHomeworkTracker(homework(1, Homework.STATUS_LATE)).build());
+
+        MergeResult result = AddressBookMerger.merge(List.of(first, second), Optional.of(ancestor));
+
+        Person alice = result.getAddressBook().getPerson(new Nusnetid(ALICE_ID));
+        assertEquals(AttendanceStatus.PRESENT,
+                alice.getAttendanceSheet().getAttendanceForWeek(2).get().getAttendanceStatus());
+        assertEquals(Homework.STATUS_COMPLETE, alice.getHomeworkTracker().getStatus(1));
+        assertEquals(2, result.getConflicts().size());
+    }
+
+    @Test
+    public void merge_removedInOneChangedInAnother_kept() {
+        AddressBook ancestor = addressBookOf(alice().build(), benson().build());
+        AddressBook first = addressBookOf(alice().build());
+        AddressBook second = addressBookOf(alice().build(), benson().withPhone("91112222").build());
+        // a file without the student's group has no say on whether the student stays
+        AddressBook third = addressBookOf(alice().withGroup("T02").build());
+
+        MergeResult result = AddressBookMerger.merge(List.of(first, second), Optional.of(ancestor));
+        Person benson = result.getAddressBook().getPerson(new Nusnetid(BENSON_ID));
+        assertEquals(Optional.of(new Phone("91112222")), benson.getPhone());
+        assertEquals(1, result.getConflicts().size());
+
+        ancestor = addressBookOf(alice().build(), benson().withGroup("T02").build());
+        result = AddressBookMerger.merge(List.of(first), Optional.of(ancestor));
+        assertTrue(result.getAddressBook().hasPerson(new Nusnetid(BENSON_ID)));
+        result = AddressBookMerger.merge(List.of(third), Optional.of(ancestor));
+        assertFalse(result.getAddressBook().hasPerson(new Nusnetid(BENSON_ID)));
+    }
+
+    @Test
+    public void merge_overlappingConsultations_laterRemoved() {
+        LocalDateTime start = LocalDateTime.of(2025, 10, 1, 14, 0);
+        AddressBook first = addressBookOf(alice().build()
+                .addConsultation(new Consultation(new Nusnetid(ALICE_ID), start, start.plusHours(1))));
+        AddressBook second = addressBookOf(benson().build().addConsultation(
+                new Consultation(new Nusnetid(BENSON_ID), start.plusMinutes(30), start.plusHours(2))));
+
+        MergeResult result = AddressBookMerger.merge(List.of(first, second), Optional.empty());
+
+        AddressBook merged = result.getAddressBook();
+        assertEquals(1, merged.getConsultationList().size());
+        assertTrue(merged.getPerson(new Nusnetid(ALICE_ID)).hasConsultation());
+        assertFalse(merged.getPerson(new Nusnetid(BENSON_ID)).hasConsultation());
+        assertEquals(1, result.getConflicts().size());
+    }
+
+    private static PersonBuilder alice() {
+        return new PersonBuilder().withName("Alice Pauline").withNusnetid(ALICE_ID).withEmail("alice@u.nus.edu")
+                .withPhone("94351253").withTelegram("@alicece").withGroup("T01")
+                .withAttendanceSheet(new AttendanceSheet());
+    }
+
+    private static PersonBuilder benson() {
+        return new PersonBuilder().withName("Benson Meier").withNusnetid(BENSON_ID).withEmail("johnd@u.nus.edu")
+                .withPhone("98765432").withTelegram("@benson").withGroup("T01")
+                .withAttendanceSheet(new AttendanceSheet());
+    }
+
+    private static AttendanceSheet attendance(int week, AttendanceStatus status) {
+        AttendanceSheet sheet = new AttendanceSheet();
+        sheet.markAttendance(week, status);
+        return sheet;
+    }
+
+    private static HomeworkTracker homework(int assignmentId, String status) {
+        return new HomeworkTracker().addHomework(assignmentId).updateStatus(assignmentId, status);
+    }
+
+    private static AddressBook addressBookOf(Person... persons) {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,123 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.Attendance;
+import seedu.address.model.person.HomeworkTracker;
+import seedu.address.model.person.Person;
+
+public class SyntheticDataGeneratorTest {
+
+    @Test
+    public void generatePersons_sameSeed_sameStudents() {
+        assertEquals(new SyntheticDataGenerator(1).generatePersons(50),
+                new SyntheticDataGenerator(1).generatePersons(50));
+    }
+
+    @Test
+    public void generatePersons_differentSeed_differentStudents() {
+        assertNotEquals(new SyntheticDataGenerator(1).generatePersons(50),
+                new SyntheticDataGenerator(2).generatePersons(50));
+    }
+
+    @Test
+    public void personIterator_sameStudentsAsGeneratePersons() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(3);
+        List<Person> iterated = new ArrayList<>();
+        Iterator<Person> iterator = generator.personIterator(20);
+        iterator.forEachRemaining(iterated::add);
+        assertEquals(generator.generatePersons(20), iterated);
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void generatePersons_attendanceAndHomeworkValid() {
+        for (Person person : new SyntheticDataGenerator(8).generatePersons(500)) {
+            for (Attendance attendance : person.getAttendanceSheet().getAttendanceList()) {
+                assertTrue(attendance.getWeek() >= 2 && attendance.getWeek() <= 13);
+            }
+            person.getHomeworkTracker().asMap().keySet()
+                    .forEach(id -> assertTrue(HomeworkTracker.isValidAssignmentId(id)));
+        }
+    }
+
+    @Test
+    public void generatePersons_consultationsDoNotOverlap() {
+        List<Consultation> consultations = new ArrayList<>();
+        new SyntheticDataGenerator(9).generatePersons(2000)
+                .forEach(person -> person.getConsultation().ifPresent(consultations::add));
+
+        assertTrue(consultations.size() > 100);
+        for (int i = 1; i < consultations.size(); i++) {
+            assertFalse(consultations.get(i).getFrom().isBefore(consultations.get(i - 1).getTo()));
+            assertEquals(consultations.get(i).getFrom().toLocalDate(), consultations.get(i).getTo().toLocalDate());
+        }
+    }
+
+    @Test
+    public void generatePersons_identifyingFieldsUnique() {
+        List<Person> persons = new SyntheticDataGenerator(4).generatePersons(5000);
+        Set<Object> nusnetids = new HashSet<>();
+        Set<Object> telegrams = new HashSet<>();
+        Set<Object> emails = new HashSet<>();
+        Set<Object> phones = new HashSet<>();
+        for (Person person : persons) {
+            nusnetids.add(person.getNusnetid());
+            telegrams.add(person.getTelegram());
+            emails.add(person.getEmail().get());
+            phones.add(person.getPhone().get());
+        }
+        assertEquals(persons.size(), nusnetids.size());
+        assertEquals(persons.size(), telegrams.size());
+        assertEquals(persons.size(), emails.size());
+        assertEquals(persons.size(), phones.size());
+    }
+
+    @Test
+    public void generateAddressBook_allStudentsAddedAndGrouped() {
+        AddressBook addressBook = new SyntheticDataGenerator(5).generateAddressBook(600);
+        assertEquals(600, addressBook.getPersonList().size());
+        assertEquals(SyntheticDataGenerator.getGroupCount(600), addressBook.getGroupList().size());
+        assertEquals(addressBook.getPersonList().stream().filter(person -> person.getConsultation().isPresent())
+                .count(), addressBook.getConsultationList().size());
+    }
+
+    @Test
+    public void getGroupCount() {
+        assertEquals(1, SyntheticDataGenerator.getGroupCount(0));
+        assertEquals(1, SyntheticDataGenerator.getGroupCount(12));
+        assertEquals(2, SyntheticDataGenerator.getGroupCount(13));
+        assertEquals(200, SyntheticDataGenerator.getGroupCount(1_000_000));
+    }
+
+    @Test
+    public void toGroupId() {
+        assertEquals("T01", SyntheticDataGenerator.toGroupId(0).toString());
+        assertEquals("T00", SyntheticDataGenerator.toGroupId(99).toString());
+        assertEquals("B01", SyntheticDataGenerator.toGroupId(100).toString());
+        assertEquals("B00", SyntheticDataGenerator.toGroupId(199).toString());
+    }
+
+    @Test
+    public void generatePersons_invalidCount_throwsIllegalArgumentException() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(6);
+        assertThrows(IllegalArgumentException.class, () -> generator.generatePersons(-1));
+        assertThrows(IllegalArgumentException.class, () ->
+                generator.generatePersons(SyntheticDataGenerator.MAX_STUDENTS + 1));
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.watchlist;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.Person;
+
+public class WatchlistTest {
+
+    @Test
+    public void constructor_typicalAddressBook_emptyWatchlist() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        assertTrue(model.getWatchlist().isEmpty());
+    }
+
+    @Test
+    public void markAttendance_reachesThreshold_addedToWatchlist() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.markAttendance(ALICE.getNusnetid(), 2, AttendanceStatus.ABSENT);
+        model.markAttendance(ALICE.getNusnetid(), 3, AttendanceStatus.ABSENT);
+        assertTrue(model.getWatchlist().isEmpty());
+
+        model.markAttendance(ALICE.getNusnetid(), 4, AttendanceStatus.ABSENT);
+        assertEquals(1, model.getWatchlist().size());
+        assertEquals(List.of(String.format(AbsenceRule.MESSAGE_REASON, 3)),
+                model.getWatchlist().get(0).getReasons());
+
+        // excusing one of the absences takes the student off the watchlist again
+        model.markAttendance(ALICE.getNusnetid(), 4, AttendanceStatus.EXCUSED);
+        assertTrue(model.getWatchlist().isEmpty());
+    }
+
+    @Test
+    public void setPerson_multipleRulesBroken_sortedBySeverity() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setPerson(BENSON, BENSON.withAddedHomework(1).withAddedHomework(2));
+        Person alice = ALICE;
+        for (int week = 2; week <= 4; week++) {
+            alice = model.markAttendance(ALICE.getNusnetid(), week, AttendanceStatus.ABSENT);
+        }
+        model.setPerson(alice, alice.withAddedHomework(1).withAddedHomework(2).withUpdatedHomework(2, "late"));
+
+        assertEquals(2, model.getWatchlist().size());
+        assertEquals(ALICE.getNusnetid(), model.getWatchlist().get(0).getPerson().getNusnetid());
+        assertEquals(2, model.getWatchlist().get(0).getSeverity());
+        assertEquals(BENSON.getNusnetid(), model.getWatchlist().get(1).getPerson().getNusnetid());
+    }
+
+    @Test
+    public void deletePerson_removedFromWatchlist() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person benson = BENSON.withAddedHomework(1).withAddedHomework(2);
+        model.setPerson(BENSON, benson);
+        assertEquals(1, model.getWatchlist().size());
+
+        model.deletePerson(benson);
+        assertTrue(model.getWatchlist().isEmpty());
+    }
+
+    @Test
+    public void setUserPrefs_lowerThreshold_reevaluatesEveryone() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        model.setPerson(BENSON, BENSON.withAddedHomework(1));
+        assertTrue(model.getWatchlist().isEmpty());
+
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setWatchlistHomeworkThreshold(1);
+        model.setUserPrefs(userPrefs);
+        assertEquals(1, model.getWatchlist().size());
+        assertFalse(model.getWatchlist().get(0).getReasons().isEmpty());
+    }
+
+    @Test
+    public void rules_invalidThreshold_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AbsenceRule(0));
+        assertThrows(IllegalArgumentException.class, () -> new HomeworkRule(-1));
+    }
+}
@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AddressBookFileWatcherTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void checkForChange_ownWrite_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        List<ReadOnlyAddressBook> changes = new ArrayList<>();
+        AddressBookFileWatcher watcher = new AddressBookFileWatcher(filePath, storage, changes::add);
+
+        // the file as it was when the watcher was created
+        assertFalse(watcher.checkForChange());
+
+        storage.saveAddressBook(new AddressBook());
+        watcher.recordOwnWrite();
+        assertFalse(watcher.checkForChange());
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void checkForChange_externalWrite_readsFileOnce() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(new AddressBook());
+        List<ReadOnlyAddressBook> changes = new ArrayList<>();
+        AddressBookFileWatcher watcher = new AddressBookFileWatcher(filePath, storage, changes::add);
+
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        assertTrue(watcher.checkForChange());
+        assertFalse(watcher.checkForChange());
+        assertEquals(1, changes.size());
+        assertEquals(getTypicalAddressBook().getPersonList(), changes.get(0).getPersonList());
+    }
+
+    @Test
+    public void checkForChange_invalidFile_ignored() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        List<ReadOnlyAddressBook> changes = new ArrayList<>();
+        AddressBookFileWatcher watcher = new AddressBookFileWatcher(filePath, storage, changes::add);
+
+        // missing file
+        assertFalse(watcher.checkForChange());
+
+        Files.writeString(filePath, "{ \"persons\": [ { \"name\": ");
+        assertFalse(watcher.checkForChange());
+        assertTrue(changes.isEmpty());
+    }
+
+    @Test
+    public void start_fileChangedExternally_callbackCalled() throws Exception {
+        Path filePath = testFolder.resolve("addressBook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        storage.saveAddressBook(new AddressBook());
+        BlockingQueue<ReadOnlyAddressBook> changes = new ArrayBlockingQueue<>(10);
+        AddressBookFileWatcher watcher = new AddressBookFileWatcher(filePath, storage, changes::add);
+        watcher.start();
+        try {
+            AddressBook changed = new AddressBook();
+            changed.addPerson(AMY);
+            new JsonAddressBookStorage(filePath).saveAddressBook(changed);
+
+            ReadOnlyAddressBook reloaded = changes.poll(10, TimeUnit.SECONDS);
+            assertNotNull(reloaded);
+            assertEquals(List.of(AMY), reloaded.getPersonList());
+        } finally {
+            watcher.stop();
+        }
+    }
+}
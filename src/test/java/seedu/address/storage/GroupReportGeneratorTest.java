@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.model.person.Person;
+
+public class GroupReportGeneratorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void generate_typicalAddressBook_oneFilePerGroup() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        List<Path> reports = new GroupReportGenerator(testFolder, new ForkJoinPool(4))
+                .generate(model.getGroupList(), model.getAddressBook().getPersonList());
+
+        assertEquals(model.getGroupList().size(), reports.size());
+        for (Path report : reports) {
+            assertTrue(Files.exists(report));
+        }
+        assertTrue(reports.contains(testFolder.resolve("T01" + GroupReportGenerator.FILE_EXTENSION)));
+    }
+
+    @Test
+    public void generate_markedRecords_writtenToGroupFile() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Person alice = model.markAttendance(ALICE.getNusnetid(), 3, AttendanceStatus.ABSENT);
+        model.setPerson(alice, alice.withAddedHomework(1).withUpdatedHomework(1, "late"));
+
+        new GroupReportGenerator(testFolder).generate(model.getGroupList(), model.getAddressBook().getPersonList());
+
+        List<String> lines = Files.readAllLines(testFolder.resolve("T01" + GroupReportGenerator.FILE_EXTENSION));
+        // header, ALICE, BENSON and the summary row
+        assertEquals(4, lines.size());
+        assertTrue(lines.get(0).startsWith("NUSNET ID,Name,Present,Absent,Excused,W2,W3"));
+        assertEquals(ALICE.getNusnetid().value + "," + ALICE.getName().fullName + ",0,1,0,,absent,,,,,,,,,,,late,,",
+                lines.get(1));
+        assertTrue(lines.get(3).startsWith("Total,2 students,0,1,0,"));
+        assertTrue(lines.get(3).endsWith(",1 done,0 done,0 done"));
+    }
+}
@@ -0,0 +1,47 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+public class JsonAddressBookStreamWriterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void write_nullPersons_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                JsonAddressBookStreamWriter.write(null, testFolder.resolve("addressbook.json")));
+    }
+
+    @Test
+    public void write_generatedPersons_sameFileAsStorage() throws Exception {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(7);
+        Path streamedFile = testFolder.resolve("streamed").resolve("addressbook.json");
+        Path savedFile = testFolder.resolve("saved.json");
+
+        assertEquals(300, JsonAddressBookStreamWriter.write(generator.personIterator(300), streamedFile));
+        AddressBook addressBook = generator.generateAddressBook(300);
+        new JsonAddressBookStorage(savedFile).saveAddressBook(addressBook);
+
+        assertEquals(Files.readString(savedFile), Files.readString(streamedFile));
+        assertEquals(addressBook, new JsonAddressBookStorage(streamedFile).readAddressBook().get());
+    }
+
+    @Test
+    public void write_noPersons_emptyAddressBook() throws Exception {
+        Path filePath = testFolder.resolve("empty.json");
+        assertEquals(0, JsonAddressBookStreamWriter.write(Collections.emptyIterator(), filePath));
+        assertEquals(new AddressBook(), new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+}
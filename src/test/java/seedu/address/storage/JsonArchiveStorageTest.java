@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermission;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.event.Consultation;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JsonArchiveStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getArchiveDirectory_namedAfterDataFile() {
+        assertEquals(Path.of("data", "CS2040S-archive"),
+                JsonArchiveStorage.getArchiveDirectory(Path.of("data", "CS2040S.json")));
+    }
+
+    @Test
+    public void archive_persons_readOnlyJsonLines() throws Exception {
+        JsonArchiveStorage storage = new JsonArchiveStorage(testFolder.resolve("archive"));
+        Consultation consultation = new Consultation(ALICE.getNusnetid(),
+                LocalDateTime.of(2025, 10, 1, 14, 0), LocalDateTime.of(2025, 10, 1, 15, 0));
+        Person alice = new PersonBuilder(ALICE).build().addConsultation(consultation);
+
+        storage.archive("AY2425S1", List.of(alice, BENSON));
+
+        Path archiveFile = storage.getArchiveFilePath("AY2425S1");
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+            assertFalse(Files.getPosixFilePermissions(archiveFile).contains(PosixFilePermission.OWNER_WRITE));
+        }
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(new GZIPInputStream(Files.newInputStream(archiveFile)), UTF_8))) {
+            assertEquals(2, reader.lines().count());
+        }
+        assertEquals(Optional.of("AY2425S1"), storage.findArchive("ay2425s1"));
+        assertEquals(Optional.empty(), storage.findArchive("AY2425S2"));
+
+        List<Person> found = new ArrayList<>();
+        storage.search(List.of("alice"), (semester, person) -> found.add(person));
+        assertEquals(List.of(alice), found);
+        assertTrue(found.get(0).hasSameData(alice));
+    }
+
+    @Test
+    public void archive_existingArchive_throwsIoException() throws Exception {
+        JsonArchiveStorage storage = new JsonArchiveStorage(testFolder.resolve("archive"));
+        storage.archive("AY2425S1", List.of(ALICE));
+        assertThrows(IOException.class, () -> storage.archive("AY2425S1", List.of(BENSON)));
+        assertEquals(Optional.of("AY2425S1"), storage.findArchive("AY2425S1"));
+    }
+
+    @Test
+    public void search_keywords_matchesNameWordsAndNusnetidsAcrossArchives() throws Exception {
+        JsonArchiveStorage storage = new JsonArchiveStorage(testFolder.resolve("archive"));
+        storage.archive("AY2425S1", List.of(ALICE, BENSON));
+        storage.archive("AY2425S2", List.of(CARL, DANIEL));
+
+        List<String> found = new ArrayList<>();
+        storage.search(List.of("MEIER", CARL.getNusnetid().value, "Pauli"),
+                (semester, person) -> found.add(semester + " " + person.getNusnetid()));
+
+        assertEquals(List.of("AY2425S1 " + BENSON.getNusnetid(), "AY2425S2 " + CARL.getNusnetid(),
+                "AY2425S2 " + DANIEL.getNusnetid()), found);
+    }
+
+    @Test
+    public void search_archiveWithoutKeyword_notRead() throws Exception {
+        JsonArchiveStorage storage = new JsonArchiveStorage(testFolder.resolve("archive"));
+        storage.archive("AY2425S1", List.of(ALICE));
+        storage.archive("AY2425S2", List.of(CARL));
+        Path carlArchive = storage.getArchiveFilePath("AY2425S2");
+        carlArchive.toFile().setWritable(true);
+        Files.writeString(carlArchive, "not an archive");
+
+        List<Person> found = new ArrayList<>();
+        storage.search(List.of("alice"), (semester, person) -> found.add(person));
+        assertEquals(List.of(ALICE), found);
+
+        assertThrows(DataLoadingException.class, () -> storage.search(List.of("carl"), (semester, person) -> { }));
+    }
+
+    @Test
+    public void search_noArchives_findsNothing() throws Exception {
+        List<Person> found = new ArrayList<>();
+        new JsonArchiveStorage(testFolder.resolve("missing")).search(List.of("alice"),
+                (semester, person) -> found.add(person));
+        assertTrue(found.isEmpty());
+    }
+}
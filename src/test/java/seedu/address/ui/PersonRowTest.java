@@ -0,0 +1,57 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.AttendanceSheet;
+import seedu.address.model.person.AttendanceStatus;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonRowTest {
+
+    private static final int WEEK = 3;
+
+    private final PersonRow present = rowWithAttendance("Alice", AttendanceStatus.PRESENT);
+    private final PersonRow absent = rowWithAttendance("Benson", AttendanceStatus.ABSENT);
+    private final PersonRow unmarked = new PersonRow(new PersonBuilder().withName("Carl")
+            .withAttendanceSheet(new AttendanceSheet()).build());
+
+    @Test
+    public void compareStatusKeys_ascending_unmarkedLast() {
+        assertEquals(List.of(present, absent, unmarked),
+                sorted(PersonRow.compareStatusKeys(row -> row.getAttendanceKey(WEEK), false)));
+    }
+
+    @Test
+    public void compareStatusKeys_descending_unmarkedLast() {
+        assertEquals(List.of(absent, present, unmarked),
+                sorted(PersonRow.compareStatusKeys(row -> row.getAttendanceKey(WEEK), true)));
+    }
+
+    @Test
+    public void compareStatusKeys_descendingHomework_unassignedLast() {
+        PersonRow assigned = new PersonRow(new PersonBuilder().withName("Alice").withAddedHomework(1).build());
+        PersonRow unassigned = new PersonRow(new PersonBuilder().withName("Benson").build());
+        List<PersonRow> rows = new ArrayList<>(List.of(unassigned, assigned));
+
+        rows.sort(PersonRow.compareStatusKeys(row -> row.getHomeworkKey(1), true));
+        assertEquals(List.of(assigned, unassigned), rows);
+    }
+
+    private List<PersonRow> sorted(Comparator<PersonRow> comparator) {
+        List<PersonRow> rows = new ArrayList<>(List.of(unmarked, absent, present));
+        rows.sort(comparator);
+        return rows;
+    }
+
+    private static PersonRow rowWithAttendance(String name, AttendanceStatus status) {
+        AttendanceSheet attendanceSheet = new AttendanceSheet();
+        attendanceSheet.markAttendance(WEEK, status);
+        return new PersonRow(new PersonBuilder().withName(name).withAttendanceSheet(attendanceSheet).build());
+    }
+}
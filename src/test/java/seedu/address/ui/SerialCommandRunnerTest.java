@@ -0,0 +1,70 @@
+package seedu.address.ui;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.CommandResult;
+
+public class SerialCommandRunnerTest {
+
+    private final List<String> executedCommands = new ArrayList<>();
+    private final List<CompletableFuture<CommandResult>> pendingResults = new ArrayList<>();
+
+    private final SerialCommandRunner runner = new SerialCommandRunner(commandText -> {
+        executedCommands.add(commandText);
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        pendingResults.add(result);
+        return result;
+    });
+
+    @Test
+    public void run_enterPressedTwiceDuringExecution_executesOnce() {
+        assertTrue(runner.run("delete 1").isPresent());
+        assertTrue(runner.isRunning());
+
+        assertFalse(runner.run("delete 1").isPresent());
+        assertEquals(List.of("delete 1"), executedCommands);
+    }
+
+    @Test
+    public void run_previousCommandCompleted_executesNextCommand() {
+        runner.run("delete 1");
+        pendingResults.get(0).complete(new CommandResult("Deleted"));
+        assertFalse(runner.isRunning());
+
+        assertTrue(runner.run("delete 1").isPresent());
+        assertEquals(List.of("delete 1", "delete 1"), executedCommands);
+    }
+
+    @Test
+    public void run_previousCommandFailed_executesNextCommand() {
+        runner.run("delete 1");
+        pendingResults.get(0).completeExceptionally(new IllegalStateException());
+
+        assertTrue(runner.run("list").isPresent());
+        assertEquals(List.of("delete 1", "list"), executedCommands);
+    }
+
+    @Test
+    public void run_resultCompletes_runnerAcceptsCommandsInCallback() {
+        runner.run("delete 1").get().whenComplete((result, error) -> assertFalse(runner.isRunning()));
+        pendingResults.get(0).complete(new CommandResult("Deleted"));
+    }
+
+    @Test
+    public void run_executorThrows_acceptsNextCommand() {
+        SerialCommandRunner throwingRunner = new SerialCommandRunner(commandText -> {
+            throw new IllegalStateException();
+        });
+        assertThrows(IllegalStateException.class, () -> throwingRunner.run("list"));
+        assertFalse(throwingRunner.isRunning());
+    }
+}